@@ -0,0 +1,16 @@
+#version 330 core
+
+in vec4 fColor;
+in vec2 fTexCoords;
+
+uniform sampler2D uTexture;
+uniform int uTextured;
+
+out vec4 color;
+
+void main() {
+    if (uTextured != 0)
+        color = fColor * texture(uTexture, fTexCoords);
+    else
+        color = fColor;
+}
@@ -0,0 +1,20 @@
+#version 330 core
+
+layout (location = 0) in vec2 aPos;
+layout (location = 1) in vec2 aTexCoords;
+
+// per instance
+layout (location = 2) in mat4 aTransform;
+layout (location = 6) in vec4 aColor;
+layout (location = 7) in vec4 aUvRect;
+
+uniform mat4 uProjView;
+
+out vec4 fColor;
+out vec2 fTexCoords;
+
+void main() {
+    fColor = aColor;
+    fTexCoords = mix(aUvRect.xy, aUvRect.zw, aTexCoords);
+    gl_Position = uProjView * aTransform * vec4(aPos, 0.0, 1.0);
+}
@@ -0,0 +1,19 @@
+#version 330 core
+
+layout (location = 0) in vec2 aPos;
+layout (location = 1) in vec4 aColor;
+layout (location = 2) in vec2 aTexCoords;
+layout (location = 3) in float aTexSlot;
+
+uniform mat4 uProjView;
+
+out vec4 fColor;
+out vec2 fTexCoords;
+flat out int fTexSlot;
+
+void main() {
+    fColor = aColor;
+    fTexCoords = aTexCoords;
+    fTexSlot = int(aTexSlot);
+    gl_Position = uProjView * vec4(aPos, 0.0, 1.0);
+}
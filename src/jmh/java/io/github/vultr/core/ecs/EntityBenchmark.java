@@ -0,0 +1,114 @@
+package io.github.vultr.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of moving every entity by its velocity once,
+ * through a world query and through a list of game objects.
+ * Half of the entities also have a sprite, so the query visits two archetypes.
+ * The list is shuffled like objects created and destroyed over time,
+ * so iterating it does not follow the allocation order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    private static final float DELTA = 1 / 60f;
+
+    private static final ComponentType POSITION = ComponentType.floats("BenchmarkPosition", "x", "y");
+    private static final ComponentType VELOCITY = ComponentType.floats("BenchmarkVelocity", "x", "y");
+    private static final ComponentType SPRITE = ComponentType.of("BenchmarkSprite",
+            new String[] { "width", "height", "rotation" }, new String[] { "texture" });
+
+    // the usual object per entity
+    private static class GameObject {
+        private float x;
+        private float y;
+        private float velocityX;
+        private float velocityY;
+        private float width;
+        private float height;
+        private float rotation;
+        private int texture;
+        private String name;
+    }
+
+    @Param({ "100000", "1000000" })
+    private int entities;
+
+    private World world;
+    private Query moving;
+
+    private final List<GameObject> objects = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        world = new World();
+        moving = world.query(POSITION, VELOCITY);
+
+        Random random = new Random(1);
+        for (int i = 0; i < entities; i++) {
+            float velocityX = random.nextFloat() - 0.5f;
+            float velocityY = random.nextFloat() - 0.5f;
+
+            int entity = i % 2 == 0 ? world.create(POSITION, VELOCITY) : world.create(POSITION, VELOCITY, SPRITE);
+            world.setFloat(entity, VELOCITY, 0, velocityX);
+            world.setFloat(entity, VELOCITY, 1, velocityY);
+
+            GameObject object = new GameObject();
+            object.velocityX = velocityX;
+            object.velocityY = velocityY;
+            object.name = "object" + i;
+            objects.add(object);
+        }
+
+        Collections.shuffle(objects, random);
+    }
+
+    @Benchmark
+    public int query() {
+        moving.forEach(archetype -> {
+            float[] x = archetype.getFloats(POSITION, 0);
+            float[] y = archetype.getFloats(POSITION, 1);
+            float[] velocityX = archetype.getFloats(VELOCITY, 0);
+            float[] velocityY = archetype.getFloats(VELOCITY, 1);
+
+            for (int row = 0; row < archetype.getSize(); row++) {
+                x[row] += velocityX[row] * DELTA;
+                y[row] += velocityY[row] * DELTA;
+            }
+        });
+        return moving.count();
+    }
+
+    @Benchmark
+    public int gameObjects() {
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = objects.get(i);
+            object.x += object.velocityX * DELTA;
+            object.y += object.velocityY * DELTA;
+        }
+        return objects.size();
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.github.vultr.core.ecs;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one frame of update systems with 1 to 8 worker threads.
+ * Movement and steering write different components and share a layer,
+ * both split their rows into chunks. One thread runs everything on the calling thread.
+ * The scores only scale up to the amount of cores of the machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    private static final ComponentType POSITION = ComponentType.floats("SchedulerPosition", "x", "y");
+    private static final ComponentType VELOCITY = ComponentType.floats("SchedulerVelocity", "x", "y");
+    private static final ComponentType HEADING = ComponentType.floats("SchedulerHeading", "angle");
+
+    private static class MoveSystem implements UpdateSystem {
+        private final Query query;
+
+        private MoveSystem(World world) {
+            query = world.query(POSITION, VELOCITY);
+        }
+
+        public ComponentType[] getReads() {
+            return new ComponentType[] { VELOCITY };
+        }
+
+        public ComponentType[] getWrites() {
+            return new ComponentType[] { POSITION };
+        }
+
+        public void update(World world, float delta, SystemScheduler scheduler) {
+            scheduler.forEachChunk(query, (archetype, start, end) -> {
+                float[] x = archetype.getFloats(POSITION, 0);
+                float[] y = archetype.getFloats(POSITION, 1);
+                float[] velocityX = archetype.getFloats(VELOCITY, 0);
+                float[] velocityY = archetype.getFloats(VELOCITY, 1);
+
+                for (int row = start; row < end; row++) {
+                    x[row] += velocityX[row] * delta;
+                    y[row] += velocityY[row] * delta;
+                }
+            });
+        }
+    }
+
+    private static class SteerSystem implements UpdateSystem {
+        private final Query query;
+
+        private SteerSystem(World world) {
+            query = world.query(HEADING);
+        }
+
+        public ComponentType[] getWrites() {
+            return new ComponentType[] { HEADING };
+        }
+
+        public void update(World world, float delta, SystemScheduler scheduler) {
+            scheduler.forEachChunk(query, (archetype, start, end) -> {
+                float[] angle = archetype.getFloats(HEADING, 0);
+
+                for (int row = start; row < end; row++) {
+                    angle[row] = (float) Math.atan2(Math.sin(angle[row] + delta), Math.cos(angle[row]));
+                }
+            });
+        }
+    }
+
+    @Param({ "1", "2", "4", "8" })
+    private int threads;
+
+    @Param({ "1000000" })
+    private int entities;
+
+    private ForkJoinPool pool;
+    private World world;
+    private SystemScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        world = new World();
+
+        Random random = new Random(1);
+        for (int i = 0; i < entities; i++) {
+            int entity = world.create(POSITION, VELOCITY, HEADING);
+            world.setFloat(entity, VELOCITY, 0, random.nextFloat() - 0.5f);
+            world.setFloat(entity, VELOCITY, 1, random.nextFloat() - 0.5f);
+            world.setFloat(entity, HEADING, 0, random.nextFloat() * 6.28f);
+        }
+
+        pool = new ForkJoinPool(threads);
+        scheduler = new SystemScheduler(pool)
+                .add(new MoveSystem(world))
+                .add(new SteerSystem(world));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int frame() {
+        scheduler.update(world, 1 / 60f);
+        return world.getEntityCount();
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.vultr.core.physics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jbox2d.collision.shapes.CircleShape;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.collision.shapes.Shape;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.FixtureDef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one physics step with thousands of bodies resting in a pile,
+ * with contact events recorded and handed to a handler.
+ * Sleeping is disabled, so every step solves all contacts like a pile that keeps being disturbed.
+ * The gc profiler of the jmh profile reports the allocation per second and per step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBenchmark {
+
+    private static final int COLUMNS = 50;
+
+    @Param({ "1000", "4000" })
+    private int bodies;
+
+    private PhysicsWorld physics;
+
+    private long contacts;
+
+    @Setup
+    public void setup() {
+        physics = new PhysicsWorld(0, -10).setPixelsPerMeter(32);
+        physics.setContactHandler(event -> contacts++);
+
+        float width = COLUMNS * 1.2f;
+        float height = (bodies / COLUMNS + 1) * 1.2f;
+
+        // floor and walls
+        BodyDef wallDef = new BodyDef();
+        PolygonShape floorShape = new PolygonShape();
+        floorShape.setAsBox(width, 1);
+        physics.addBody(wallDef, fixture(floorShape));
+
+        PolygonShape wallShape = new PolygonShape();
+        wallShape.setAsBox(1, height * 2);
+        wallDef.position.set(-width / 2 - 1, height);
+        physics.addBody(wallDef, fixture(wallShape));
+        wallDef.position.set(width / 2 + 1, height);
+        physics.addBody(wallDef, fixture(wallShape));
+
+        PolygonShape boxShape = new PolygonShape();
+        boxShape.setAsBox(0.4f, 0.4f);
+        CircleShape circleShape = new CircleShape();
+        circleShape.m_radius = 0.45f;
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyType.DYNAMIC;
+        bodyDef.allowSleep = false;
+        for (int i = 0; i < bodies; i++) {
+            bodyDef.position.set(-width / 2 + (i % COLUMNS) * 1.2f + 0.6f, 2 + (i / COLUMNS) * 1.2f);
+            physics.addBody(bodyDef, fixture(i % 2 == 0 ? boxShape : circleShape));
+        }
+
+        // let the pile settle, so every measured step sees about the same contacts
+        for (int i = 0; i < 600; i++) {
+            physics.step();
+        }
+    }
+
+    private static FixtureDef fixture(Shape shape) {
+        FixtureDef fixture = new FixtureDef();
+        fixture.shape = shape;
+        fixture.density = 1;
+        fixture.friction = 0.5f;
+        return fixture;
+    }
+
+    @Benchmark
+    public long step() {
+        physics.step();
+        return contacts;
+    }
+
+}
@@ -0,0 +1,147 @@
+package io.github.vultr.core.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of finding the visible objects of a frame among static objects,
+ * culled through the spatial grid and by testing every object.
+ * The density is constant, so a 1920x1080 view always sees about the same amount of objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CullingBenchmark {
+
+    private static final float VIEW_WIDTH = 1920;
+    private static final float VIEW_HEIGHT = 1080;
+
+    // world area per object
+    private static final float AREA_PER_OBJECT = 64 * 64;
+
+    private static class Sprite implements Renderable {
+        private final float x;
+        private final float y;
+        private int drawn;
+
+        private Sprite(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        public float getWidth() {
+            return 32;
+        }
+
+        public float getHeight() {
+            return 32;
+        }
+
+        public void draw(SpriteBatch batch) {
+            drawn++;
+        }
+    }
+
+    @Param({ "10000", "100000", "1000000" })
+    private int objects;
+
+    private final List<Sprite> sprites = new ArrayList<>();
+
+    private Culler culler;
+
+    private float worldSize;
+
+    // views visited one after another, so every frame looks at a different area
+    private final float[] viewXs = new float[1024];
+    private final float[] viewYs = new float[1024];
+    private int view;
+
+    private float viewX;
+    private float viewY;
+
+    @Setup
+    public void setup() {
+        worldSize = (float) Math.sqrt(objects * AREA_PER_OBJECT);
+        culler = new Culler(new SpatialGrid(0, 0, worldSize, worldSize, 256));
+
+        Random positions = new Random(1);
+        for (int i = 0; i < objects; i++) {
+            Sprite sprite = new Sprite(positions.nextFloat() * worldSize, positions.nextFloat() * worldSize);
+            sprites.add(sprite);
+            culler.add(sprite);
+        }
+
+        Random views = new Random(42);
+        for (int i = 0; i < viewXs.length; i++) {
+            viewXs[i] = views.nextFloat() * (worldSize - VIEW_WIDTH);
+            viewYs[i] = views.nextFloat() * (worldSize - VIEW_HEIGHT);
+        }
+    }
+
+    private void nextView() {
+        view = (view + 1) & (viewXs.length - 1);
+        viewX = viewXs[view];
+        viewY = viewYs[view];
+    }
+
+    @Benchmark
+    public int grid() {
+        nextView();
+        return culler.draw(viewX, viewY, viewX + VIEW_WIDTH, viewY + VIEW_HEIGHT, null);
+    }
+
+    @Benchmark
+    public int gridUnordered() {
+        nextView();
+        culler.preserveOrder(false);
+        try {
+            return culler.draw(viewX, viewY, viewX + VIEW_WIDTH, viewY + VIEW_HEIGHT, null);
+        } finally {
+            culler.preserveOrder(true);
+        }
+    }
+
+    @Benchmark
+    public int testEveryObject() {
+        nextView();
+        float maxX = viewX + VIEW_WIDTH;
+        float maxY = viewY + VIEW_HEIGHT;
+
+        int visible = 0;
+        for (int i = 0; i < sprites.size(); i++) {
+            Sprite sprite = sprites.get(i);
+            if (sprite.x < maxX && sprite.x + sprite.getWidth() > viewX
+                    && sprite.y < maxY && sprite.y + sprite.getHeight() > viewY) {
+                sprite.draw(null);
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+}
@@ -0,0 +1,247 @@
+package io.github.vultr.core.render;
+
+import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL33.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL33.GL_UNSIGNED_INT;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.lwjgl.BufferUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CPU cost of submitting a frame of quads, one draw call per object against one instanced draw.
+ * The backend does nothing, so the driver overhead of every draw call,
+ * which is what instancing mostly saves, is not part of the scores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstancingBenchmark {
+
+    // accepts every call and answers like a driver that has nothing to report
+    private static class NoOpBackend implements GLBackend {
+        private int nextName = 1;
+
+        public void useProgram(int program) {
+        }
+
+        public void activeTexture(int unit) {
+        }
+
+        public void bindTexture(int target, int texture) {
+        }
+
+        public int genBuffer() {
+            return nextName++;
+        }
+
+        public void deleteBuffer(int buffer) {
+        }
+
+        public void bindBuffer(int target, int buffer) {
+        }
+
+        public int genVertexArray() {
+            return nextName++;
+        }
+
+        public void deleteVertexArray(int vertexArray) {
+        }
+
+        public void bindVertexArray(int vertexArray) {
+        }
+
+        public void vertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long offset) {
+        }
+
+        public void enableVertexAttribArray(int index) {
+        }
+
+        public void vertexAttribDivisor(int index, int divisor) {
+        }
+
+        public void bufferData(int target, long size, int usage) {
+        }
+
+        public void bufferData(int target, FloatBuffer data, int usage) {
+        }
+
+        public void bufferData(int target, IntBuffer data, int usage) {
+        }
+
+        public void bufferSubData(int target, long offset, FloatBuffer data) {
+        }
+
+        public void bufferSubData(int target, long offset, ByteBuffer data) {
+        }
+
+        public ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+            return null;
+        }
+
+        public boolean unmapBuffer(int target) {
+            return true;
+        }
+
+        public void texImage2D(int target, int level, int internalFormat, int width, int height,
+                int format, int type, ByteBuffer pixels) {
+        }
+
+        public void texSubImage2D(int target, int level, int x, int y, int width, int height,
+                int format, int type, ByteBuffer pixels) {
+        }
+
+        public void drawElements(int mode, int count, int type, long indices) {
+        }
+
+        public void drawElementsInstanced(int mode, int count, int type, long indices, int instances) {
+        }
+
+        public int genQuery() {
+            return nextName++;
+        }
+
+        public void deleteQuery(int query) {
+        }
+
+        public void beginQuery(int target, int query) {
+        }
+
+        public void endQuery(int target) {
+        }
+
+        public boolean isQueryResultAvailable(int query) {
+            return false;
+        }
+
+        public long getQueryResult(int query) {
+            return 0;
+        }
+
+        public boolean isFenceSyncSupported() {
+            return false;
+        }
+
+        public long fenceSync() {
+            return 0;
+        }
+
+        public int clientWaitSync(long sync, int flags, long timeout) {
+            return 0;
+        }
+
+        public void deleteSync(long sync) {
+        }
+    }
+
+    @Param({ "1000", "10000", "100000" })
+    private int objects;
+
+    private GLBackend previous;
+
+    private float[] xs;
+    private float[] ys;
+    private float[] rotations;
+
+    private InstancedRenderer renderer;
+
+    // one quad of the per object path, position and uv per vertex like the Shader class uploads it
+    private final FloatBuffer quad = BufferUtils.createFloatBuffer(16);
+
+    private int frame;
+
+    @Setup
+    public void setup() {
+        previous = RenderDevice.getBackend();
+        RenderDevice.setBackend(new NoOpBackend());
+
+        xs = new float[objects];
+        ys = new float[objects];
+        rotations = new float[objects];
+
+        Random random = new Random(1);
+        renderer = new InstancedRenderer(objects);
+        for (int i = 0; i < objects; i++) {
+            xs[i] = random.nextFloat() * 1920;
+            ys[i] = random.nextFloat() * 1080;
+            rotations[i] = random.nextFloat() * 6.28f;
+
+            int instance = renderer.getBatch().add();
+            renderer.getBatch().setTransform(instance, xs[i], ys[i], 16, 16, rotations[i]);
+            renderer.getBatch().setColor(instance, 1, 1, 1, 1);
+            renderer.getBatch().setUvRect(instance, 0, 0, 1, 1);
+        }
+        renderer.init();
+        renderer.upload();
+    }
+
+    @TearDown
+    public void tearDown() {
+        renderer.dispose();
+        RenderDevice.setBackend(previous);
+    }
+
+    @Benchmark
+    public int perObject() {
+        for (int i = 0; i < objects; i++) {
+            float cos = (float) Math.cos(rotations[i]) * 16;
+            float sin = (float) Math.sin(rotations[i]) * 16;
+
+            quad.clear();
+            putVertex(i, 0, 0, cos, sin);
+            putVertex(i, 1, 0, cos, sin);
+            putVertex(i, 1, 1, cos, sin);
+            putVertex(i, 0, 1, cos, sin);
+            quad.flip();
+
+            RenderDevice.bufferSubData(GL_ARRAY_BUFFER, 0, quad);
+            RenderDevice.drawElements(GL_TRIANGLES, 6, GL_UNSIGNED_INT, 0);
+        }
+        return objects;
+    }
+
+    private void putVertex(int i, float u, float v, float cos, float sin) {
+        quad.put(xs[i] + u * cos - v * sin).put(ys[i] + u * sin + v * cos).put(u).put(v);
+    }
+
+    @Benchmark
+    public int instancedAllMoving() {
+        InstanceBatch batch = renderer.getBatch();
+        for (int i = 0; i < objects; i++) {
+            batch.setTransform(i, xs[i], ys[i], 16, 16, rotations[i]);
+        }
+        return renderer.drawInstances();
+    }
+
+    @Benchmark
+    public int instancedFewMoving() {
+        // 1% of the instances changed, e.g. animated tiles in a static map
+        InstanceBatch batch = renderer.getBatch();
+        int moving = Math.max(1, objects / 100);
+        int start = (frame++ * moving) % (objects - moving + 1);
+        for (int i = start; i < start + moving; i++) {
+            batch.setTransform(i, xs[i], ys[i], 16, 16, rotations[i]);
+        }
+        return renderer.drawInstances();
+    }
+
+}
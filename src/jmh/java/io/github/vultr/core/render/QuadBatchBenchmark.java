@@ -0,0 +1,97 @@
+package io.github.vultr.core.render;
+
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.lwjgl.BufferUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Quads per millisecond packed by the sprite batch on the CPU,
+ * with and without copying every full batch into a direct buffer like a flush does.
+ * Every invocation submits {@link #QUADS} quads, so the scores are quads/ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadBatchBenchmark {
+
+    private static final int QUADS = 50000;
+
+    private static final int CAPACITY = SpriteBatch.DEFAULT_CAPACITY;
+
+    private final QuadBatch batch = new QuadBatch(CAPACITY);
+
+    private final FloatBuffer vertexBuffer = BufferUtils.createFloatBuffer(CAPACITY * QuadBatch.QUAD_SIZE);
+
+    private final float[] xs = new float[QUADS];
+    private final float[] ys = new float[QUADS];
+    private final int[] textures = new int[QUADS];
+
+    private int flushes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        for (int i = 0; i < QUADS; i++) {
+            xs[i] = random.nextFloat() * 1920;
+            ys[i] = random.nextFloat() * 1080;
+            // as many textures as the batch has slots, so no flush is caused by them
+            textures[i] = 1 + random.nextInt(QuadBatch.MAX_TEXTURE_SLOTS);
+        }
+    }
+
+    private void flush(boolean copy) {
+        if (copy) {
+            vertexBuffer.clear();
+            vertexBuffer.put(batch.getVertices(), 0, batch.getVertexDataLength()).flip();
+        }
+        flushes++;
+        batch.clear();
+    }
+
+    private int submit(boolean textured, boolean copy) {
+        for (int i = 0; i < QUADS; i++) {
+            int texture = textured ? textures[i] : 0;
+            if (!batch.add(xs[i], ys[i], 16, 16, 1, 1, 1, 1, 0, 0, 1, 1, texture)) {
+                flush(copy);
+                batch.add(xs[i], ys[i], 16, 16, 1, 1, 1, 1, 0, 0, 1, 1, texture);
+            }
+        }
+        flush(copy);
+        return flushes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUADS)
+    public int untextured() {
+        return submit(false, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUADS)
+    public int textured() {
+        return submit(true, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUADS)
+    public int texturedAndCopied() {
+        return submit(true, true);
+    }
+
+}
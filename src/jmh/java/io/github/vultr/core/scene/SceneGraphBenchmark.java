@@ -0,0 +1,116 @@
+package io.github.vultr.core.scene;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a frame in which a share of the nodes moved,
+ * updating only the changed subtrees and updating every node.
+ * The graph is a forest of small trees, each a root with 10 children with 9 children each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SceneGraphBenchmark {
+
+    private static final int CHILDREN = 10;
+    private static final int GRANDCHILDREN = 9;
+    private static final int TREE_SIZE = 1 + CHILDREN * (1 + GRANDCHILDREN);
+
+    @Param({ "100000" })
+    private int nodes;
+
+    // share of the nodes moved per frame
+    @Param({ "0.01" })
+    private float dirtyShare;
+
+    private SceneGraph graph;
+
+    private int[] roots;
+    private int[] allNodes;
+
+    // nodes moved by one frame after another, so every frame moves different nodes
+    private int[][] frames;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        graph = new SceneGraph();
+
+        int trees = nodes / TREE_SIZE;
+        roots = new int[trees];
+        allNodes = new int[trees * TREE_SIZE];
+
+        int count = 0;
+        for (int tree = 0; tree < trees; tree++) {
+            int root = graph.create();
+            graph.setPosition(root, tree * 10, 0);
+            roots[tree] = root;
+            allNodes[count++] = root;
+
+            for (int i = 0; i < CHILDREN; i++) {
+                int child = graph.create(root);
+                graph.setPosition(child, i, 1);
+                graph.setRotation(child, i * 0.1f);
+                allNodes[count++] = child;
+
+                for (int j = 0; j < GRANDCHILDREN; j++) {
+                    int grandchild = graph.create(child);
+                    graph.setPosition(grandchild, j, 2);
+                    allNodes[count++] = grandchild;
+                }
+            }
+        }
+        graph.update();
+
+        Random random = new Random(1);
+        frames = new int[64][Math.max(1, (int) (allNodes.length * dirtyShare))];
+        for (int[] moved : frames) {
+            for (int i = 0; i < moved.length; i++) {
+                moved[i] = allNodes[random.nextInt(allNodes.length)];
+            }
+        }
+    }
+
+    private int[] nextFrame() {
+        frame = (frame + 1) & (frames.length - 1);
+        return frames[frame];
+    }
+
+    @Benchmark
+    public int dirtySubtrees() {
+        for (int node : nextFrame()) {
+            graph.translate(node, 0.01f, 0);
+        }
+        return graph.update();
+    }
+
+    @Benchmark
+    public int everyNode() {
+        for (int node : nextFrame()) {
+            graph.translate(node, 0.01f, 0);
+        }
+
+        // marking every root recomputes the whole forest
+        for (int root : roots) {
+            graph.translate(root, 0, 0);
+        }
+        return graph.update();
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.github.vultr.core.text;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of looking up 16384 glyphs in a cache of 256 cells, allocating the missing ones.
+ * The working set of codepoints fits into the cache, is a bit larger or much larger than it,
+ * e.g. text mixing several scripts. Codepoints are drawn with a skew towards the first ones,
+ * like the letters of a language. The share of lookups that missed is printed at the end of every run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlyphCacheBenchmark {
+
+    private static final int LOOKUPS = 16384;
+
+    // starts past the basic latin page, so the lookups use several pages
+    private static final int FIRST_CODEPOINT = 0x400;
+
+    @Param({ "128", "512", "4096" })
+    private int workingSet;
+
+    private final GlyphCache cache = new GlyphCache(16, 16, 32, 32);
+    private int font;
+
+    private final int[] codepoints = new int[LOOKUPS];
+
+    private long lookups;
+    private long misses;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        for (int i = 0; i < LOOKUPS; i++) {
+            // the square of a uniform value prefers the start of the working set
+            double skewed = random.nextDouble() * random.nextDouble();
+            codepoints[i] = FIRST_CODEPOINT + (int) (skewed * workingSet);
+        }
+
+        font = cache.registerFont();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nMisses: %.1f%% of the lookups, %d evictions%n",
+                misses * 100.0 / lookups, cache.getEvictions());
+    }
+
+    @Benchmark
+    public int lookUp() {
+        int sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            int codepoint = codepoints[i];
+
+            int cell = cache.find(font, codepoint);
+            if (cell == GlyphCache.NONE) {
+                cell = cache.allocate(font, codepoint);
+                cache.setGlyph(cell, 0, 0, 16, 16);
+                misses++;
+            }
+            sum += cache.getCellX(cell);
+        }
+
+        lookups += LOOKUPS;
+        return sum;
+    }
+
+}
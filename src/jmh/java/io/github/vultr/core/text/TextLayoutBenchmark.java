@@ -0,0 +1,128 @@
+package io.github.vultr.core.text;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CPU cost of the text of a frame, thousands of short strings like labels, names and numbers.
+ * Every string is laid out and its glyphs are looked up in the glyph cache like Font.draw does,
+ * once from layouts kept between frames and once laid out again every frame.
+ * The metrics are fixed, so no font file or OpenGL is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextLayoutBenchmark {
+
+    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 .,:!?-";
+
+    // every glyph is 10 wide, "AV" and "To" are kerned
+    private static final GlyphMetrics METRICS = new GlyphMetrics() {
+        public float getAdvance(int codepoint) {
+            return 10;
+        }
+
+        public float getKerning(int previous, int codepoint) {
+            if (previous == 'A' && codepoint == 'V')
+                return -3;
+            if (previous == 'T' && codepoint == 'o')
+                return -2;
+            return 0;
+        }
+
+        public float getLineHeight() {
+            return 24;
+        }
+    };
+
+    @Param({ "1000", "5000" })
+    private int strings;
+
+    private String[] texts;
+
+    private TextLayout[] layouts;
+
+    // large enough for every character, so only the lookups are measured
+    private final GlyphCache cache = new GlyphCache(16, 16, 32, 32);
+    private int font;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        texts = new String[strings];
+        layouts = new TextLayout[strings];
+        for (int i = 0; i < strings; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 4 + random.nextInt(29);
+            for (int c = 0; c < length; c++) {
+                text.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+            }
+
+            texts[i] = text.toString();
+            layouts[i] = TextLayout.layout(texts[i], METRICS);
+        }
+
+        font = cache.registerFont();
+    }
+
+    // what Font.draw does for every glyph before it adds the quad
+    private float draw(TextLayout layout) {
+        float sum = 0;
+        for (int i = 0; i < layout.getGlyphCount(); i++) {
+            int codepoint = layout.getCodepoint(i);
+            if (Character.isWhitespace(codepoint)) {
+                continue;
+            }
+
+            int cell = cache.find(font, codepoint);
+            if (cell == GlyphCache.NONE)
+                cell = cache.allocate(font, codepoint);
+
+            sum += layout.getX(i) + layout.getY(i) + cache.getCellX(cell) + cache.getCellY(cell);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float cachedLayouts() {
+        float sum = 0;
+        for (int i = 0; i < layouts.length; i++) {
+            sum += draw(layouts[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float freshLayouts() {
+        float sum = 0;
+        for (int i = 0; i < texts.length; i++) {
+            sum += draw(TextLayout.layout(texts[i], METRICS));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float layoutOnly() {
+        float sum = 0;
+        for (int i = 0; i < texts.length; i++) {
+            sum += TextLayout.layout(texts[i], METRICS).getWidth();
+        }
+        return sum;
+    }
+
+}
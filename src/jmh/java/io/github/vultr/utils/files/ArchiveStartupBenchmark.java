@@ -0,0 +1,121 @@
+package io.github.vultr.utils.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of reading every asset at startup, from loose files and from a packed archive.
+ * The assets are small, half of them text that the packer deflates
+ * and half random bytes that it stores, like compressed images.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArchiveStartupBenchmark {
+
+    private static final String[] WORDS = { "uniform", "vec4", "float", "texture", "sprite", "layer", "color", "void" };
+
+    @Param({ "2000", "5000" })
+    private int assets;
+
+    private Path directory;
+    private Path archiveFile;
+
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("vultr-assets");
+        archiveFile = Files.createTempFile("vultr-assets", ".vultr");
+
+        Random random = new Random(1);
+        for (int i = 0; i < assets; i++) {
+            byte[] data;
+            if (i % 2 == 0) {
+                StringBuilder text = new StringBuilder();
+                int words = 30 + random.nextInt(500);
+                for (int j = 0; j < words; j++) {
+                    text.append(WORDS[random.nextInt(WORDS.length)]).append(j % 8 == 7 ? '\n' : ' ');
+                }
+                data = text.toString().getBytes(StandardCharsets.UTF_8);
+            } else {
+                data = new byte[256 + random.nextInt(4096)];
+                random.nextBytes(data);
+            }
+
+            Path folder = directory.resolve("folder" + (i % 32));
+            Files.createDirectories(folder);
+            Path file = folder.resolve("asset" + i + (i % 2 == 0 ? ".glsl" : ".png"));
+            Files.write(file, data);
+
+            files.add(file);
+            names.add(VultrArchive.normalize(file));
+        }
+
+        ArchivePacker.pack(archiveFile, List.of(directory));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Files.deleteIfExists(archiveFile);
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        long sum = 0;
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            sum += buffer.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long looseFiles() throws IOException {
+        long sum = 0;
+        for (Path file : files) {
+            sum += checksum(ByteBuffer.wrap(Files.readAllBytes(file)));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long archive() throws IOException {
+        // opening is part of startup, so the archive is mapped and indexed every time
+        VultrArchive archive = new VultrArchive(archiveFile.toString());
+
+        long sum = 0;
+        for (String name : names) {
+            sum += checksum(archive.read(name));
+        }
+        return sum;
+    }
+
+}
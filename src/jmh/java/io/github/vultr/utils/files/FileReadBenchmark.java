@@ -0,0 +1,91 @@
+package io.github.vultr.utils.files;
+
+import static org.lwjgl.system.MemoryUtil.memFree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of reading a large asset and touching all of its bytes,
+ * read into a heap array, read into native memory and mapped.
+ * The file is in the page cache after the first iteration, as assets usually are after the first start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileReadBenchmark {
+
+    @Param({ "4", "16", "64" })
+    private int megabytes;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] data = new byte[megabytes << 20];
+        new Random(1).nextBytes(data);
+
+        file = Files.createTempFile("vultr-read", ".bin");
+        Files.write(file, data);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // reads every byte, so lazily mapped pages are paid for too
+    private static long checksum(ByteBuffer buffer) {
+        ByteBuffer longs = buffer.duplicate().order(ByteOrder.nativeOrder());
+        long sum = 0;
+        while (longs.remaining() >= Long.BYTES) {
+            sum += longs.getLong();
+        }
+        while (longs.hasRemaining()) {
+            sum += longs.get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long heap() throws IOException {
+        return checksum(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    @Benchmark
+    public long direct() {
+        ByteBuffer buffer = FileReader.readDirect(file.toString());
+        try {
+            return checksum(buffer);
+        } finally {
+            memFree(buffer);
+        }
+    }
+
+    @Benchmark
+    public long mapped() {
+        return checksum(FileReader.map(file.toString()));
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.github.vultr.utils.render;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost and efficiency of packing random 8 to 64 pixel sprites.
+ * The packer is filled until a sprite does not fit anymore, in the order the sprites come in
+ * and sorted by height. The atlas copies the same sprites into its pages, which needs no OpenGL
+ * as textures are only created on upload.
+ * The occupancy reached is printed at the end of every run, it is the same for every operation
+ * as the sprites do not change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtlasPackingBenchmark {
+
+    private static final int MIN_SIZE = 8;
+    private static final int MAX_SIZE = 64;
+
+    // enough sprites to fill any of the page sizes
+    private static final int SPRITES = 8192;
+
+    @Param({ "512", "1024", "2048" })
+    private int pageSize;
+
+    private int[] widths;
+    private int[] heights;
+
+    private int[] sortedWidths;
+    private int[] sortedHeights;
+
+    private RectPacker packer;
+
+    private final int[] position = new int[2];
+
+    // reached by the last operation
+    private float occupancy;
+    private int pages;
+
+    // a few hundred sprites, like the images of a level
+    private ImageData[] images;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        widths = new int[SPRITES];
+        heights = new int[SPRITES];
+        for (int i = 0; i < SPRITES; i++) {
+            widths[i] = MIN_SIZE + random.nextInt(MAX_SIZE - MIN_SIZE + 1);
+            heights[i] = MIN_SIZE + random.nextInt(MAX_SIZE - MIN_SIZE + 1);
+        }
+
+        Integer[] order = new Integer[SPRITES];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> heights[i]).reversed());
+        sortedWidths = new int[SPRITES];
+        sortedHeights = new int[SPRITES];
+        for (int i = 0; i < SPRITES; i++) {
+            sortedWidths[i] = widths[order[i]];
+            sortedHeights[i] = heights[order[i]];
+        }
+
+        packer = new RectPacker(pageSize, pageSize);
+
+        images = new ImageData[500];
+        for (int i = 0; i < images.length; i++) {
+            images[i] = ImageData.allocate(widths[i], heights[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nOccupancy: %.1f%% of %d page(s) of %dx%d%n", occupancy * 100, pages, pageSize, pageSize);
+
+        for (ImageData image : images) {
+            image.free();
+        }
+    }
+
+    private int fill(int[] widths, int[] heights) {
+        packer.reset();
+        for (int i = 0; i < SPRITES; i++) {
+            if (!packer.pack(widths[i], heights[i], position)) {
+                break;
+            }
+        }
+
+        occupancy = packer.getOccupancy();
+        pages = 1;
+        return packer.getPackedCount();
+    }
+
+    @Benchmark
+    public int packUnsorted() {
+        return fill(widths, heights);
+    }
+
+    @Benchmark
+    public int packSortedByHeight() {
+        return fill(sortedWidths, sortedHeights);
+    }
+
+    @Benchmark
+    public int atlas() {
+        TextureAtlas atlas = new TextureAtlas(pageSize);
+        try {
+            for (int i = 0; i < images.length; i++) {
+                atlas.add(Integer.toString(i), images[i]);
+            }
+
+            occupancy = atlas.getOccupancy();
+            pages = atlas.getPageCount();
+            return atlas.getPageCount();
+        } finally {
+            atlas.dispose();
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.github.vultr.utils.render;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.lwjgl.system.MemoryUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of decoding a png that is already in native memory, the part of loading a texture
+ * that runs on the asset workers. The image is a gradient with some noise, so it compresses
+ * about as well as a sprite sheet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageDecodeBenchmark {
+
+    @Param({ "64", "256", "1024" })
+    private int size;
+
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(1);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int r = x * 255 / size;
+                int g = y * 255 / size;
+                int b = random.nextInt(32);
+                int a = random.nextInt(8) == 0 ? 0 : 255;
+                image.setRGB(x, y, a << 24 | r << 16 | g << 8 | b);
+            }
+        }
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+
+        byte[] bytes = png.toByteArray();
+        encoded = MemoryUtil.memAlloc(bytes.length);
+        encoded.put(bytes).flip();
+    }
+
+    @TearDown
+    public void tearDown() {
+        MemoryUtil.memFree(encoded);
+    }
+
+    @Benchmark
+    public int decode() {
+        ImageData image = ImageData.decode("benchmark.png", encoded);
+        try {
+            return image.getPixels().get(0);
+        } finally {
+            image.free();
+        }
+    }
+
+}
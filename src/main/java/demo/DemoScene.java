@@ -1,29 +1,57 @@
 package demo;
 
+import io.github.vultr.core.render.SpriteBatch;
 import io.github.vultr.core.scene.Scene;
+import io.github.vultr.core.window.Input;
 import io.github.vultr.core.window.Window;
+import io.github.vultr.utils.input.Keys;
 import io.github.vultr.utils.render.Shader;
+import io.github.vultr.utils.render.ShaderCache;
+import io.github.vultr.utils.render.ShaderProgram;
 
 public class DemoScene extends Scene {
 
     Shader shader = new Shader("./assets/shaders/vertex.glsl", "./assets/shaders/fragment.glsl");
 
+    SpriteBatch batch = new SpriteBatch();
+    ShaderProgram spriteProgram;
+
     public DemoScene(Window window) {
         super(window);
     }
 
     @Override
     public void update(float delta) {
+        float speed = 200 * delta;
+
+        // move the camera with the arrow keys
+        if (Input.keyListener.keyState(Keys.KEY_LEFT))
+            getCamera().translate(-speed, 0);
+        if (Input.keyListener.keyState(Keys.KEY_RIGHT))
+            getCamera().translate(speed, 0);
+        if (Input.keyListener.keyState(Keys.KEY_UP))
+            getCamera().translate(0, speed);
+        if (Input.keyListener.keyState(Keys.KEY_DOWN))
+            getCamera().translate(0, -speed);
     }
 
     @Override
     public void draw(float delta) {
         shader.drawShader();
+
+        batch.begin(spriteProgram, getCamera());
+        for (int x = -5; x <= 5; x++) {
+            for (int y = -5; y <= 5; y++) {
+                batch.draw(x * 60 - 25, y * 60 - 25, 50, 50, 0.2f, 0.4f, 0.8f, 0.5f);
+            }
+        }
+        batch.end();
     }
 
     @Override
     public void init() {
         shader.compileShader();
+        spriteProgram = ShaderCache.get("./assets/shaders/sprite_vertex.glsl", "./assets/shaders/sprite_fragment.glsl");
     }
 
 }
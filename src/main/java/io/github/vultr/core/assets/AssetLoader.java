@@ -0,0 +1,47 @@
+package io.github.vultr.core.assets;
+
+/**
+ * Loads an asset in two steps, so the slow part can run in the background.
+ *
+ * @param <D> the decoded data, e.g. pixels or source code
+ * @param <T> the finished asset, e.g. a texture
+ */
+public interface AssetLoader<D, T> {
+
+    /**
+     * Read and decode the asset, runs on a worker thread
+     *
+     * @param path
+     * @return the decoded data
+     * @throws Exception if the asset can not be read or decoded
+     */
+    D decode(String path) throws Exception;
+
+    /**
+     * Create the asset from the decoded data, runs on the render thread
+     *
+     * @param path
+     * @param data
+     * @return the asset
+     */
+    T upload(String path, D data);
+
+    /**
+     * Release decoded data that will not be uploaded
+     *
+     * @param data
+     */
+    default void discard(D data) {
+    }
+
+    /**
+     * Returns the key of a request, requests with the same key share one load while it is running
+     *
+     * @param path
+     * @return the key
+     */
+    default String getKey(String path) {
+        return getClass().getName() + ":" + path;
+    }
+
+}
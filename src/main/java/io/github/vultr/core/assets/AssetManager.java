@@ -0,0 +1,219 @@
+package io.github.vultr.core.assets;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads assets without blocking the frame loop.
+ * Files are decoded on a pool of worker threads, the decoded data is queued
+ * and uploaded on the render thread by {@link #update()}, which the window
+ * calls once per frame and which stops after its time budget is used up.
+ *
+ * The returned futures complete on the render thread after the upload,
+ * so their callbacks can use OpenGL.
+ */
+public class AssetManager {
+
+    public static final long DEFAULT_UPLOAD_BUDGET_NANOS = 2_000_000;
+
+    private static class Upload<D, T> {
+        private final String path;
+        private final AssetLoader<D, T> loader;
+        private final CompletableFuture<T> future;
+        private D data;
+        private Throwable error;
+
+        private Upload(String path, AssetLoader<D, T> loader, CompletableFuture<T> future) {
+            this.path = path;
+            this.loader = loader;
+            this.future = future;
+        }
+
+        private void run() {
+            // cancelled by a shutdown while decoding
+            if (future.isDone()) {
+                discard();
+                return;
+            }
+
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+
+            try {
+                future.complete(loader.upload(path, data));
+            } catch (Throwable t) {
+                loader.discard(data);
+                future.completeExceptionally(t);
+            }
+        }
+
+        private void discard() {
+            if (data != null)
+                loader.discard(data);
+        }
+    }
+
+    private static ExecutorService workers;
+
+    private static final Queue<Upload<?, ?>> uploads = new ConcurrentLinkedQueue<>();
+
+    // requests by key, so an asset is only loaded once at a time
+    private static final Map<String, CompletableFuture<?>> loading = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger requested = new AtomicInteger();
+    private static final AtomicInteger finished = new AtomicInteger();
+    private static final AtomicInteger failed = new AtomicInteger();
+
+    private static volatile long uploadBudgetNanos = DEFAULT_UPLOAD_BUDGET_NANOS;
+
+    /**
+     * Start loading an asset.
+     * Loading the same path with the same loader while it is still loading
+     * returns the running request, see {@link AssetLoader#getKey(String)}.
+     *
+     * @param path
+     * @param loader
+     * @return completes on the render thread with the uploaded asset
+     */
+    @SuppressWarnings("unchecked")
+    public static <D, T> CompletableFuture<T> load(String path, AssetLoader<D, T> loader) {
+        String key = loader.getKey(path);
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<?> running = loading.putIfAbsent(key, future);
+        if (running != null) {
+            return (CompletableFuture<T>) running;
+        }
+
+        requested.incrementAndGet();
+        future.whenComplete((asset, error) -> {
+            loading.remove(key);
+            if (error != null)
+                failed.incrementAndGet();
+            finished.incrementAndGet();
+        });
+
+        Upload<D, T> upload = new Upload<>(path, loader, future);
+        workers().execute(() -> {
+            try {
+                upload.data = loader.decode(path);
+            } catch (Throwable t) {
+                upload.error = t;
+            }
+            uploads.add(upload);
+        });
+
+        return future;
+    }
+
+    /**
+     * Upload decoded assets until the time budget is used up.
+     * At least one asset is uploaded per call, so loading always progresses.
+     * Has to be called on the render thread.
+     */
+    public static void update() {
+        long start = System.nanoTime();
+
+        Upload<?, ?> upload;
+        while ((upload = uploads.poll()) != null) {
+            upload.run();
+
+            if (System.nanoTime() - start >= uploadBudgetNanos) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Set the time the render thread may spend uploading assets per frame
+     *
+     * @param nanos
+     */
+    public static void setUploadBudget(long nanos) {
+        uploadBudgetNanos = nanos;
+    }
+
+    public static long getUploadBudget() {
+        return uploadBudgetNanos;
+    }
+
+    /**
+     * Returns the share of requested assets that finished loading, between 0 and 1
+     */
+    public static float getProgress() {
+        int total = requested.get();
+        return total == 0 ? 1 : (float) finished.get() / total;
+    }
+
+    /**
+     * Returns the amount of assets that are still loading
+     */
+    public static int getPending() {
+        return requested.get() - finished.get();
+    }
+
+    public static int getFailed() {
+        return failed.get();
+    }
+
+    public static boolean isIdle() {
+        return getPending() == 0;
+    }
+
+    /**
+     * Reset the progress counters, e.g. when a new loading screen starts
+     */
+    public static void resetProgress() {
+        int pending = getPending();
+        requested.set(pending);
+        finished.set(0);
+        failed.set(0);
+    }
+
+    /**
+     * Stop the worker threads.
+     * Queued decodes and uploads are dropped and their futures fail with a {@link CancellationException}.
+     */
+    public static synchronized void shutdown() {
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+
+        Upload<?, ?> upload;
+        while ((upload = uploads.poll()) != null) {
+            upload.discard();
+        }
+
+        // nothing would complete the remaining requests anymore
+        CancellationException cancelled = new CancellationException("The asset manager was shut down");
+        for (CompletableFuture<?> future : new ArrayList<>(loading.values())) {
+            future.completeExceptionally(cancelled);
+        }
+    }
+
+    private static synchronized ExecutorService workers() {
+        if (workers == null) {
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            AtomicInteger index = new AtomicInteger();
+
+            workers = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "Vultr-Asset-" + index.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
+    }
+
+}
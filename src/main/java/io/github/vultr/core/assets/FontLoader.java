@@ -0,0 +1,57 @@
+package io.github.vultr.core.assets;
+
+import io.github.vultr.core.text.Font;
+import io.github.vultr.core.text.FontAtlas;
+import io.github.vultr.core.text.FontData;
+
+/**
+ * Reads and parses fonts in the background and creates them at a pixel height on the render thread.
+ * The caller owns the font. The same file at another height or in another atlas is a separate request.
+ */
+public class FontLoader implements AssetLoader<FontData, Font> {
+
+    private final float pixelHeight;
+    private final FontAtlas atlas;
+
+    /**
+     * Load fonts with their own atlas
+     *
+     * @param pixelHeight
+     */
+    public FontLoader(float pixelHeight) {
+        this(pixelHeight, null);
+    }
+
+    /**
+     * Load fonts into a shared atlas
+     *
+     * @param pixelHeight
+     * @param atlas       the atlas to rasterize into, null to create one per font
+     */
+    public FontLoader(float pixelHeight, FontAtlas atlas) {
+        this.pixelHeight = pixelHeight;
+        this.atlas = atlas;
+    }
+
+    @Override
+    public FontData decode(String path) {
+        return FontData.load(path);
+    }
+
+    @Override
+    public Font upload(String path, FontData data) {
+        return new Font(data, pixelHeight, atlas);
+    }
+
+    @Override
+    public void discard(FontData data) {
+        data.free();
+    }
+
+    @Override
+    public String getKey(String path) {
+        String key = AssetLoader.super.getKey(path) + "@" + pixelHeight;
+        return atlas == null ? key : key + ":" + System.identityHashCode(atlas);
+    }
+
+}
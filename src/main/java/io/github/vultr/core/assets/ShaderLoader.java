@@ -0,0 +1,39 @@
+package io.github.vultr.core.assets;
+
+import java.util.Map;
+
+import io.github.vultr.utils.render.ShaderCache;
+import io.github.vultr.utils.render.ShaderPreprocessor;
+import io.github.vultr.utils.render.ShaderProgram;
+
+/**
+ * Reads and preprocesses shader sources in the background and compiles them into the {@link ShaderCache}.
+ * The loaded path is the cache key, the source files are given to the loader.
+ */
+public class ShaderLoader implements AssetLoader<ShaderPreprocessor.Result[], ShaderProgram> {
+
+    private static final ShaderPreprocessor preprocessor = new ShaderPreprocessor();
+
+    private final String vertexFilePath;
+    private final String fragmentFilePath;
+    private final Map<String, String> defines;
+
+    public ShaderLoader(String vertexFilePath, String fragmentFilePath, Map<String, String> defines) {
+        this.vertexFilePath = vertexFilePath;
+        this.fragmentFilePath = fragmentFilePath;
+        this.defines = defines;
+    }
+
+    @Override
+    public ShaderPreprocessor.Result[] decode(String path) {
+        return new ShaderPreprocessor.Result[] {
+                preprocessor.process(vertexFilePath, defines),
+                preprocessor.process(fragmentFilePath, defines) };
+    }
+
+    @Override
+    public ShaderProgram upload(String path, ShaderPreprocessor.Result[] sources) {
+        return ShaderCache.compile(vertexFilePath, fragmentFilePath, defines, sources[0], sources[1]);
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.github.vultr.core.assets;
+
+import io.github.vultr.core.audio.Audio;
+import io.github.vultr.core.audio.Sound;
+import io.github.vultr.core.audio.SoundData;
+import io.github.vultr.core.exceptions.FailedAudioException;
+
+/**
+ * Decodes sounds in the background and uploads them into the sound cache of {@link Audio}
+ */
+public class SoundLoader implements AssetLoader<SoundData, Sound> {
+
+    public static final SoundLoader INSTANCE = new SoundLoader();
+
+    @Override
+    public SoundData decode(String path) {
+        return SoundData.load(path);
+    }
+
+    @Override
+    public Sound upload(String path, SoundData data) {
+        try {
+            if (Audio.getBackend() == null)
+                throw new FailedAudioException("Audio has not been initialized");
+            return Audio.putSound(path, new Sound(Audio.getBackend(), data));
+        } finally {
+            data.free();
+        }
+    }
+
+    @Override
+    public void discard(SoundData data) {
+        data.free();
+    }
+
+}
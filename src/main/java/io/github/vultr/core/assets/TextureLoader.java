@@ -0,0 +1,33 @@
+package io.github.vultr.core.assets;
+
+import io.github.vultr.utils.render.ImageData;
+import io.github.vultr.utils.render.Texture;
+
+/**
+ * Decodes images in the background and uploads them as textures.
+ * The caller owns the texture, use TextureCache.load to share it by path.
+ */
+public class TextureLoader implements AssetLoader<ImageData, Texture> {
+
+    public static final TextureLoader INSTANCE = new TextureLoader();
+
+    @Override
+    public ImageData decode(String path) {
+        return ImageData.load(path);
+    }
+
+    @Override
+    public Texture upload(String path, ImageData data) {
+        try {
+            return new Texture(data);
+        } finally {
+            data.free();
+        }
+    }
+
+    @Override
+    public void discard(ImageData data) {
+        data.free();
+    }
+
+}
@@ -0,0 +1,220 @@
+package io.github.vultr.core.audio;
+
+import static org.lwjgl.openal.ALC10.alcOpenDevice;
+import static org.lwjgl.openal.ALC10.alcCloseDevice;
+import static org.lwjgl.openal.ALC10.alcCreateContext;
+import static org.lwjgl.openal.ALC10.alcDestroyContext;
+import static org.lwjgl.openal.ALC10.alcMakeContextCurrent;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.lwjgl.openal.AL;
+import org.lwjgl.openal.ALC;
+import org.lwjgl.openal.ALCCapabilities;
+
+import io.github.vultr.core.exceptions.FailedAudioException;
+import io.github.vultr.utils.files.VultrArchive;
+import lombok.Getter;
+
+/**
+ * Opens the audio device and plays sounds and music.
+ * Sounds are decoded once and cached by path, music is streamed.
+ */
+public class Audio {
+
+    public static final int DEFAULT_VOICES = 32;
+
+    private static long device;
+    private static long context;
+
+    @Getter
+    private static AudioBackend backend;
+
+    @Getter
+    private static VoicePool voices;
+
+    private static AudioStreamer streamer;
+
+    private static final Map<String, Sound> sounds = new HashMap<>();
+
+    public static void init() {
+        init(DEFAULT_VOICES);
+    }
+
+    /**
+     * Open the default audio device
+     *
+     * @param voiceCount the amount of sounds that can play at the same time
+     */
+    public static void init(int voiceCount) {
+        if (isInitialized()) {
+            return;
+        }
+
+        device = alcOpenDevice((ByteBuffer) null);
+        if (device == NULL)
+            throw new FailedAudioException("Audio error: Failed to open the audio device");
+
+        context = alcCreateContext(device, (IntBuffer) null);
+        if (context == NULL) {
+            alcCloseDevice(device);
+            device = NULL;
+            throw new FailedAudioException("Audio error: Failed to create the audio context");
+        }
+
+        alcMakeContextCurrent(context);
+        ALCCapabilities caps = ALC.createCapabilities(device);
+        AL.createCapabilities(caps);
+
+        init(new OpenALBackend(), voiceCount);
+    }
+
+    /**
+     * Use another backend, e.g. a fake when there is no audio device.
+     * Does nothing if audio is already initialized.
+     */
+    public static void init(AudioBackend audioBackend, int voiceCount) {
+        if (isInitialized()) {
+            return;
+        }
+
+        backend = audioBackend;
+        voices = new VoicePool(backend, voiceCount);
+        streamer = new AudioStreamer();
+        streamer.start();
+    }
+
+    public static boolean isInitialized() {
+        return backend != null;
+    }
+
+    /**
+     * Returns a sound, it is decoded the first time it is requested
+     *
+     * @param filePath
+     * @return the sound
+     */
+    public static Sound getSound(String filePath) {
+        checkInitialized();
+
+        String key = VultrArchive.normalize(filePath);
+
+        Sound sound = sounds.get(key);
+        if (sound == null) {
+            SoundData data = SoundData.load(filePath);
+            try {
+                sound = new Sound(backend, data);
+            } finally {
+                data.free();
+            }
+            sounds.put(key, sound);
+        }
+        return sound;
+    }
+
+    /**
+     * Play a cached sound
+     *
+     * @return the voice or -1 if the sound was dropped
+     */
+    public static int play(String filePath) {
+        checkInitialized();
+        return voices.play(getSound(filePath));
+    }
+
+    public static int play(Sound sound, float gain, float pitch, int priority) {
+        checkInitialized();
+        return voices.play(sound, gain, pitch, priority);
+    }
+
+    /**
+     * Stream a track and start playing it
+     *
+     * @param filePath
+     * @param looping
+     * @return the stream, which should be disposed when it is not needed anymore,
+     *         streams left over are disposed by {@link #destroy()}
+     */
+    public static MusicStream playMusic(String filePath, boolean looping) {
+        checkInitialized();
+        MusicStream stream = new MusicStream(backend, VorbisDecoder.open(filePath), looping);
+        stream.play();
+        streamer.add(stream);
+        return stream;
+    }
+
+    /**
+     * Stop and delete a stream
+     */
+    public static void disposeMusic(MusicStream stream) {
+        streamer.remove(stream);
+        stream.dispose();
+    }
+
+    /**
+     * Free finished voices, called once per frame by the window
+     */
+    public static void update() {
+        if (!isInitialized()) {
+            return;
+        }
+
+        Throwable failure = streamer.getFailure();
+        if (failure != null)
+            throw new FailedAudioException("Audio error: Music streaming failed: " + failure);
+
+        voices.update();
+    }
+
+    /**
+     * Add a sound decoded elsewhere, e.g. by the asset manager
+     *
+     * @return the cached sound, which is the existing one if the path was already loaded
+     */
+    public static Sound putSound(String filePath, Sound sound) {
+        Sound existing = sounds.putIfAbsent(VultrArchive.normalize(filePath), sound);
+        if (existing != null && existing != sound) {
+            sound.dispose();
+            return existing;
+        }
+        return sound;
+    }
+
+    private static void checkInitialized() {
+        if (!isInitialized())
+            throw new IllegalStateException("Audio has not been initialized");
+    }
+
+    /**
+     * Stop everything, dispose the music streams and sounds and close the audio device
+     */
+    public static void destroy() {
+        if (!isInitialized()) {
+            return;
+        }
+
+        streamer.stop();
+        streamer.disposeAll();
+        voices.dispose();
+        for (Sound sound : sounds.values()) {
+            sound.dispose();
+        }
+        sounds.clear();
+        backend = null;
+
+        if (context != NULL) {
+            alcMakeContextCurrent(NULL);
+            alcDestroyContext(context);
+            context = NULL;
+        }
+        if (device != NULL) {
+            alcCloseDevice(device);
+            device = NULL;
+        }
+    }
+
+}
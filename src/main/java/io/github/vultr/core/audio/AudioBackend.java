@@ -0,0 +1,64 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+
+/**
+ * The OpenAL calls used by the audio classes.
+ * Allows replacing the device with a fake when no audio device is available.
+ */
+public interface AudioBackend {
+
+    int STATE_INITIAL = 0;
+    int STATE_PLAYING = 1;
+    int STATE_PAUSED = 2;
+    int STATE_STOPPED = 3;
+
+    int genBuffer();
+
+    void deleteBuffer(int buffer);
+
+    /**
+     * Upload 16 bit interleaved samples from the position to the limit of the buffer
+     */
+    void bufferData(int buffer, int channels, ShortBuffer pcm, int sampleRate);
+
+    int genSource();
+
+    void deleteSource(int source);
+
+    /**
+     * Attach a buffer to a source, 0 detaches all buffers
+     */
+    void setBuffer(int source, int buffer);
+
+    void queueBuffer(int source, int buffer);
+
+    /**
+     * Remove the oldest processed buffer from the queue of a source
+     */
+    int unqueueBuffer(int source);
+
+    int getQueuedBuffers(int source);
+
+    int getProcessedBuffers(int source);
+
+    void setGain(int source, float gain);
+
+    void setPitch(int source, float pitch);
+
+    void setLooping(int source, boolean looping);
+
+    void setPosition(int source, float x, float y, float z);
+
+    void play(int source);
+
+    void pause(int source);
+
+    void stop(int source);
+
+    /**
+     * Returns one of the STATE constants
+     */
+    int getState(int source);
+
+}
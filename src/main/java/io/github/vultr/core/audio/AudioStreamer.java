@@ -0,0 +1,99 @@
+package io.github.vultr.core.audio;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps the buffers of music streams filled on a background thread
+ */
+public class AudioStreamer {
+
+    // a buffer lasts about 170 ms at 48 kHz, so this leaves plenty of headroom
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final List<MusicStream> streams = new CopyOnWriteArrayList<>();
+
+    private Thread thread;
+    private volatile boolean running;
+
+    private volatile Throwable failure;
+
+    public void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::run, "Vultr-Audio-Stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /**
+     * Keep a stream filled until it is removed
+     */
+    public void add(MusicStream stream) {
+        if (!streams.contains(stream))
+            streams.add(stream);
+    }
+
+    public void remove(MusicStream stream) {
+        streams.remove(stream);
+    }
+
+    /**
+     * Dispose and remove all streams, the thread has to be stopped first
+     */
+    public void disposeAll() {
+        for (MusicStream stream : streams) {
+            stream.dispose();
+        }
+        streams.clear();
+    }
+
+    /**
+     * Refill all streams once, used by the thread
+     */
+    public void update() {
+        for (MusicStream stream : streams) {
+            stream.update();
+        }
+    }
+
+    /**
+     * Returns an exception thrown while refilling streams, the thread stops when one occurs
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                update();
+                LockSupport.parkNanos(INTERVAL_NANOS);
+            }
+        } catch (Throwable t) {
+            failure = t;
+            running = false;
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+
+import org.lwjgl.system.MemoryUtil;
+
+/**
+ * Plays a long track on its own source through a small ring of queued buffers.
+ * {@link #update()} refills the buffers the source finished with,
+ * it is called by the {@link AudioStreamer} thread so decoding never runs on the frame loop.
+ */
+public class MusicStream {
+
+    public static final int BUFFER_COUNT = 4;
+    public static final int BUFFER_FRAMES = 8192;
+
+    private final AudioBackend backend;
+    private final PcmDecoder decoder;
+
+    private final int source;
+    private final int[] buffers = new int[BUFFER_COUNT];
+
+    private ShortBuffer pcm;
+
+    private boolean looping;
+
+    private boolean playing;
+    private boolean paused;
+    private boolean ended; // the decoder has no more samples
+
+    private long underruns;
+
+    /**
+     * @param backend
+     * @param decoder is closed when the stream is disposed
+     * @param looping
+     */
+    public MusicStream(AudioBackend backend, PcmDecoder decoder, boolean looping) {
+        this.backend = backend;
+        this.decoder = decoder;
+        this.looping = looping;
+
+        this.source = backend.genSource();
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            buffers[i] = backend.genBuffer();
+        }
+        this.pcm = MemoryUtil.memAllocShort(BUFFER_FRAMES * decoder.getChannels());
+    }
+
+    /**
+     * Start playing from the beginning
+     */
+    public synchronized void play() {
+        stopSource();
+        decoder.rewind();
+        ended = false;
+        paused = false;
+
+        for (int buffer : buffers) {
+            if (!fill(buffer))
+                break;
+            backend.queueBuffer(source, buffer);
+        }
+
+        playing = true;
+        backend.play(source);
+    }
+
+    public synchronized void pause() {
+        if (playing && !paused) {
+            paused = true;
+            backend.pause(source);
+        }
+    }
+
+    public synchronized void resume() {
+        if (playing && paused) {
+            paused = false;
+            backend.play(source);
+        }
+    }
+
+    public synchronized void stop() {
+        stopSource();
+        playing = false;
+        paused = false;
+    }
+
+    /**
+     * Refill and queue the buffers the source has finished playing
+     *
+     * @return true while the stream is playing
+     */
+    public synchronized boolean update() {
+        if (!playing || paused) {
+            return playing;
+        }
+
+        int processed = backend.getProcessedBuffers(source);
+        for (int i = 0; i < processed; i++) {
+            int buffer = backend.unqueueBuffer(source);
+            if (fill(buffer))
+                backend.queueBuffer(source, buffer);
+        }
+
+        int queued = backend.getQueuedBuffers(source);
+        if (queued == 0 && ended) {
+            playing = false;
+            return false;
+        }
+
+        // the source stops when it runs out of buffers before they were refilled
+        if (queued > 0 && backend.getState(source) != AudioBackend.STATE_PLAYING) {
+            underruns++;
+            backend.play(source);
+        }
+
+        return true;
+    }
+
+    public synchronized boolean isPlaying() {
+        return playing;
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    public synchronized void setLooping(boolean looping) {
+        this.looping = looping;
+    }
+
+    public void setGain(float gain) {
+        backend.setGain(source, gain);
+    }
+
+    /**
+     * Returns how often the source ran dry before its buffers were refilled
+     */
+    public synchronized long getUnderruns() {
+        return underruns;
+    }
+
+    /**
+     * Stop the stream and delete its source and buffers
+     */
+    public synchronized void dispose() {
+        if (pcm == null) {
+            return;
+        }
+
+        stop();
+        backend.deleteSource(source);
+        for (int buffer : buffers) {
+            backend.deleteBuffer(buffer);
+        }
+        decoder.close();
+
+        MemoryUtil.memFree(pcm);
+        pcm = null;
+    }
+
+    /**
+     * Decode the next part of the track into a buffer
+     *
+     * @return false if there was nothing left to decode
+     */
+    private boolean fill(int buffer) {
+        if (ended) {
+            return false;
+        }
+
+        pcm.clear();
+        while (pcm.hasRemaining()) {
+            if (decoder.read(pcm) > 0)
+                continue;
+
+            if (!looping) {
+                ended = true;
+                break;
+            }
+            decoder.rewind();
+
+            // an empty track would loop forever
+            if (decoder.read(pcm) == 0) {
+                ended = true;
+                break;
+            }
+        }
+        pcm.flip();
+
+        if (!pcm.hasRemaining()) {
+            return false;
+        }
+
+        backend.bufferData(buffer, decoder.getChannels(), pcm, decoder.getSampleRate());
+        return true;
+    }
+
+    private void stopSource() {
+        backend.stop(source);
+
+        // stopping marks every queued buffer as processed
+        int queued = backend.getQueuedBuffers(source);
+        for (int i = 0; i < queued; i++) {
+            backend.unqueueBuffer(source);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+
+import static org.lwjgl.openal.AL10.alGenBuffers;
+import static org.lwjgl.openal.AL10.alDeleteBuffers;
+import static org.lwjgl.openal.AL10.alBufferData;
+import static org.lwjgl.openal.AL10.alGenSources;
+import static org.lwjgl.openal.AL10.alDeleteSources;
+import static org.lwjgl.openal.AL10.alSourcei;
+import static org.lwjgl.openal.AL10.alSourcef;
+import static org.lwjgl.openal.AL10.alSource3f;
+import static org.lwjgl.openal.AL10.alGetSourcei;
+import static org.lwjgl.openal.AL10.alSourceQueueBuffers;
+import static org.lwjgl.openal.AL10.alSourceUnqueueBuffers;
+import static org.lwjgl.openal.AL10.alSourcePlay;
+import static org.lwjgl.openal.AL10.alSourcePause;
+import static org.lwjgl.openal.AL10.alSourceStop;
+import static org.lwjgl.openal.AL10.AL_BUFFER;
+import static org.lwjgl.openal.AL10.AL_GAIN;
+import static org.lwjgl.openal.AL10.AL_PITCH;
+import static org.lwjgl.openal.AL10.AL_LOOPING;
+import static org.lwjgl.openal.AL10.AL_POSITION;
+import static org.lwjgl.openal.AL10.AL_SOURCE_STATE;
+import static org.lwjgl.openal.AL10.AL_BUFFERS_QUEUED;
+import static org.lwjgl.openal.AL10.AL_BUFFERS_PROCESSED;
+import static org.lwjgl.openal.AL10.AL_PLAYING;
+import static org.lwjgl.openal.AL10.AL_PAUSED;
+import static org.lwjgl.openal.AL10.AL_STOPPED;
+import static org.lwjgl.openal.AL10.AL_TRUE;
+import static org.lwjgl.openal.AL10.AL_FALSE;
+import static org.lwjgl.openal.AL10.AL_FORMAT_MONO16;
+import static org.lwjgl.openal.AL10.AL_FORMAT_STEREO16;
+
+/**
+ * {@link AudioBackend} calling OpenAL through LWJGL
+ */
+public class OpenALBackend implements AudioBackend {
+
+    @Override
+    public int genBuffer() {
+        return alGenBuffers();
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        alDeleteBuffers(buffer);
+    }
+
+    @Override
+    public void bufferData(int buffer, int channels, ShortBuffer pcm, int sampleRate) {
+        alBufferData(buffer, channels == 1 ? AL_FORMAT_MONO16 : AL_FORMAT_STEREO16, pcm, sampleRate);
+    }
+
+    @Override
+    public int genSource() {
+        return alGenSources();
+    }
+
+    @Override
+    public void deleteSource(int source) {
+        alDeleteSources(source);
+    }
+
+    @Override
+    public void setBuffer(int source, int buffer) {
+        alSourcei(source, AL_BUFFER, buffer);
+    }
+
+    @Override
+    public void queueBuffer(int source, int buffer) {
+        alSourceQueueBuffers(source, buffer);
+    }
+
+    @Override
+    public int unqueueBuffer(int source) {
+        return alSourceUnqueueBuffers(source);
+    }
+
+    @Override
+    public int getQueuedBuffers(int source) {
+        return alGetSourcei(source, AL_BUFFERS_QUEUED);
+    }
+
+    @Override
+    public int getProcessedBuffers(int source) {
+        return alGetSourcei(source, AL_BUFFERS_PROCESSED);
+    }
+
+    @Override
+    public void setGain(int source, float gain) {
+        alSourcef(source, AL_GAIN, gain);
+    }
+
+    @Override
+    public void setPitch(int source, float pitch) {
+        alSourcef(source, AL_PITCH, pitch);
+    }
+
+    @Override
+    public void setLooping(int source, boolean looping) {
+        alSourcei(source, AL_LOOPING, looping ? AL_TRUE : AL_FALSE);
+    }
+
+    @Override
+    public void setPosition(int source, float x, float y, float z) {
+        alSource3f(source, AL_POSITION, x, y, z);
+    }
+
+    @Override
+    public void play(int source) {
+        alSourcePlay(source);
+    }
+
+    @Override
+    public void pause(int source) {
+        alSourcePause(source);
+    }
+
+    @Override
+    public void stop(int source) {
+        alSourceStop(source);
+    }
+
+    @Override
+    public int getState(int source) {
+        switch (alGetSourcei(source, AL_SOURCE_STATE)) {
+        case AL_PLAYING:
+            return STATE_PLAYING;
+        case AL_PAUSED:
+            return STATE_PAUSED;
+        case AL_STOPPED:
+            return STATE_STOPPED;
+        default:
+            return STATE_INITIAL;
+        }
+    }
+
+}
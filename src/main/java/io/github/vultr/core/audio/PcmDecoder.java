@@ -0,0 +1,34 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Decodes compressed audio into 16 bit interleaved samples, piece by piece
+ */
+public interface PcmDecoder {
+
+    int getChannels();
+
+    int getSampleRate();
+
+    /**
+     * Returns the length in frames, a frame holds one sample per channel
+     */
+    int getFrames();
+
+    /**
+     * Decode into the buffer from its position and advance the position
+     *
+     * @param dest
+     * @return the amount of decoded frames, 0 at the end
+     */
+    int read(ShortBuffer dest);
+
+    /**
+     * Continue decoding from the start
+     */
+    void rewind();
+
+    void close();
+
+}
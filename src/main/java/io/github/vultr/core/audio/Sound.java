@@ -0,0 +1,40 @@
+package io.github.vultr.core.audio;
+
+import lombok.Getter;
+
+/**
+ * A short sound decoded into one audio buffer, played through the {@link VoicePool}
+ */
+public class Sound {
+
+    private final AudioBackend backend;
+
+    @Getter
+    private int buffer;
+
+    @Getter
+    private final float duration; // in seconds
+
+    public Sound(AudioBackend backend, SoundData data) {
+        this.backend = backend;
+        this.buffer = backend.genBuffer();
+        this.duration = (float) data.getFrames() / data.getSampleRate();
+
+        backend.bufferData(buffer, data.getChannels(), data.getPcm(), data.getSampleRate());
+    }
+
+    public boolean isDisposed() {
+        return buffer == 0;
+    }
+
+    /**
+     * Delete the buffer, voices playing the sound have to be stopped first
+     */
+    public void dispose() {
+        if (buffer != 0) {
+            backend.deleteBuffer(buffer);
+            buffer = 0;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+
+import org.lwjgl.system.MemoryUtil;
+
+import lombok.Getter;
+
+/**
+ * Fully decoded samples of a sound, stored off heap.
+ * Has to be freed once it is uploaded.
+ */
+public class SoundData {
+
+    @Getter
+    private final int channels;
+    @Getter
+    private final int sampleRate;
+
+    private ShortBuffer pcm;
+
+    private SoundData(int channels, int sampleRate, ShortBuffer pcm) {
+        this.channels = channels;
+        this.sampleRate = sampleRate;
+        this.pcm = pcm;
+    }
+
+    /**
+     * Decode everything a decoder provides, the decoder is closed afterwards
+     *
+     * @param decoder
+     * @return the samples
+     */
+    public static SoundData decode(PcmDecoder decoder) {
+        try {
+            int channels = decoder.getChannels();
+            ShortBuffer pcm = MemoryUtil.memAllocShort(decoder.getFrames() * channels);
+
+            while (pcm.hasRemaining() && decoder.read(pcm) > 0) {
+                // read until the buffer is full or the stream ends
+            }
+
+            return new SoundData(channels, decoder.getSampleRate(), pcm.flip());
+        } finally {
+            decoder.close();
+        }
+    }
+
+    public static SoundData load(String filePath) {
+        return decode(VorbisDecoder.open(filePath));
+    }
+
+    public ShortBuffer getPcm() {
+        return pcm;
+    }
+
+    public int getFrames() {
+        return pcm.remaining() / channels;
+    }
+
+    public void free() {
+        if (pcm != null) {
+            MemoryUtil.memFree(pcm);
+            pcm = null;
+        }
+    }
+
+}
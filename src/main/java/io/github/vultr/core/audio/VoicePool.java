@@ -0,0 +1,220 @@
+package io.github.vultr.core.audio;
+
+import lombok.Getter;
+
+/**
+ * A fixed set of sources used to play sounds.
+ * Playing a sound takes a free source, if there is none the voice with the lowest
+ * priority is stopped and reused, the oldest one if several share the priority.
+ * A sound is dropped when every voice has a higher priority.
+ *
+ * Voices are int handles with a generation, so a handle of a finished or stolen voice
+ * does not affect the sound now playing on its source. Playing does not allocate.
+ */
+public class VoicePool {
+
+    public static final int MAX_VOICES = 256;
+
+    private static final int INDEX_BITS = 8;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+    private final AudioBackend backend;
+
+    private final int[] sources;
+    private final int[] generations;
+    private final int[] priorities;
+    private final long[] startOrder;
+    private final boolean[] active;
+
+    private long sequence;
+
+    @Getter
+    private int activeCount;
+
+    @Getter
+    private long stolen; // voices stopped for a sound with a higher priority
+    @Getter
+    private long dropped; // sounds not played because every voice had a higher priority
+
+    /**
+     * Create the sources of the pool
+     *
+     * @param backend
+     * @param size    the amount of sounds that can play at the same time
+     */
+    public VoicePool(AudioBackend backend, int size) {
+        if (size <= 0 || size > MAX_VOICES)
+            throw new IllegalArgumentException("Voice pool size must be between 1 and " + MAX_VOICES);
+
+        this.backend = backend;
+        this.sources = new int[size];
+        this.generations = new int[size];
+        this.priorities = new int[size];
+        this.startOrder = new long[size];
+        this.active = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            sources[i] = backend.genSource();
+        }
+    }
+
+    public int play(Sound sound) {
+        return play(sound, 1, 1, 0);
+    }
+
+    /**
+     * Play a sound on a free or stolen voice
+     *
+     * @param sound
+     * @param gain
+     * @param pitch
+     * @param priority higher priorities steal voices from lower ones
+     * @return the voice or -1 if the sound was dropped
+     */
+    public int play(Sound sound, float gain, float pitch, int priority) {
+        int voice = findFree();
+        if (voice == -1) {
+            reclaimFinished();
+            voice = findFree();
+        }
+        if (voice == -1) {
+            voice = findVictim(priority);
+            if (voice == -1) {
+                dropped++;
+                return -1;
+            }
+            release(voice);
+            stolen++;
+        }
+
+        int source = sources[voice];
+        backend.setBuffer(source, sound.getBuffer());
+        backend.setGain(source, gain);
+        backend.setPitch(source, pitch);
+        backend.setLooping(source, false);
+        backend.play(source);
+
+        active[voice] = true;
+        priorities[voice] = priority;
+        startOrder[voice] = sequence++;
+        activeCount++;
+
+        return (generations[voice] << INDEX_BITS) | voice;
+    }
+
+    /**
+     * Stop a voice, does nothing if it already finished
+     */
+    public void stop(int voice) {
+        int index = resolve(voice);
+        if (index != -1)
+            release(index);
+    }
+
+    /**
+     * Returns true if the sound started by this handle is still playing
+     */
+    public boolean isPlaying(int voice) {
+        return resolve(voice) != -1;
+    }
+
+    public void setGain(int voice, float gain) {
+        int index = resolve(voice);
+        if (index != -1)
+            backend.setGain(sources[index], gain);
+    }
+
+    public void setPitch(int voice, float pitch) {
+        int index = resolve(voice);
+        if (index != -1)
+            backend.setPitch(sources[index], pitch);
+    }
+
+    public void setPosition(int voice, float x, float y, float z) {
+        int index = resolve(voice);
+        if (index != -1)
+            backend.setPosition(sources[index], x, y, z);
+    }
+
+    /**
+     * Free the voices whose sound finished, called once per frame
+     */
+    public void update() {
+        reclaimFinished();
+    }
+
+    public void stopAll() {
+        for (int i = 0; i < sources.length; i++) {
+            if (active[i])
+                release(i);
+        }
+    }
+
+    public int getSize() {
+        return sources.length;
+    }
+
+    /**
+     * Stop all voices and delete the sources
+     */
+    public void dispose() {
+        stopAll();
+        for (int i = 0; i < sources.length; i++) {
+            backend.deleteSource(sources[i]);
+            sources[i] = 0;
+        }
+    }
+
+    private int resolve(int voice) {
+        if (voice < 0) {
+            return -1;
+        }
+
+        int index = voice & INDEX_MASK;
+        if (index >= sources.length || !active[index] || generations[index] != voice >>> INDEX_BITS) {
+            return -1;
+        }
+        return index;
+    }
+
+    private int findFree() {
+        if (activeCount == sources.length) {
+            return -1;
+        }
+
+        for (int i = 0; i < sources.length; i++) {
+            if (!active[i])
+                return i;
+        }
+        return -1;
+    }
+
+    private int findVictim(int priority) {
+        int victim = -1;
+        for (int i = 0; i < sources.length; i++) {
+            if (priorities[i] > priority)
+                continue;
+            if (victim == -1 || priorities[i] < priorities[victim]
+                    || (priorities[i] == priorities[victim] && startOrder[i] < startOrder[victim]))
+                victim = i;
+        }
+        return victim;
+    }
+
+    private void reclaimFinished() {
+        for (int i = 0; i < sources.length; i++) {
+            if (active[i] && backend.getState(sources[i]) == AudioBackend.STATE_STOPPED)
+                release(i);
+        }
+    }
+
+    private void release(int voice) {
+        backend.stop(sources[voice]);
+        backend.setBuffer(sources[voice], 0);
+
+        active[voice] = false;
+        generations[voice] = (generations[voice] + 1) & ((1 << (32 - INDEX_BITS - 1)) - 1);
+        activeCount--;
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.github.vultr.core.audio;
+
+import static org.lwjgl.stb.STBVorbis.stb_vorbis_open_memory;
+import static org.lwjgl.stb.STBVorbis.stb_vorbis_get_info;
+import static org.lwjgl.stb.STBVorbis.stb_vorbis_stream_length_in_samples;
+import static org.lwjgl.stb.STBVorbis.stb_vorbis_get_samples_short_interleaved;
+import static org.lwjgl.stb.STBVorbis.stb_vorbis_seek_start;
+import static org.lwjgl.stb.STBVorbis.stb_vorbis_close;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import org.lwjgl.stb.STBVorbisInfo;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import io.github.vultr.core.exceptions.FailedAudioException;
+import io.github.vultr.utils.files.FileReader;
+import lombok.Getter;
+
+/**
+ * Decodes Ogg Vorbis files with stb_vorbis.
+ * The encoded file stays in memory while the decoder is open.
+ */
+public class VorbisDecoder implements PcmDecoder {
+
+    private final String name;
+
+    private ByteBuffer encoded;
+    private final boolean ownsEncoded;
+
+    private long handle;
+
+    @Getter
+    private final int channels;
+    @Getter
+    private final int sampleRate;
+    @Getter
+    private final int frames;
+
+    /**
+     * Open a decoder for encoded data
+     *
+     * @param name        used in error messages
+     * @param encoded     has to stay valid until the decoder is closed
+     * @param ownsEncoded free the data with MemoryUtil when closing
+     */
+    public VorbisDecoder(String name, ByteBuffer encoded, boolean ownsEncoded) {
+        this.name = name;
+        this.encoded = encoded;
+        this.ownsEncoded = ownsEncoded;
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer error = stack.mallocInt(1);
+            handle = stb_vorbis_open_memory(encoded, error, null);
+            if (handle == 0) {
+                close();
+                throw new FailedAudioException("Audio error: Failed to decode " + name + ", stb_vorbis error " + error.get(0));
+            }
+
+            STBVorbisInfo info = stb_vorbis_get_info(handle, STBVorbisInfo.malloc(stack));
+            channels = info.channels();
+            sampleRate = info.sample_rate();
+            frames = stb_vorbis_stream_length_in_samples(handle);
+        }
+
+        if (channels != 1 && channels != 2) {
+            close();
+            throw new FailedAudioException("Audio error: Only mono and stereo are supported: " + name);
+        }
+    }
+
+    /**
+     * Open a decoder for a file, archived files are read from their archive
+     */
+    public static VorbisDecoder open(String filePath) {
+        return new VorbisDecoder(filePath, FileReader.readDirect(filePath), true);
+    }
+
+    @Override
+    public int read(ShortBuffer dest) {
+        if (handle == 0)
+            throw new IllegalStateException("Decoder of " + name + " is closed");
+
+        int read = stb_vorbis_get_samples_short_interleaved(handle, channels, dest);
+        dest.position(dest.position() + read * channels);
+        return read;
+    }
+
+    @Override
+    public void rewind() {
+        stb_vorbis_seek_start(handle);
+    }
+
+    @Override
+    public void close() {
+        if (handle != 0) {
+            stb_vorbis_close(handle);
+            handle = 0;
+        }
+        if (encoded != null && ownsEncoded)
+            MemoryUtil.memFree(encoded);
+        encoded = null;
+    }
+
+}
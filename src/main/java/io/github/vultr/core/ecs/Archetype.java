@@ -0,0 +1,170 @@
+package io.github.vultr.core.ecs;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * Stores all entities with the same set of components.
+ * Every field of every component is a separate primitive array indexed by row,
+ * rows are kept dense by moving the last row into removed ones.
+ */
+public class Archetype {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Getter
+    private final long mask;
+
+    private final ComponentType[] types;
+
+    // columns by component type id, null for types the archetype does not have
+    private final float[][][] floats = new float[ComponentType.MAX_TYPES][][];
+    private final int[][][] ints = new int[ComponentType.MAX_TYPES][][];
+
+    private int[] entities = new int[INITIAL_CAPACITY];
+
+    @Getter
+    private int size;
+
+    // archetypes reached by adding or removing a type, filled when first needed
+    final Archetype[] addEdges = new Archetype[ComponentType.MAX_TYPES];
+    final Archetype[] removeEdges = new Archetype[ComponentType.MAX_TYPES];
+
+    Archetype(long mask) {
+        this.mask = mask;
+        this.types = new ComponentType[Long.bitCount(mask)];
+
+        int index = 0;
+        for (int id = 0; id < ComponentType.MAX_TYPES; id++) {
+            if ((mask & (1L << id)) == 0)
+                continue;
+
+            ComponentType type = ComponentType.get(id);
+            types[index++] = type;
+
+            floats[id] = new float[type.getFloatCount()][INITIAL_CAPACITY];
+            ints[id] = new int[type.getIntCount()][INITIAL_CAPACITY];
+        }
+    }
+
+    public boolean has(ComponentType type) {
+        return (mask & type.getMask()) != 0;
+    }
+
+    /**
+     * Returns a float field of all rows.
+     * The array can be longer than {@link #getSize()} and is replaced when the archetype grows,
+     * so it should not be kept across structural changes.
+     *
+     * @param type
+     * @param field the index returned by {@link ComponentType#floatField(String)}
+     */
+    public float[] getFloats(ComponentType type, int field) {
+        return column(floats, type)[field];
+    }
+
+    public int[] getInts(ComponentType type, int field) {
+        return column(ints, type)[field];
+    }
+
+    /**
+     * Returns the entity handles by row
+     */
+    public int[] getEntities() {
+        return entities;
+    }
+
+    public int getEntity(int row) {
+        return entities[row];
+    }
+
+    private <T> T column(T[] columns, ComponentType type) {
+        T column = columns[type.getId()];
+        if (column == null)
+            throw new IllegalArgumentException("Archetype has no component " + type);
+        return column;
+    }
+
+    /**
+     * Add a row with zeroed components
+     *
+     * @return the row
+     */
+    int add(int entity) {
+        if (size == entities.length)
+            grow();
+
+        entities[size] = entity;
+        return size++;
+    }
+
+    /**
+     * Remove a row by moving the last row into it
+     *
+     * @return the entity now stored in the row, or -1 if the last row was removed
+     */
+    int remove(int row) {
+        int last = --size;
+
+        for (ComponentType type : types) {
+            int id = type.getId();
+            for (float[] column : floats[id]) {
+                column[row] = column[last];
+                column[last] = 0;
+            }
+            for (int[] column : ints[id]) {
+                column[row] = column[last];
+                column[last] = 0;
+            }
+        }
+
+        if (row == last) {
+            return -1;
+        }
+
+        entities[row] = entities[last];
+        return entities[row];
+    }
+
+    /**
+     * Copy the components both archetypes have from a row into a row of another archetype
+     */
+    void copyTo(int row, Archetype target, int targetRow) {
+        for (ComponentType type : types) {
+            int id = type.getId();
+            if (target.floats[id] == null)
+                continue;
+
+            for (int field = 0; field < floats[id].length; field++) {
+                target.floats[id][field][targetRow] = floats[id][field][row];
+            }
+            for (int field = 0; field < ints[id].length; field++) {
+                target.ints[id][field][targetRow] = ints[id][field][row];
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+
+        for (ComponentType type : types) {
+            int id = type.getId();
+            for (int field = 0; field < floats[id].length; field++) {
+                floats[id][field] = Arrays.copyOf(floats[id][field], capacity);
+            }
+            for (int field = 0; field < ints[id].length; field++) {
+                ints[id][field] = Arrays.copyOf(ints[id][field], capacity);
+            }
+        }
+    }
+
+    /**
+     * Returns the component types of the archetype ordered by id
+     */
+    public ComponentType[] getTypes() {
+        return types.clone();
+    }
+
+}
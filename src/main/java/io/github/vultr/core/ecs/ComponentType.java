@@ -0,0 +1,109 @@
+package io.github.vultr.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Describes the data of a component as named float and int fields.
+ * Every field is stored in its own primitive array per archetype,
+ * so systems iterate dense arrays instead of objects.
+ *
+ * Types are registered globally and should be created once and kept in constants.
+ */
+public final class ComponentType {
+
+    // components of an entity are stored as a bit mask
+    public static final int MAX_TYPES = 64;
+
+    private static final List<ComponentType> types = new ArrayList<>();
+
+    @Getter
+    private final int id;
+    @Getter
+    private final String name;
+
+    private final String[] floatFields;
+    private final String[] intFields;
+
+    private ComponentType(int id, String name, String[] floatFields, String[] intFields) {
+        this.id = id;
+        this.name = name;
+        this.floatFields = floatFields;
+        this.intFields = intFields;
+    }
+
+    /**
+     * Register a component type
+     *
+     * @param name
+     * @param floatFields
+     * @param intFields
+     * @return the type
+     */
+    public static synchronized ComponentType of(String name, String[] floatFields, String[] intFields) {
+        if (types.size() == MAX_TYPES)
+            throw new IllegalStateException("Too many component types, the maximum is " + MAX_TYPES);
+
+        ComponentType type = new ComponentType(types.size(), name, floatFields.clone(), intFields.clone());
+        types.add(type);
+        return type;
+    }
+
+    public static ComponentType floats(String name, String... fields) {
+        return of(name, fields, new String[0]);
+    }
+
+    public static ComponentType ints(String name, String... fields) {
+        return of(name, new String[0], fields);
+    }
+
+    /**
+     * A component without data, used to mark entities
+     */
+    public static ComponentType tag(String name) {
+        return of(name, new String[0], new String[0]);
+    }
+
+    public static synchronized ComponentType get(int id) {
+        return types.get(id);
+    }
+
+    public long getMask() {
+        return 1L << id;
+    }
+
+    public int getFloatCount() {
+        return floatFields.length;
+    }
+
+    public int getIntCount() {
+        return intFields.length;
+    }
+
+    /**
+     * Returns the index of a float field, resolve it once and keep it
+     */
+    public int floatField(String field) {
+        return index(floatFields, field);
+    }
+
+    public int intField(String field) {
+        return index(intFields, field);
+    }
+
+    private int index(String[] fields, String field) {
+        int index = Arrays.asList(fields).indexOf(field);
+        if (index == -1)
+            throw new IllegalArgumentException("Component " + name + " has no field " + field);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.github.vultr.core.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * The archetypes holding all of a set of components.
+ * Queries are kept up to date by their world, so they should be created once and reused.
+ *
+ * Adding or removing entities or components while iterating moves rows around,
+ * structural changes have to wait until the iteration is done.
+ */
+public class Query {
+
+    /**
+     * Called for every archetype matching the query
+     */
+    @FunctionalInterface
+    public interface ArchetypeConsumer {
+        void accept(Archetype archetype);
+    }
+
+    @Getter
+    private final long include;
+    @Getter
+    private final long exclude;
+
+    private final List<Archetype> archetypes = new ArrayList<>();
+
+    Query(long include, long exclude) {
+        this.include = include;
+        this.exclude = exclude;
+    }
+
+    boolean matches(Archetype archetype) {
+        long mask = archetype.getMask();
+        return (mask & include) == include && (mask & exclude) == 0;
+    }
+
+    void add(Archetype archetype) {
+        archetypes.add(archetype);
+    }
+
+    public int getArchetypeCount() {
+        return archetypes.size();
+    }
+
+    public Archetype getArchetype(int index) {
+        return archetypes.get(index);
+    }
+
+    /**
+     * Call the consumer for every matching archetype that has entities
+     */
+    public void forEach(ArchetypeConsumer consumer) {
+        for (int i = 0; i < archetypes.size(); i++) {
+            Archetype archetype = archetypes.get(i);
+            if (archetype.getSize() > 0)
+                consumer.accept(archetype);
+        }
+    }
+
+    /**
+     * Returns the amount of matching entities
+     */
+    public int count() {
+        int count = 0;
+        for (int i = 0; i < archetypes.size(); i++) {
+            count += archetypes.get(i).getSize();
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,251 @@
+package io.github.vultr.core.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import lombok.Getter;
+
+/**
+ * Runs update systems in the order they were added, in parallel where their components allow it.
+ * Systems are grouped into layers, a system is placed in the layer after the last
+ * earlier system it conflicts with. The systems of a layer run at the same time,
+ * layers run one after another, so conflicting systems always see each other
+ * in the order they were added.
+ *
+ * With parallel execution disabled every system and chunk runs on the calling thread
+ * in a fixed order, which is useful for debugging.
+ */
+public class SystemScheduler {
+
+    /**
+     * Processes the rows from start to end of an archetype
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(Archetype archetype, int start, int end);
+    }
+
+    // runs one system of a layer, reused every frame
+    private class SystemTask extends RecursiveAction {
+        private final UpdateSystem system;
+
+        private SystemTask(UpdateSystem system) {
+            this.system = system;
+        }
+
+        @Override
+        protected void compute() {
+            system.update(world, delta, SystemScheduler.this);
+        }
+    }
+
+    // runs the systems of a layer, so a thread outside the pool hands the whole layer over
+    private static class LayerTask extends RecursiveAction {
+        private final SystemTask[] tasks;
+
+        private LayerTask(SystemTask[] tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(tasks);
+        }
+
+        private void reset() {
+            reinitialize();
+            for (SystemTask task : tasks) {
+                task.reinitialize();
+            }
+        }
+    }
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+
+    private final List<UpdateSystem> systems = new ArrayList<>();
+
+    // tasks by layer, rebuilt when systems change
+    private LayerTask[] layers = new LayerTask[0];
+    private boolean layersValid;
+
+    // arguments of the running update, read by the system tasks
+    private World world;
+    private float delta;
+
+    @Getter
+    private boolean parallel = true;
+
+    /**
+     * Run systems on the common pool
+     */
+    public SystemScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SystemScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SystemScheduler add(UpdateSystem system) {
+        systems.add(system);
+        layersValid = false;
+        return this;
+    }
+
+    public boolean remove(UpdateSystem system) {
+        layersValid = false;
+        return systems.remove(system);
+    }
+
+    /**
+     * Run everything on the calling thread in a fixed order if disabled
+     *
+     * @param parallel
+     */
+    public SystemScheduler setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Update all systems
+     *
+     * @param world
+     * @param delta
+     */
+    public void update(World world, float delta) {
+        if (!parallel || pool.getParallelism() == 1) {
+            for (int i = 0; i < systems.size(); i++) {
+                systems.get(i).update(world, delta, this);
+            }
+            return;
+        }
+
+        if (!layersValid)
+            buildLayers();
+
+        this.world = world;
+        this.delta = delta;
+        try {
+            for (LayerTask layer : layers) {
+                if (layer.tasks.length == 1) {
+                    layer.tasks[0].system.update(world, delta, this);
+                    continue;
+                }
+
+                layer.reset();
+                if (ForkJoinTask.inForkJoinPool()) {
+                    ForkJoinTask.invokeAll(layer.tasks);
+                } else {
+                    pool.invoke(layer);
+                }
+            }
+        } finally {
+            this.world = null;
+        }
+    }
+
+    /**
+     * Split the rows of a query into chunks and process them in parallel.
+     * The consumer may only write to the rows it was given.
+     *
+     * @param query
+     * @param chunkSize
+     * @param consumer
+     */
+    public void forEachChunk(Query query, int chunkSize, ChunkConsumer consumer) {
+        if (!parallel || pool.getParallelism() == 1 || query.count() <= chunkSize) {
+            for (int i = 0; i < query.getArchetypeCount(); i++) {
+                Archetype archetype = query.getArchetype(i);
+                if (archetype.getSize() > 0)
+                    consumer.accept(archetype, 0, archetype.getSize());
+            }
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < query.getArchetypeCount(); i++) {
+            Archetype archetype = query.getArchetype(i);
+            int size = archetype.getSize();
+
+            for (int start = 0; start < size; start += chunkSize) {
+                int from = start;
+                int to = Math.min(size, start + chunkSize);
+                tasks.add(ForkJoinTask.adapt(() -> consumer.accept(archetype, from, to)));
+            }
+        }
+        invokeAll(tasks);
+    }
+
+    public void forEachChunk(Query query, ChunkConsumer consumer) {
+        forEachChunk(query, DEFAULT_CHUNK_SIZE, consumer);
+    }
+
+    /**
+     * Returns the amount of layers the systems are grouped into
+     */
+    public int getLayerCount() {
+        if (!layersValid)
+            buildLayers();
+        return layers.length;
+    }
+
+    private void invokeAll(List<ForkJoinTask<?>> tasks) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+    }
+
+    private void buildLayers() {
+        List<List<SystemTask>> layerTasks = new ArrayList<>();
+
+        int[] systemLayers = new int[systems.size()];
+        for (int i = 0; i < systems.size(); i++) {
+            int layer = 0;
+            for (int j = 0; j < i; j++) {
+                if (conflicts(systems.get(i), systems.get(j)))
+                    layer = Math.max(layer, systemLayers[j] + 1);
+            }
+            systemLayers[i] = layer;
+
+            while (layerTasks.size() <= layer) {
+                layerTasks.add(new ArrayList<>());
+            }
+            layerTasks.get(layer).add(new SystemTask(systems.get(i)));
+        }
+
+        layers = new LayerTask[layerTasks.size()];
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = new LayerTask(layerTasks.get(i).toArray(new SystemTask[0]));
+        }
+        layersValid = true;
+    }
+
+    private static boolean conflicts(UpdateSystem a, UpdateSystem b) {
+        if (a.isExclusive() || b.isExclusive()) {
+            return true;
+        }
+
+        long aWrites = mask(a.getWrites());
+        long bWrites = mask(b.getWrites());
+        long aUses = aWrites | mask(a.getReads());
+        long bUses = bWrites | mask(b.getReads());
+        return (aWrites & bUses) != 0 || (bWrites & aUses) != 0;
+    }
+
+    private static long mask(ComponentType[] types) {
+        long mask = 0;
+        for (ComponentType type : types) {
+            mask |= type.getMask();
+        }
+        return mask;
+    }
+
+}
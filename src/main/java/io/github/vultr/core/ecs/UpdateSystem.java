@@ -0,0 +1,35 @@
+package io.github.vultr.core.ecs;
+
+/**
+ * Game logic run by a {@link SystemScheduler}.
+ * Systems declare the components they read and write, systems that do not
+ * write what another one reads or writes may run at the same time.
+ */
+public interface UpdateSystem {
+
+    default ComponentType[] getReads() {
+        return new ComponentType[0];
+    }
+
+    default ComponentType[] getWrites() {
+        return new ComponentType[0];
+    }
+
+    /**
+     * Exclusive systems never run next to other systems.
+     * Systems that create or destroy entities or add or remove components have to be exclusive.
+     */
+    default boolean isExclusive() {
+        return false;
+    }
+
+    /**
+     * Update the system
+     *
+     * @param world
+     * @param delta
+     * @param scheduler used to split large loops with {@link SystemScheduler#forEachChunk}
+     */
+    void update(World world, float delta, SystemScheduler scheduler);
+
+}
@@ -0,0 +1,267 @@
+package io.github.vultr.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Owns entities and their components.
+ * Entities are int handles made of an index and a generation,
+ * so a handle of a destroyed entity is never mistaken for the entity reusing its index.
+ * Not thread safe, structural changes have to be made from one thread.
+ */
+public class World {
+
+    public static final int INDEX_BITS = 22;
+    public static final int MAX_ENTITIES = 1 << INDEX_BITS;
+
+    private static final int INDEX_MASK = MAX_ENTITIES - 1;
+
+    // generations wrap one below the maximum, so no handle is ever -1,
+    // which archetypes use for "no entity"
+    private static final int GENERATION_COUNT = (1 << (32 - INDEX_BITS)) - 1;
+
+    // per entity index
+    private int[] generations = new int[64];
+    private Archetype[] entityArchetypes = new Archetype[64];
+    private int[] rows = new int[64];
+
+    private int entityCount; // indices in use or freed
+    private int aliveCount;
+
+    // freed indices, reused first
+    private int[] freeIndices = new int[64];
+    private int freeCount;
+
+    private final Map<Long, Archetype> archetypesByMask = new HashMap<>();
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final List<Query> queries = new ArrayList<>();
+
+    private final Archetype emptyArchetype;
+
+    public World() {
+        emptyArchetype = archetype(0);
+    }
+
+    /**
+     * Create an entity with zeroed components
+     *
+     * @param types
+     * @return the entity handle
+     */
+    public int create(ComponentType... types) {
+        long mask = 0;
+        for (ComponentType type : types) {
+            mask |= type.getMask();
+        }
+
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[--freeCount];
+        } else {
+            if (entityCount == MAX_ENTITIES)
+                throw new IllegalStateException("Too many entities, the maximum is " + MAX_ENTITIES);
+            if (entityCount == generations.length)
+                growEntities();
+            index = entityCount++;
+        }
+
+        int entity = (generations[index] << INDEX_BITS) | index;
+
+        Archetype archetype = archetype(mask);
+        entityArchetypes[index] = archetype;
+        rows[index] = archetype.add(entity);
+        aliveCount++;
+
+        return entity;
+    }
+
+    /**
+     * Destroy an entity, its handle is invalid afterwards
+     *
+     * @param entity
+     */
+    public void destroy(int entity) {
+        int index = checkAlive(entity);
+
+        removeRow(entityArchetypes[index], rows[index]);
+        entityArchetypes[index] = null;
+        generations[index] = (generations[index] + 1) % GENERATION_COUNT;
+
+        if (freeCount == freeIndices.length)
+            freeIndices = Arrays.copyOf(freeIndices, freeCount * 2);
+        freeIndices[freeCount++] = index;
+        aliveCount--;
+    }
+
+    public boolean isAlive(int entity) {
+        int index = entity & INDEX_MASK;
+        return index < entityCount && entityArchetypes[index] != null
+                && generations[index] == (entity >>> INDEX_BITS);
+    }
+
+    /**
+     * Add a zeroed component to an entity, does nothing if it already has it
+     */
+    public void add(int entity, ComponentType type) {
+        int index = checkAlive(entity);
+        Archetype archetype = entityArchetypes[index];
+        if (archetype.has(type)) {
+            return;
+        }
+
+        Archetype target = archetype.addEdges[type.getId()];
+        if (target == null) {
+            target = archetype(archetype.getMask() | type.getMask());
+            archetype.addEdges[type.getId()] = target;
+        }
+        move(index, target);
+    }
+
+    /**
+     * Remove a component from an entity, does nothing if it does not have it
+     */
+    public void remove(int entity, ComponentType type) {
+        int index = checkAlive(entity);
+        Archetype archetype = entityArchetypes[index];
+        if (!archetype.has(type)) {
+            return;
+        }
+
+        Archetype target = archetype.removeEdges[type.getId()];
+        if (target == null) {
+            target = archetype(archetype.getMask() & ~type.getMask());
+            archetype.removeEdges[type.getId()] = target;
+        }
+        move(index, target);
+    }
+
+    public boolean has(int entity, ComponentType type) {
+        return entityArchetypes[checkAlive(entity)].has(type);
+    }
+
+    // random access, systems should iterate queries instead
+
+    public float getFloat(int entity, ComponentType type, int field) {
+        int index = checkAlive(entity);
+        return entityArchetypes[index].getFloats(type, field)[rows[index]];
+    }
+
+    public void setFloat(int entity, ComponentType type, int field, float value) {
+        int index = checkAlive(entity);
+        entityArchetypes[index].getFloats(type, field)[rows[index]] = value;
+    }
+
+    public int getInt(int entity, ComponentType type, int field) {
+        int index = checkAlive(entity);
+        return entityArchetypes[index].getInts(type, field)[rows[index]];
+    }
+
+    public void setInt(int entity, ComponentType type, int field, int value) {
+        int index = checkAlive(entity);
+        entityArchetypes[index].getInts(type, field)[rows[index]] = value;
+    }
+
+    /**
+     * Returns a query over all entities having the given components
+     */
+    public Query query(ComponentType... include) {
+        return query(include, new ComponentType[0]);
+    }
+
+    /**
+     * Returns a query over all entities having the included components but none of the excluded ones
+     */
+    public Query query(ComponentType[] include, ComponentType[] exclude) {
+        Query query = new Query(mask(include), mask(exclude));
+        for (Archetype archetype : archetypes) {
+            if (query.matches(archetype))
+                query.add(archetype);
+        }
+        queries.add(query);
+        return query;
+    }
+
+    /**
+     * Stop updating a query that is not used anymore
+     */
+    public void removeQuery(Query query) {
+        queries.remove(query);
+    }
+
+    public int getEntityCount() {
+        return aliveCount;
+    }
+
+    public int getArchetypeCount() {
+        return archetypes.size();
+    }
+
+    /**
+     * Destroy all entities, archetypes and queries are kept
+     */
+    public void clear() {
+        for (int index = 0; index < entityCount; index++) {
+            if (entityArchetypes[index] == null)
+                continue;
+            destroy((generations[index] << INDEX_BITS) | index);
+        }
+    }
+
+    private void move(int index, Archetype target) {
+        Archetype source = entityArchetypes[index];
+        int row = rows[index];
+
+        int targetRow = target.add(source.getEntity(row));
+        source.copyTo(row, target, targetRow);
+        removeRow(source, row);
+
+        entityArchetypes[index] = target;
+        rows[index] = targetRow;
+    }
+
+    private void removeRow(Archetype archetype, int row) {
+        int moved = archetype.remove(row);
+        if (moved != -1)
+            rows[moved & INDEX_MASK] = row;
+    }
+
+    private Archetype archetype(long mask) {
+        Archetype archetype = archetypesByMask.get(mask);
+        if (archetype == null) {
+            archetype = new Archetype(mask);
+            archetypesByMask.put(mask, archetype);
+            archetypes.add(archetype);
+
+            for (Query query : queries) {
+                if (query.matches(archetype))
+                    query.add(archetype);
+            }
+        }
+        return archetype;
+    }
+
+    private int checkAlive(int entity) {
+        if (!isAlive(entity))
+            throw new IllegalArgumentException("Entity " + (entity & INDEX_MASK) + " is not alive");
+        return entity & INDEX_MASK;
+    }
+
+    private void growEntities() {
+        int capacity = generations.length * 2;
+        generations = Arrays.copyOf(generations, capacity);
+        entityArchetypes = Arrays.copyOf(entityArchetypes, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+    }
+
+    private static long mask(ComponentType[] types) {
+        long mask = 0;
+        for (ComponentType type : types) {
+            mask |= type.getMask();
+        }
+        return mask;
+    }
+
+}
@@ -0,0 +1,8 @@
+package io.github.vultr.core.exceptions;
+
+public class FailedAudioException extends RuntimeException {
+
+    public FailedAudioException(String message) {
+        super(message);
+    }
+}
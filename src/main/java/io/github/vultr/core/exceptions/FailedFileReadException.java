@@ -0,0 +1,8 @@
+package io.github.vultr.core.exceptions;
+
+public class FailedFileReadException extends RuntimeException {
+
+    public FailedFileReadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
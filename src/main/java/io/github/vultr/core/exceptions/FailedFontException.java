@@ -0,0 +1,8 @@
+package io.github.vultr.core.exceptions;
+
+public class FailedFontException extends RuntimeException {
+
+    public FailedFontException(String message) {
+        super(message);
+    }
+}
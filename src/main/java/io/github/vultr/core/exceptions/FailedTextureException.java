@@ -0,0 +1,8 @@
+package io.github.vultr.core.exceptions;
+
+public class FailedTextureException extends RuntimeException {
+
+    public FailedTextureException(String message) {
+        super(message);
+    }
+}
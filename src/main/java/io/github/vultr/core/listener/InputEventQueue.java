@@ -0,0 +1,126 @@
+package io.github.vultr.core.listener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * Lock free single producer, single consumer ring of input events.
+ * Events are stored in preallocated primitive arrays, so recording an
+ * event from a GLFW callback never allocates.
+ * If the ring is full new events are dropped and counted.
+ */
+public class InputEventQueue {
+
+    public static final int KEY = 0;
+    public static final int MOUSE_BUTTON = 1;
+    public static final int MOUSE_MOVE = 2;
+    public static final int SCROLL = 3;
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Receives the events when draining the queue
+     */
+    public interface Handler {
+        void onEvent(int type, int code, int action, int mods, double x, double y);
+    }
+
+    private final int mask;
+
+    private final int[] types;
+    private final int[] codes;
+    private final int[] actions;
+    private final int[] mods;
+    private final double[] xs;
+    private final double[] ys;
+
+    // written by the producer, read by the consumer
+    private final AtomicLong writeIndex = new AtomicLong();
+    // written by the consumer, read by the producer
+    private final AtomicLong readIndex = new AtomicLong();
+
+    @Getter
+    private volatile long droppedEvents;
+
+    public InputEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity rounded up to the next power of two
+     */
+    public InputEventQueue(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+
+        this.mask = size - 1;
+        this.types = new int[size];
+        this.codes = new int[size];
+        this.actions = new int[size];
+        this.mods = new int[size];
+        this.xs = new double[size];
+        this.ys = new double[size];
+    }
+
+    /**
+     * Record an event, may only be called by the producing thread
+     *
+     * @return false if the queue was full and the event was dropped
+     */
+    public boolean offer(int type, int code, int action, int mods, double x, double y) {
+        long write = writeIndex.get();
+        if (write - readIndex.get() > mask) {
+            droppedEvents++;
+            return false;
+        }
+
+        int slot = (int) (write & mask);
+        types[slot] = type;
+        codes[slot] = code;
+        actions[slot] = action;
+        this.mods[slot] = mods;
+        xs[slot] = x;
+        ys[slot] = y;
+
+        // publish the slot after it was written
+        writeIndex.lazySet(write + 1);
+        return true;
+    }
+
+    /**
+     * Pass all queued events to the handler, may only be called by the consuming thread
+     *
+     * @return the amount of events drained
+     */
+    public int drain(Handler handler) {
+        long read = readIndex.get();
+        long write = writeIndex.get();
+
+        for (long i = read; i < write; i++) {
+            int slot = (int) (i & mask);
+            handler.onEvent(types[slot], codes[slot], actions[slot], mods[slot], xs[slot], ys[slot]);
+        }
+
+        // hand the slots back to the producer
+        readIndex.lazySet(write);
+        return (int) (write - read);
+    }
+
+    public int size() {
+        return (int) (writeIndex.get() - readIndex.get());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+}
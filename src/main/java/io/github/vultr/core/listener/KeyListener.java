@@ -2,19 +2,37 @@ package io.github.vultr.core.listener;
 
 import static org.lwjgl.glfw.GLFW.*;
 
+import java.util.Arrays;
+
 public class KeyListener {
 
+    private static final int KEY_COUNT = GLFW_KEY_LAST + 1;
+
     private static KeyListener instance;
 
-    private boolean keyPressed[] = new boolean[GLFW_KEY_LAST];
-    private boolean keyPressedLast[] = new boolean[GLFW_KEY_LAST];
+    private boolean keyDown[] = new boolean[KEY_COUNT];
+
+    // the frame a key was last pressed or released in,
+    // so starting a frame does not have to touch every key
+    private long keyPressedFrame[] = new long[KEY_COUNT];
+    private long keyReleasedFrame[] = new long[KEY_COUNT];
+
+    private long frame = 1;
+
+    private int keysDown;
+
+    // key events of the current frame
+    private int eventKeys[] = new int[64];
+    private int eventActions[] = new int[64];
+    private int eventMods[] = new int[64];
+    private int eventCount;
 
+    /**
+     * Apply a key event to the listener.
+     * GLFW events are queued by the window and applied when the input is updated.
+     */
     public static void keyCallback(long window, int key, int scancode, int action, int mods) {
-        if (action == GLFW_PRESS) {
-            get().keyPressed[key] = true;
-        } else if (action == GLFW_RELEASE) {
-            get().keyPressed[key] = false;
-        }
+        get().onKey(key, action, mods);
     }
 
     /**
@@ -28,35 +46,95 @@ public class KeyListener {
         return instance;
     }
 
+    private void onKey(int key, int action, int mods) {
+        recordEvent(key, action, mods);
+
+        // unknown keys are reported as -1
+        if (key < 0 || key >= KEY_COUNT) {
+            return;
+        }
+
+        if (action == GLFW_PRESS) {
+            keyPressedFrame[key] = frame;
+            if (!keyDown[key]) {
+                keyDown[key] = true;
+                keysDown++;
+            }
+        } else if (action == GLFW_RELEASE) {
+            keyReleasedFrame[key] = frame;
+            if (keyDown[key]) {
+                keyDown[key] = false;
+                keysDown--;
+            }
+        }
+    }
+
+    private void recordEvent(int key, int action, int mods) {
+        if (eventCount == eventKeys.length) {
+            eventKeys = Arrays.copyOf(eventKeys, eventCount * 2);
+            eventActions = Arrays.copyOf(eventActions, eventCount * 2);
+            eventMods = Arrays.copyOf(eventMods, eventCount * 2);
+        }
+
+        eventKeys[eventCount] = key;
+        eventActions[eventCount] = action;
+        eventMods[eventCount] = mods;
+        eventCount++;
+    }
+
     /**
      * This method is automatically called.
      * When called manually there can be update errors;
      */
     public void update() {
-        for (int i = 32; i < GLFW_KEY_LAST; i++) {
-            keyPressedLast[i] = keyPressed[i];
-        }
+        frame++;
+        eventCount = 0;
     }
 
     public boolean keysPressed() {
-        for (int i = 32; i < GLFW_KEY_LAST; i++) {
-            if (keyState(i)) {
-                return true;
-            }
-        }
-        return false;
+        return keysDown > 0;
     }
 
     public boolean keyState(int key) {
-        return keyPressed[key];
+        return keyDown[key];
     }
 
+    /**
+     * Returns true if the key was pressed this frame,
+     * even if it was released again in the same frame.
+     */
     public boolean keyPressed(int key) {
-        return keyPressed[key] && !keyPressedLast[key];
+        return keyPressedFrame[key] == frame;
     }
 
+    /**
+     * Returns true if the key was released this frame,
+     * even if it was pressed in the same frame.
+     */
     public boolean keyReleased(int key) {
-        return !keyPressed[key] && keyPressedLast[key];
+        return keyReleasedFrame[key] == frame;
+    }
+
+    /**
+     * Returns the amount of key events received this frame
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getEventKey(int index) {
+        return eventKeys[index];
+    }
+
+    /**
+     * Returns GLFW_PRESS, GLFW_RELEASE or GLFW_REPEAT
+     */
+    public int getEventAction(int index) {
+        return eventActions[index];
+    }
+
+    public int getEventMods(int index) {
+        return eventMods[index];
     }
 
 }
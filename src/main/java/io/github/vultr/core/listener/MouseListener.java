@@ -2,11 +2,15 @@ package io.github.vultr.core.listener;
 
 import static org.lwjgl.glfw.GLFW.*;
 
+import java.util.Arrays;
+
 import io.github.vultr.core.window.Window;
 import lombok.Getter;
 
 public class MouseListener {
 
+    private static final int BUTTON_COUNT = GLFW_MOUSE_BUTTON_LAST + 1;
+
     private static MouseListener instance;
 
     @Getter
@@ -14,11 +18,13 @@ public class MouseListener {
     @Getter
     private double y;
 
+    // position at the start of the frame
     @Getter
     private double lastX;
     @Getter
     private double lastY;
 
+    // scrolled amount of the current frame
     @Getter
     private double scrollX;
     @Getter
@@ -27,28 +33,38 @@ public class MouseListener {
     @Getter
     private boolean dragging;
 
-    private boolean buttonPressed[] = new boolean[GLFW_MOUSE_BUTTON_LAST];
-    private boolean buttonPressedLast[] = new boolean[GLFW_MOUSE_BUTTON_LAST];
+    private boolean buttonDown[] = new boolean[BUTTON_COUNT];
+
+    // the frame a button was last pressed or released in
+    private long buttonPressedFrame[] = new long[BUTTON_COUNT];
+    private long buttonReleasedFrame[] = new long[BUTTON_COUNT];
+
+    private long frame = 1;
+
+    private int buttonsDown;
+
+    private int windowHeight;
 
+    // button events of the current frame
+    private int eventButtons[] = new int[16];
+    private int eventActions[] = new int[16];
+    private int eventMods[] = new int[16];
+    private int eventCount;
+
+    /**
+     * Apply a cursor event to the listener.
+     * GLFW events are queued by the window and applied when the input is updated.
+     */
     public static void mousePosCallback(long window, double x, double y) {
-        get().lastX = get().x;
-        get().lastY = get().y;
-        get().x = x;
-        get().y = Window.get().getHeight() - y;
-        get().dragging = get().buttonPressed();
+        get().onMove(x, y);
     }
 
     public static void mouseButtonCallback(long window, int button, int action, int mods) {
-        if (action == GLFW_PRESS) {
-            get().buttonPressed[button] = true;
-        } else if (action == GLFW_RELEASE) {
-            get().buttonPressed[button] = false;
-        }
+        get().onButton(button, action, mods);
     }
 
     public static void mouseScrollCallback(long window, double x, double y) {
-        get().scrollX = x;
-        get().scrollY = y;
+        get().onScroll(x, y);
     }
 
     /**
@@ -62,35 +78,107 @@ public class MouseListener {
         return instance;
     }
 
+    private void onMove(double x, double y) {
+        this.x = x;
+        this.y = windowHeight - y;
+        this.dragging = buttonsDown > 0;
+    }
+
+    private void onButton(int button, int action, int mods) {
+        if (eventCount == eventButtons.length) {
+            eventButtons = Arrays.copyOf(eventButtons, eventCount * 2);
+            eventActions = Arrays.copyOf(eventActions, eventCount * 2);
+            eventMods = Arrays.copyOf(eventMods, eventCount * 2);
+        }
+        eventButtons[eventCount] = button;
+        eventActions[eventCount] = action;
+        eventMods[eventCount] = mods;
+        eventCount++;
+
+        if (button < 0 || button >= BUTTON_COUNT) {
+            return;
+        }
+
+        if (action == GLFW_PRESS) {
+            buttonPressedFrame[button] = frame;
+            if (!buttonDown[button]) {
+                buttonDown[button] = true;
+                buttonsDown++;
+            }
+        } else if (action == GLFW_RELEASE) {
+            buttonReleasedFrame[button] = frame;
+            if (buttonDown[button]) {
+                buttonDown[button] = false;
+                buttonsDown--;
+            }
+        }
+    }
+
+    private void onScroll(double x, double y) {
+        scrollX += x;
+        scrollY += y;
+    }
+
     /**
      * This method is automatically called.
      * When called manually there can be update errors;
      */
     public void update() {
-        for (int i = 0; i < GLFW_MOUSE_BUTTON_LAST; i++) {
-            buttonPressedLast[i] = buttonPressed[i];
-        }
+        frame++;
+        eventCount = 0;
+
+        lastX = x;
+        lastY = y;
+        scrollX = 0;
+        scrollY = 0;
+
+        windowHeight = Window.get().getHeight();
     }
 
     public boolean buttonPressed() {
-        for (int i = 0; i < GLFW_MOUSE_BUTTON_LAST; i++) {
-            if (buttonState(i)) {
-                return true;
-            }
-        }
-        return false;
+        return buttonsDown > 0;
     }
 
     public boolean buttonState(int button) {
-        return buttonPressed[button];
+        return buttonDown[button];
     }
 
+    /**
+     * Returns true if the button was pressed this frame,
+     * even if it was released again in the same frame.
+     */
     public boolean buttonPressed(int button) {
-        return buttonPressed[button] && !buttonPressedLast[button];
+        return buttonPressedFrame[button] == frame;
     }
 
+    /**
+     * Returns true if the button was released this frame,
+     * even if it was pressed in the same frame.
+     */
     public boolean buttonReleased(int button) {
-        return !buttonPressed[button] && buttonPressedLast[button];
+        return buttonReleasedFrame[button] == frame;
+    }
+
+    /**
+     * Returns the amount of button events received this frame
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getEventButton(int index) {
+        return eventButtons[index];
+    }
+
+    /**
+     * Returns GLFW_PRESS or GLFW_RELEASE
+     */
+    public int getEventAction(int index) {
+        return eventActions[index];
+    }
+
+    public int getEventMods(int index) {
+        return eventMods[index];
     }
 
 }
@@ -0,0 +1,45 @@
+package io.github.vultr.core.physics;
+
+import org.jbox2d.dynamics.Fixture;
+
+import lombok.Getter;
+
+/**
+ * A contact that began or ended during a physics step.
+ * Events are pooled by the {@link PhysicsWorld} and only valid until the next step,
+ * END events of removed bodies only while the contact handler runs.
+ */
+public class ContactEvent {
+
+    public enum Type {
+        BEGIN, END
+    }
+
+    @Getter
+    Type type;
+
+    // body slots of the PhysicsWorld
+    @Getter
+    int bodyA;
+    @Getter
+    int bodyB;
+
+    @Getter
+    Fixture fixtureA;
+    @Getter
+    Fixture fixtureB;
+
+    // world space contact normal from A to B and the first contact point, only set for BEGIN
+    @Getter
+    float normalX;
+    @Getter
+    float normalY;
+    @Getter
+    float pointX;
+    @Getter
+    float pointY;
+
+    ContactEvent() {
+    }
+
+}
@@ -0,0 +1,344 @@
+package io.github.vultr.core.physics;
+
+import java.util.Arrays;
+
+import org.jbox2d.callbacks.ContactImpulse;
+import org.jbox2d.callbacks.ContactListener;
+import org.jbox2d.collision.Manifold;
+import org.jbox2d.collision.WorldManifold;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.FixtureDef;
+import org.jbox2d.dynamics.World;
+import org.jbox2d.dynamics.contacts.Contact;
+
+import io.github.vultr.utils.time.FixedTimestep;
+import lombok.Getter;
+
+/**
+ * Steps a jbox2d world at a fixed rate, independent of the frame rate.
+ * Bodies are referenced by int slots. After every step the transforms of all bodies
+ * are copied into one flat array, together with their transforms before the step,
+ * so rendering can interpolate without touching jbox2d objects.
+ *
+ * Contacts are recorded into pooled {@link ContactEvent}s during the step and handed
+ * to the contact handler after it, when bodies can safely be created and destroyed.
+ */
+public class PhysicsWorld {
+
+    /**
+     * Receives the contacts of a step
+     */
+    @FunctionalInterface
+    public interface ContactHandler {
+        void onContact(ContactEvent event);
+    }
+
+    // per body: x, y, angle after the last step, then x, y, angle before it
+    public static final int TRANSFORM_STRIDE = 6;
+    public static final int X = 0;
+    public static final int Y = 1;
+    public static final int ANGLE = 2;
+    public static final int PREVIOUS_X = 3;
+    public static final int PREVIOUS_Y = 4;
+    public static final int PREVIOUS_ANGLE = 5;
+
+    public static final int VELOCITY_ITERATIONS = 8;
+    public static final int POSITION_ITERATIONS = 3;
+
+    @Getter
+    private final World world;
+
+    private final FixedTimestep timestep;
+
+    // multiplies positions when copying them out, jbox2d works best with bodies of about a meter
+    @Getter
+    private float pixelsPerMeter = 1;
+
+    private Body[] bodies = new Body[64];
+    private float[] transforms = new float[64 * TRANSFORM_STRIDE];
+    private int slotCount;
+
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    @Getter
+    private int bodyCount;
+
+    private ContactEvent[] events = new ContactEvent[64];
+    private int eventCount;
+
+    private final WorldManifold manifold = new WorldManifold();
+
+    private ContactHandler contactHandler;
+
+    @Getter
+    private long steps;
+
+    @Getter
+    private long lastStepNanos; // time the last step took
+
+    /**
+     * Create a world stepping 60 times per second
+     */
+    public PhysicsWorld(float gravityX, float gravityY) {
+        this(gravityX, gravityY, new FixedTimestep(60));
+    }
+
+    public PhysicsWorld(float gravityX, float gravityY, FixedTimestep timestep) {
+        this.world = new World(new Vec2(gravityX, gravityY));
+        this.timestep = timestep;
+
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new ContactEvent();
+        }
+
+        world.setContactListener(new ContactListener() {
+            @Override
+            public void beginContact(Contact contact) {
+                record(ContactEvent.Type.BEGIN, contact);
+            }
+
+            @Override
+            public void endContact(Contact contact) {
+                record(ContactEvent.Type.END, contact);
+            }
+
+            @Override
+            public void preSolve(Contact contact, Manifold oldManifold) {
+            }
+
+            @Override
+            public void postSolve(Contact contact, ContactImpulse impulse) {
+            }
+        });
+    }
+
+    public PhysicsWorld setPixelsPerMeter(float pixelsPerMeter) {
+        this.pixelsPerMeter = pixelsPerMeter;
+        return this;
+    }
+
+    public PhysicsWorld setContactHandler(ContactHandler contactHandler) {
+        this.contactHandler = contactHandler;
+        return this;
+    }
+
+    /**
+     * Create a body
+     *
+     * @param definition
+     * @param fixtures
+     * @return the slot of the body
+     */
+    public int addBody(BodyDef definition, FixtureDef... fixtures) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == bodies.length)
+                grow();
+            slot = slotCount++;
+        }
+
+        Body body = world.createBody(definition);
+        for (FixtureDef fixture : fixtures) {
+            body.createFixture(fixture);
+        }
+        body.setUserData(slot);
+
+        bodies[slot] = body;
+        bodyCount++;
+
+        // no previous transform yet, so interpolation starts at the spawn position
+        copyTransform(slot);
+        int offset = slot * TRANSFORM_STRIDE;
+        System.arraycopy(transforms, offset, transforms, offset + PREVIOUS_X, 3);
+
+        return slot;
+    }
+
+    /**
+     * Destroy a body, must not be called during a step.
+     * The contacts of the body end with it, their END events are handed to the
+     * contact handler right away, as the next step would drop them.
+     * The slot of the body is free by then and may already be reused by {@link #addBody}.
+     *
+     * @param slot
+     */
+    public void removeBody(int slot) {
+        Body body = bodies[slot];
+        if (body == null) {
+            return;
+        }
+
+        // keep the events of the last step, the ended contacts are recorded after them
+        int first = eventCount;
+        world.destroyBody(body);
+        bodies[slot] = null;
+        bodyCount--;
+
+        if (freeCount == freeSlots.length)
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+
+        // removals by the handler record and dispatch their events after these
+        if (contactHandler != null) {
+            int last = eventCount;
+            for (int i = first; i < last; i++) {
+                contactHandler.onContact(events[i]);
+            }
+        }
+        eventCount = first;
+    }
+
+    public Body getBody(int slot) {
+        return bodies[slot];
+    }
+
+    /**
+     * Returns the slot of the body a fixture or body belongs to.
+     * For END events dispatched by {@link #removeBody(int)} this is the slot that was just freed.
+     */
+    public static int slotOf(Body body) {
+        return (Integer) body.getUserData();
+    }
+
+    /**
+     * Run as many fixed steps as the passed time requires
+     *
+     * @param delta the time since the last update in seconds
+     * @return the amount of steps run
+     */
+    public int update(float delta) {
+        int count = timestep.advance((long) (delta * 1_000_000_000L));
+        for (int i = 0; i < count; i++) {
+            step();
+        }
+        return count;
+    }
+
+    /**
+     * Run a single step
+     */
+    public void step() {
+        long start = System.nanoTime();
+
+        // the current transforms become the previous ones
+        for (int slot = 0; slot < slotCount; slot++) {
+            int offset = slot * TRANSFORM_STRIDE;
+            transforms[offset + PREVIOUS_X] = transforms[offset + X];
+            transforms[offset + PREVIOUS_Y] = transforms[offset + Y];
+            transforms[offset + PREVIOUS_ANGLE] = transforms[offset + ANGLE];
+        }
+
+        eventCount = 0;
+        world.step(timestep.getStepSeconds(), VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (bodies[slot] != null && bodies[slot].isAwake())
+                copyTransform(slot);
+        }
+
+        steps++;
+        lastStepNanos = System.nanoTime() - start;
+
+        if (contactHandler != null) {
+            for (int i = 0; i < eventCount; i++) {
+                contactHandler.onContact(events[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns how far the simulation is between its last and next step,
+     * used to interpolate the transforms
+     */
+    public float getAlpha() {
+        return timestep.getAlpha();
+    }
+
+    /**
+     * Returns the transforms of all slots, {@link #TRANSFORM_STRIDE} floats per slot.
+     * The array is replaced when the world grows.
+     */
+    public float[] getTransforms() {
+        return transforms;
+    }
+
+    public float getX(int slot, float alpha) {
+        int offset = slot * TRANSFORM_STRIDE;
+        return lerp(transforms[offset + PREVIOUS_X], transforms[offset + X], alpha);
+    }
+
+    public float getY(int slot, float alpha) {
+        int offset = slot * TRANSFORM_STRIDE;
+        return lerp(transforms[offset + PREVIOUS_Y], transforms[offset + Y], alpha);
+    }
+
+    public float getAngle(int slot, float alpha) {
+        int offset = slot * TRANSFORM_STRIDE;
+        return lerp(transforms[offset + PREVIOUS_ANGLE], transforms[offset + ANGLE], alpha);
+    }
+
+    /**
+     * Returns the contacts of the last step
+     */
+    public int getContactEventCount() {
+        return eventCount;
+    }
+
+    public ContactEvent getContactEvent(int index) {
+        return events[index];
+    }
+
+    private void record(ContactEvent.Type type, Contact contact) {
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, eventCount * 2);
+            for (int i = eventCount; i < events.length; i++) {
+                events[i] = new ContactEvent();
+            }
+        }
+
+        ContactEvent event = events[eventCount++];
+        event.type = type;
+        event.fixtureA = contact.getFixtureA();
+        event.fixtureB = contact.getFixtureB();
+        event.bodyA = slotOf(event.fixtureA.getBody());
+        event.bodyB = slotOf(event.fixtureB.getBody());
+
+        if (type == ContactEvent.Type.BEGIN && contact.getManifold().pointCount > 0) {
+            contact.getWorldManifold(manifold);
+            event.normalX = manifold.normal.x;
+            event.normalY = manifold.normal.y;
+            event.pointX = manifold.points[0].x * pixelsPerMeter;
+            event.pointY = manifold.points[0].y * pixelsPerMeter;
+        } else {
+            event.normalX = 0;
+            event.normalY = 0;
+            event.pointX = 0;
+            event.pointY = 0;
+        }
+    }
+
+    private void copyTransform(int slot) {
+        Body body = bodies[slot];
+        Vec2 position = body.getPosition();
+
+        int offset = slot * TRANSFORM_STRIDE;
+        transforms[offset + X] = position.x * pixelsPerMeter;
+        transforms[offset + Y] = position.y * pixelsPerMeter;
+        transforms[offset + ANGLE] = body.getAngle();
+    }
+
+    private void grow() {
+        bodies = Arrays.copyOf(bodies, bodies.length * 2);
+        transforms = Arrays.copyOf(transforms, bodies.length * TRANSFORM_STRIDE);
+    }
+
+    private static float lerp(float from, float to, float alpha) {
+        return from + (to - from) * alpha;
+    }
+
+}
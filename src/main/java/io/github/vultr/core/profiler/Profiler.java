@@ -0,0 +1,380 @@
+package io.github.vultr.core.profiler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Low overhead frame profiler.
+ * Records the time spent in named scopes per frame into preallocated ring buffers.
+ * Recording does not allocate and every call returns immediately while the
+ * profiler is disabled.
+ *
+ * Scopes are registered once with {@link #scope(String)} and can be nested.
+ * Only the thread that started the frame is recorded,
+ * scopes opened on other threads are ignored.
+ */
+public class Profiler {
+
+    public static final int MAX_SCOPES = 64;
+    public static final int MAX_DEPTH = 32;
+
+    public static final int DEFAULT_HISTORY = 300;
+    public static final int DEFAULT_MAX_EVENTS = 1 << 16;
+
+    private static final List<String> scopeNames = new ArrayList<>();
+
+    // built in scopes of the window loop
+    public static final int FRAME = scope("frame");
+    public static final int INPUT = scope("input");
+    public static final int POLL_EVENTS = scope("poll events");
+    public static final int UPDATE = scope("update");
+    public static final int DRAW = scope("draw");
+    public static final int SWAP = scope("swap");
+    public static final int ASSETS = scope("assets");
+
+    private static boolean enabled;
+
+    private static Thread frameThread;
+
+    private static long startTime;
+    private static long frameStart;
+    private static boolean frameOpen;
+
+    // per frame history, scope times are stored as history * MAX_SCOPES
+    private static long[] frameTimes = new long[0];
+    private static long[] scopeTimes = new long[0];
+    private static int historyIndex;
+    private static int historyCount;
+
+    // scope times of the frame in progress
+    private static final long[] currentScopeTimes = new long[MAX_SCOPES];
+
+    private static long[] sortedFrameTimes = new long[0];
+    private static boolean sortedValid;
+
+    // currently open scopes
+    private static final int[] stackScopes = new int[MAX_DEPTH];
+    private static final long[] stackStarts = new long[MAX_DEPTH];
+    private static int depth;
+    private static int skippedDepth; // scopes opened beyond MAX_DEPTH
+
+    // finished scopes for the trace
+    private static int[] eventScopes = new int[0];
+    private static long[] eventStarts = new long[0];
+    private static long[] eventDurations = new long[0];
+    private static int eventIndex;
+    private static int eventCount;
+
+    /**
+     * Enable the profiler with the default buffer sizes
+     */
+    public static void enable() {
+        enable(DEFAULT_HISTORY, DEFAULT_MAX_EVENTS);
+    }
+
+    /**
+     * Enable the profiler
+     *
+     * @param historyFrames the amount of frames used for the statistics
+     * @param maxEvents     the amount of scopes kept for the trace
+     */
+    public static void enable(int historyFrames, int maxEvents) {
+        if (historyFrames <= 0 || maxEvents <= 0)
+            throw new IllegalArgumentException("Profiler buffers must not be empty");
+
+        frameTimes = new long[historyFrames];
+        sortedFrameTimes = new long[historyFrames];
+        scopeTimes = new long[historyFrames * MAX_SCOPES];
+        eventScopes = new int[maxEvents];
+        eventStarts = new long[maxEvents];
+        eventDurations = new long[maxEvents];
+
+        reset();
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clear all recorded frames and events
+     */
+    public static void reset() {
+        startTime = System.nanoTime();
+        historyIndex = 0;
+        historyCount = 0;
+        eventIndex = 0;
+        eventCount = 0;
+        depth = 0;
+        skippedDepth = 0;
+        frameOpen = false;
+        sortedValid = false;
+        Arrays.fill(currentScopeTimes, 0);
+    }
+
+    /**
+     * Register a scope, should be done once and the id kept
+     *
+     * @param name
+     * @return the id of the scope
+     */
+    public static synchronized int scope(String name) {
+        int id = scopeNames.indexOf(name);
+        if (id != -1) {
+            return id;
+        }
+
+        if (scopeNames.size() == MAX_SCOPES)
+            throw new IllegalStateException("Too many profiler scopes, the maximum is " + MAX_SCOPES);
+
+        scopeNames.add(name);
+        return scopeNames.size() - 1;
+    }
+
+    public static String getScopeName(int scope) {
+        return scopeNames.get(scope);
+    }
+
+    public static int getScopeCount() {
+        return scopeNames.size();
+    }
+
+    /**
+     * Start a new frame, called by the window loop
+     */
+    public static void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+
+        if (frameOpen)
+            endFrame();
+
+        frameThread = Thread.currentThread();
+        depth = 0;
+        skippedDepth = 0;
+        frameStart = System.nanoTime();
+        frameOpen = true;
+    }
+
+    /**
+     * Finish the current frame, called by the window loop
+     */
+    public static void endFrame() {
+        if (!enabled || !frameOpen || Thread.currentThread() != frameThread) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long frameTime = now - frameStart;
+
+        // close scopes that were left open
+        skippedDepth = 0;
+        while (depth > 0) {
+            end();
+        }
+
+        currentScopeTimes[FRAME] = frameTime;
+        recordEvent(FRAME, frameStart, frameTime);
+
+        frameTimes[historyIndex] = frameTime;
+        System.arraycopy(currentScopeTimes, 0, scopeTimes, historyIndex * MAX_SCOPES, MAX_SCOPES);
+        Arrays.fill(currentScopeTimes, 0);
+
+        historyIndex = (historyIndex + 1) % frameTimes.length;
+        historyCount = Math.min(historyCount + 1, frameTimes.length);
+        sortedValid = false;
+
+        frameOpen = false;
+    }
+
+    /**
+     * Open a scope
+     *
+     * @param scope the id returned by {@link #scope(String)}
+     */
+    public static void begin(int scope) {
+        if (!enabled || !frameOpen || Thread.currentThread() != frameThread) {
+            return;
+        }
+        if (depth == MAX_DEPTH) {
+            skippedDepth++;
+            return;
+        }
+
+        stackScopes[depth] = scope;
+        stackStarts[depth] = System.nanoTime();
+        depth++;
+    }
+
+    /**
+     * Close the scope opened last
+     */
+    public static void end() {
+        if (!enabled || depth == 0 || Thread.currentThread() != frameThread) {
+            return;
+        }
+        if (skippedDepth > 0) {
+            skippedDepth--;
+            return;
+        }
+
+        depth--;
+        int scope = stackScopes[depth];
+        long start = stackStarts[depth];
+        long duration = System.nanoTime() - start;
+
+        currentScopeTimes[scope] += duration;
+        recordEvent(scope, start, duration);
+    }
+
+    private static void recordEvent(int scope, long start, long duration) {
+        eventScopes[eventIndex] = scope;
+        eventStarts[eventIndex] = start;
+        eventDurations[eventIndex] = duration;
+
+        eventIndex = (eventIndex + 1) % eventScopes.length;
+        eventCount = Math.min(eventCount + 1, eventScopes.length);
+    }
+
+    /**
+     * Returns the amount of frames in the history
+     */
+    public static int getFrameCount() {
+        return historyCount;
+    }
+
+    /**
+     * Returns the time of the last finished frame in nanoseconds
+     */
+    public static long getLastFrameTime() {
+        if (historyCount == 0) {
+            return 0;
+        }
+        return frameTimes[(historyIndex - 1 + frameTimes.length) % frameTimes.length];
+    }
+
+    /**
+     * Returns a percentile of the frame times in the history
+     *
+     * @param percentile between 0 and 100
+     * @return the frame time in nanoseconds
+     */
+    public static long getFrameTimePercentile(double percentile) {
+        if (historyCount == 0) {
+            return 0;
+        }
+
+        if (!sortedValid) {
+            System.arraycopy(frameTimes, 0, sortedFrameTimes, 0, historyCount);
+            Arrays.sort(sortedFrameTimes, 0, historyCount);
+            sortedValid = true;
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * historyCount) - 1;
+        return sortedFrameTimes[Math.max(0, Math.min(historyCount - 1, index))];
+    }
+
+    /**
+     * Returns the average frames per second over the history
+     */
+    public static double getFps() {
+        long total = 0;
+        for (int i = 0; i < historyCount; i++) {
+            total += frameTimes[i];
+        }
+        return total == 0 ? 0 : historyCount * 1_000_000_000.0 / total;
+    }
+
+    /**
+     * Returns the average time per frame spent in a scope
+     *
+     * @param scope
+     * @return the time in nanoseconds
+     */
+    public static long getAverageScopeTime(int scope) {
+        if (historyCount == 0) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int i = 0; i < historyCount; i++) {
+            total += scopeTimes[i * MAX_SCOPES + scope];
+        }
+        return total / historyCount;
+    }
+
+    /**
+     * Write the recorded scopes as a Chrome trace,
+     * which can be opened in chrome://tracing or Perfetto.
+     *
+     * @param file
+     * @throws IOException
+     */
+    public static void writeChromeTrace(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\"traceEvents\":[");
+
+            int first = (eventIndex - eventCount + eventScopes.length) % Math.max(1, eventScopes.length);
+            for (int i = 0; i < eventCount; i++) {
+                int event = (first + i) % eventScopes.length;
+
+                if (i > 0)
+                    writer.write(',');
+                writer.write("\n{\"name\":\"");
+                writer.write(escape(getScopeName(eventScopes[event])));
+                writer.write("\",\"cat\":\"vultr\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":");
+                writer.write(Double.toString((eventStarts[event] - startTime) / 1000.0));
+                writer.write(",\"dur\":");
+                writer.write(Double.toString(eventDurations[event] / 1000.0));
+                writer.write('}');
+            }
+
+            writer.write("\n]}\n");
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                default:
+                    // json does not allow raw control characters in strings
+                    if (c < 0x20)
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    else
+                        escaped.append(c);
+                    break;
+            }
+        }
+        return escaped.toString();
+    }
+
+}
@@ -1,5 +1,202 @@
 package io.github.vultr.core.render;
 
+import org.joml.Matrix4f;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+import io.github.vultr.core.window.Window;
+import lombok.Getter;
+
+/**
+ * Orthographic 2D camera.
+ * The position is the world point shown in the center of the viewport.
+ * The matrices are only recomputed when one of the camera values changed.
+ */
 public class Camera {
 
+    @Getter
+    private float x;
+    @Getter
+    private float y;
+
+    @Getter
+    private float zoom = 1;
+
+    @Getter
+    private float rotation; // in radians
+
+    @Getter
+    private float viewportWidth;
+    @Getter
+    private float viewportHeight;
+
+    private final Matrix4f projection = new Matrix4f();
+    private final Matrix4f view = new Matrix4f();
+    private final Matrix4f viewProjection = new Matrix4f();
+    private final Matrix4f inverseViewProjection = new Matrix4f();
+
+    private final Vector3f temp = new Vector3f();
+
+    private boolean dirty = true;
+
+    public Camera(float viewportWidth, float viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+    }
+
+    public Camera(Window window) {
+        this(window.getWidth(), window.getHeight());
+    }
+
+    public Camera setPosition(float x, float y) {
+        if (this.x != x || this.y != y) {
+            this.x = x;
+            this.y = y;
+            dirty = true;
+        }
+        return this;
+    }
+
+    public Camera translate(float x, float y) {
+        return setPosition(this.x + x, this.y + y);
+    }
+
+    public Camera setZoom(float zoom) {
+        if (!(zoom > 0) || Float.isInfinite(zoom))
+            throw new IllegalArgumentException("Camera zoom must be positive: " + zoom);
+
+        if (this.zoom != zoom) {
+            this.zoom = zoom;
+            dirty = true;
+        }
+        return this;
+    }
+
+    public Camera setRotation(float rotation) {
+        if (this.rotation != rotation) {
+            this.rotation = rotation;
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Set the size of the area the camera renders to in pixels.
+     * Called by the scene when the framebuffer is resized.
+     * Empty sizes, like the framebuffer of a minimized window, are ignored.
+     */
+    public Camera setViewport(float width, float height) {
+        if (!(width > 0) || !(height > 0)) {
+            return this;
+        }
+
+        if (viewportWidth != width || viewportHeight != height) {
+            this.viewportWidth = width;
+            this.viewportHeight = height;
+            dirty = true;
+        }
+        return this;
+    }
+
+    public Matrix4f getProjection() {
+        update();
+        return projection;
+    }
+
+    public Matrix4f getView() {
+        update();
+        return view;
+    }
+
+    /**
+     * Returns the combined projection and view matrix.
+     * The returned matrix is owned by the camera and must not be modified.
+     */
+    public Matrix4f getViewProjection() {
+        update();
+        return viewProjection;
+    }
+
+    public Matrix4f getInverseViewProjection() {
+        update();
+        return inverseViewProjection;
+    }
+
+    /**
+     * Converts a point in screen space into world space.
+     * Screen space starts at the bottom left, as reported by the MouseListener.
+     *
+     * @param screenX
+     * @param screenY
+     * @param dest will hold the world position
+     * @return dest
+     */
+    public Vector2f screenToWorld(float screenX, float screenY, Vector2f dest) {
+        update();
+
+        float ndcX = screenX / viewportWidth * 2 - 1;
+        float ndcY = screenY / viewportHeight * 2 - 1;
+
+        inverseViewProjection.transformPosition(ndcX, ndcY, 0, temp);
+        return dest.set(temp.x, temp.y);
+    }
+
+    /**
+     * Converts a point in world space into screen space.
+     *
+     * @param worldX
+     * @param worldY
+     * @param dest will hold the screen position
+     * @return dest
+     */
+    public Vector2f worldToScreen(float worldX, float worldY, Vector2f dest) {
+        update();
+
+        viewProjection.transformPosition(worldX, worldY, 0, temp);
+        return dest.set((temp.x + 1) * 0.5f * viewportWidth, (temp.y + 1) * 0.5f * viewportHeight);
+    }
+
+    /**
+     * Returns the world space rectangle visible through the camera.
+     * With rotation this is the bounding box of the rotated view.
+     *
+     * @param dest will hold min x, min y, max x and max y
+     * @return dest
+     */
+    public Vector4f getVisibleBounds(Vector4f dest) {
+        update();
+
+        dest.set(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY);
+        for (int corner = 0; corner < 4; corner++) {
+            float ndcX = (corner & 1) == 0 ? -1 : 1;
+            float ndcY = (corner & 2) == 0 ? -1 : 1;
+
+            inverseViewProjection.transformPosition(ndcX, ndcY, 0, temp);
+            dest.x = Math.min(dest.x, temp.x);
+            dest.y = Math.min(dest.y, temp.y);
+            dest.z = Math.max(dest.z, temp.x);
+            dest.w = Math.max(dest.w, temp.y);
+        }
+
+        return dest;
+    }
+
+    private void update() {
+        if (!dirty) {
+            return;
+        }
+
+        float halfWidth = viewportWidth * 0.5f / zoom;
+        float halfHeight = viewportHeight * 0.5f / zoom;
+
+        projection.setOrtho2D(-halfWidth, halfWidth, -halfHeight, halfHeight);
+        view.rotationZ(-rotation).translate(-x, -y, 0);
+
+        projection.mulOrthoAffine(view, viewProjection);
+        viewProjection.invertAffine(inverseViewProjection);
+
+        dirty = false;
+    }
+
 }
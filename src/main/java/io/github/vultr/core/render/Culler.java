@@ -0,0 +1,141 @@
+package io.github.vultr.core.render;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.joml.Vector4f;
+
+import lombok.Getter;
+
+/**
+ * Only submits the renderables overlapping the visible area to a sprite batch.
+ * Renderables are indexed in a {@link SpatialGrid}, so the cost of a frame
+ * depends on the visible objects rather than on all objects of the scene.
+ */
+public class Culler {
+
+    private final SpatialGrid grid;
+
+    private final List<Renderable> renderables = new ArrayList<>();
+
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+
+    private final Vector4f visibleBounds = new Vector4f();
+
+    /**
+     * Sort the visible renderables by id, so they are drawn in the order they were added
+     */
+    @Getter
+    private boolean preserveOrder = true;
+
+    @Getter
+    private int submitted; // renderables drawn in the last frame
+    @Getter
+    private int culled; // renderables skipped in the last frame
+
+    public Culler(SpatialGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Add a renderable
+     *
+     * @param renderable
+     * @return the id of the renderable
+     */
+    public int add(Renderable renderable) {
+        int id;
+        if (freeIdCount > 0) {
+            id = freeIds[--freeIdCount];
+            renderables.set(id, renderable);
+        } else {
+            id = renderables.size();
+            renderables.add(renderable);
+        }
+
+        grid.insert(id, renderable.getX(), renderable.getY(), renderable.getWidth(), renderable.getHeight());
+        return id;
+    }
+
+    /**
+     * Remove a renderable
+     *
+     * @param id
+     */
+    public void remove(int id) {
+        if (!grid.contains(id)) {
+            return;
+        }
+
+        grid.remove(id);
+        renderables.set(id, null);
+
+        if (freeIdCount == freeIds.length)
+            freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+        freeIds[freeIdCount++] = id;
+    }
+
+    /**
+     * Has to be called after a renderable changed its bounds.
+     * Ids that were removed or never added are ignored.
+     *
+     * @param id
+     */
+    public void moved(int id) {
+        if (!grid.contains(id)) {
+            return;
+        }
+
+        Renderable renderable = renderables.get(id);
+        grid.update(id, renderable.getX(), renderable.getY(), renderable.getWidth(), renderable.getHeight());
+    }
+
+    public Renderable get(int id) {
+        return renderables.get(id);
+    }
+
+    public int size() {
+        return grid.getSize();
+    }
+
+    public Culler preserveOrder(boolean preserveOrder) {
+        this.preserveOrder = preserveOrder;
+        return this;
+    }
+
+    /**
+     * Draw the renderables visible through a camera
+     *
+     * @param camera
+     * @param batch
+     * @return the amount of renderables drawn
+     */
+    public int draw(Camera camera, SpriteBatch batch) {
+        camera.getVisibleBounds(visibleBounds);
+        return draw(visibleBounds.x, visibleBounds.y, visibleBounds.z, visibleBounds.w, batch);
+    }
+
+    /**
+     * Draw the renderables overlapping a world space rectangle
+     *
+     * @return the amount of renderables drawn
+     */
+    public int draw(float minX, float minY, float maxX, float maxY, SpriteBatch batch) {
+        int count = grid.query(minX, minY, maxX, maxY);
+        int[] ids = grid.getResults();
+
+        if (preserveOrder)
+            Arrays.sort(ids, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            renderables.get(ids[i]).draw(batch);
+        }
+
+        submitted = count;
+        culled = grid.getSize() - count;
+        return count;
+    }
+
+}
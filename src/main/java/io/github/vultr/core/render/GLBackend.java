@@ -0,0 +1,93 @@
+package io.github.vultr.core.render;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * The OpenGL calls used by the {@link RenderDevice}.
+ * Allows replacing the driver with a fake when no context is available.
+ */
+public interface GLBackend {
+
+    void useProgram(int program);
+
+    void activeTexture(int unit);
+
+    void bindTexture(int target, int texture);
+
+    int genBuffer();
+
+    void deleteBuffer(int buffer);
+
+    void bindBuffer(int target, int buffer);
+
+    int genVertexArray();
+
+    void deleteVertexArray(int vertexArray);
+
+    void bindVertexArray(int vertexArray);
+
+    void vertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long offset);
+
+    void enableVertexAttribArray(int index);
+
+    void vertexAttribDivisor(int index, int divisor);
+
+    void bufferData(int target, long size, int usage);
+
+    void bufferData(int target, FloatBuffer data, int usage);
+
+    void bufferData(int target, IntBuffer data, int usage);
+
+    void bufferSubData(int target, long offset, FloatBuffer data);
+
+    void bufferSubData(int target, long offset, ByteBuffer data);
+
+    /**
+     * Returns null if the range could not be mapped
+     */
+    ByteBuffer mapBufferRange(int target, long offset, long length, int access);
+
+    /**
+     * Returns false if the contents of the buffer were lost while it was mapped
+     */
+    boolean unmapBuffer(int target);
+
+    void texImage2D(int target, int level, int internalFormat, int width, int height,
+            int format, int type, ByteBuffer pixels);
+
+    void texSubImage2D(int target, int level, int x, int y, int width, int height,
+            int format, int type, ByteBuffer pixels);
+
+    void drawElements(int mode, int count, int type, long indices);
+
+    void drawElementsInstanced(int mode, int count, int type, long indices, int instances);
+
+    int genQuery();
+
+    void deleteQuery(int query);
+
+    void beginQuery(int target, int query);
+
+    void endQuery(int target);
+
+    boolean isQueryResultAvailable(int query);
+
+    long getQueryResult(int query);
+
+    /**
+     * Returns true if the context supports fence sync objects
+     */
+    boolean isFenceSyncSupported();
+
+    /**
+     * Insert a fence signaled when the GPU finished all commands issued before
+     */
+    long fenceSync();
+
+    int clientWaitSync(long sync, int flags, long timeout);
+
+    void deleteSync(long sync);
+
+}
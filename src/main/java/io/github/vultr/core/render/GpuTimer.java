@@ -0,0 +1,121 @@
+package io.github.vultr.core.render;
+
+import static org.lwjgl.opengl.GL33.GL_TIME_ELAPSED;
+
+import lombok.Getter;
+
+/**
+ * Measures the GPU time of a render pass with GL_TIME_ELAPSED queries.
+ * Each frame uses the next query of a small ring, so a result is only read
+ * once the driver reports it as available and the CPU never waits for the GPU.
+ * Timer queries can not be nested, only one timer may be active at a time.
+ */
+public class GpuTimer {
+
+    public static final int DEFAULT_LATENCY = 4;
+
+    @Getter
+    private final String name;
+
+    private final int[] queries;
+    private final boolean[] pending;
+    private int index;
+
+    private boolean active;
+
+    @Getter
+    private long lastNanos; // the newest result that was read back
+
+    @Getter
+    private long samples;
+
+    private double averageNanos;
+
+    public GpuTimer(String name) {
+        this(name, DEFAULT_LATENCY);
+    }
+
+    /**
+     * @param name
+     * @param latency the amount of frames a query has to become available
+     */
+    public GpuTimer(String name, int latency) {
+        if (latency <= 0)
+            throw new IllegalArgumentException("Latency must be positive: " + latency);
+
+        this.name = name;
+        this.queries = new int[latency];
+        this.pending = new boolean[latency];
+    }
+
+    /**
+     * Start measuring, does nothing while GPU timing is disabled
+     */
+    public void begin() {
+        if (!RenderDevice.isGpuTimingEnabled() || active) {
+            return;
+        }
+
+        GLBackend backend = RenderDevice.getBackend();
+
+        // collect the result of the query issued a ring length ago
+        if (pending[index]) {
+            if (!backend.isQueryResultAvailable(queries[index])) {
+                // still not done, skip this frame instead of waiting
+                return;
+            }
+            record(backend.getQueryResult(queries[index]));
+            pending[index] = false;
+        }
+
+        if (queries[index] == 0)
+            queries[index] = backend.genQuery();
+
+        backend.beginQuery(GL_TIME_ELAPSED, queries[index]);
+        active = true;
+    }
+
+    /**
+     * Stop measuring
+     */
+    public void end() {
+        if (!active) {
+            return;
+        }
+
+        RenderDevice.getBackend().endQuery(GL_TIME_ELAPSED);
+        pending[index] = true;
+        index = (index + 1) % queries.length;
+        active = false;
+    }
+
+    private void record(long nanos) {
+        lastNanos = nanos;
+        samples++;
+
+        // exponential moving average over roughly the last 30 samples
+        averageNanos = samples == 1 ? nanos : averageNanos + (nanos - averageNanos) / 30;
+    }
+
+    /**
+     * Returns the smoothed GPU time of the pass in nanoseconds
+     */
+    public long getAverageNanos() {
+        return (long) averageNanos;
+    }
+
+    /**
+     * Delete the query objects
+     */
+    public void dispose() {
+        GLBackend backend = RenderDevice.getBackend();
+        for (int i = 0; i < queries.length; i++) {
+            if (queries[i] != 0)
+                backend.deleteQuery(queries[i]);
+            queries[i] = 0;
+            pending[i] = false;
+        }
+        active = false;
+    }
+
+}
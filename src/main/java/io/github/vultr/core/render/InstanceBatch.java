@@ -0,0 +1,228 @@
+package io.github.vultr.core.render;
+
+import io.github.vultr.core.scene.SceneGraph;
+import lombok.Getter;
+
+/**
+ * CPU side of the instanced renderer.
+ * Keeps the per instance data of many copies of one mesh in a flat array
+ * and tracks the range of instances changed since the last upload,
+ * so it can be used without an OpenGL context.
+ */
+public class InstanceBatch {
+
+    public static final int TRANSFORM_SIZE = 16; // column major mat4
+    public static final int COLOR_SIZE = 4; // r, g, b, a
+    public static final int UV_RECT_SIZE = 4; // u0, v0, u1, v1
+
+    public static final int TRANSFORM_OFFSET = 0;
+    public static final int COLOR_OFFSET = TRANSFORM_OFFSET + TRANSFORM_SIZE;
+    public static final int UV_RECT_OFFSET = COLOR_OFFSET + COLOR_SIZE;
+
+    public static final int INSTANCE_SIZE = TRANSFORM_SIZE + COLOR_SIZE + UV_RECT_SIZE;
+    public static final int INSTANCE_SIZE_BYTES = INSTANCE_SIZE * Float.BYTES;
+
+    private final float[] instances;
+
+    @Getter
+    private final int capacity;
+
+    @Getter
+    private int count;
+
+    // changed instances, end is exclusive
+    @Getter
+    private int dirtyStart = Integer.MAX_VALUE;
+    @Getter
+    private int dirtyEnd;
+
+    public InstanceBatch(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+
+        this.capacity = capacity;
+        this.instances = new float[capacity * INSTANCE_SIZE];
+    }
+
+    /**
+     * Add a white instance showing the whole texture with an identity transform
+     *
+     * @return the index of the instance or -1 if the batch is full
+     */
+    public int add() {
+        if (count == capacity)
+            return -1;
+
+        int index = count++;
+        int offset = index * INSTANCE_SIZE;
+
+        for (int i = 0; i < TRANSFORM_SIZE; i++) {
+            instances[offset + TRANSFORM_OFFSET + i] = i % 5 == 0 ? 1 : 0;
+        }
+        setColor(index, 1, 1, 1, 1);
+        setUvRect(index, 0, 0, 1, 1);
+        return index;
+    }
+
+    /**
+     * Remove an instance by moving the last instance into its place
+     *
+     * @param index
+     * @return the previous index of the moved instance, or -1 if the last instance was removed
+     */
+    public int remove(int index) {
+        checkIndex(index);
+
+        int last = --count;
+        if (index == last) {
+            return -1;
+        }
+
+        System.arraycopy(instances, last * INSTANCE_SIZE, instances, index * INSTANCE_SIZE, INSTANCE_SIZE);
+        markDirty(index);
+        return last;
+    }
+
+    /**
+     * Place the unit quad of an instance as a rotated rectangle
+     *
+     * @param index
+     * @param x        left edge before the rotation
+     * @param y        bottom edge before the rotation
+     * @param width
+     * @param height
+     * @param rotation radians around the center of the rectangle
+     */
+    public void setTransform(int index, float x, float y, float width, float height, float rotation) {
+        checkIndex(index);
+
+        float cos = (float) Math.cos(rotation);
+        float sin = (float) Math.sin(rotation);
+        float halfWidth = width * 0.5f;
+        float halfHeight = height * 0.5f;
+
+        int offset = index * INSTANCE_SIZE + TRANSFORM_OFFSET;
+        instances[offset] = width * cos;
+        instances[offset + 1] = width * sin;
+        instances[offset + 2] = 0;
+        instances[offset + 3] = 0;
+        instances[offset + 4] = -height * sin;
+        instances[offset + 5] = height * cos;
+        instances[offset + 6] = 0;
+        instances[offset + 7] = 0;
+        instances[offset + 8] = 0;
+        instances[offset + 9] = 0;
+        instances[offset + 10] = 1;
+        instances[offset + 11] = 0;
+        instances[offset + 12] = x + halfWidth - (halfWidth * cos - halfHeight * sin);
+        instances[offset + 13] = y + halfHeight - (halfWidth * sin + halfHeight * cos);
+        instances[offset + 14] = 0;
+        instances[offset + 15] = 1;
+        markDirty(index);
+    }
+
+    /**
+     * Copy a column major matrix into the transform of an instance
+     *
+     * @param index
+     * @param matrix
+     * @param offset the first float of the matrix
+     */
+    public void setTransform(int index, float[] matrix, int offset) {
+        checkIndex(index);
+        System.arraycopy(matrix, offset, instances, index * INSTANCE_SIZE + TRANSFORM_OFFSET, TRANSFORM_SIZE);
+        markDirty(index);
+    }
+
+    /**
+     * Use the world transform of a scene graph node,
+     * which has to be updated before
+     *
+     * @param index
+     * @param graph
+     * @param node
+     */
+    public void setTransform(int index, SceneGraph graph, int node) {
+        checkIndex(index);
+        graph.writeWorld(node, instances, index * INSTANCE_SIZE + TRANSFORM_OFFSET);
+        markDirty(index);
+    }
+
+    public void setColor(int index, float r, float g, float b, float a) {
+        checkIndex(index);
+
+        int offset = index * INSTANCE_SIZE + COLOR_OFFSET;
+        instances[offset] = r;
+        instances[offset + 1] = g;
+        instances[offset + 2] = b;
+        instances[offset + 3] = a;
+        markDirty(index);
+    }
+
+    /**
+     * Set the area of the texture shown by an instance,
+     * mapped like the quads of the {@link SpriteBatch}
+     */
+    public void setUvRect(int index, float u0, float v0, float u1, float v1) {
+        checkIndex(index);
+
+        int offset = index * INSTANCE_SIZE + UV_RECT_OFFSET;
+        instances[offset] = u0;
+        instances[offset + 1] = v0;
+        instances[offset + 2] = u1;
+        instances[offset + 3] = v1;
+        markDirty(index);
+    }
+
+    /**
+     * Mark a range of instances as changed, e.g. after writing into {@link #getInstances()}
+     *
+     * @param start
+     * @param end exclusive
+     */
+    public void markDirty(int start, int end) {
+        dirtyStart = Math.min(dirtyStart, start);
+        dirtyEnd = Math.max(dirtyEnd, end);
+    }
+
+    private void markDirty(int index) {
+        if (index < dirtyStart)
+            dirtyStart = index;
+        if (index >= dirtyEnd)
+            dirtyEnd = index + 1;
+    }
+
+    /**
+     * Returns true if instances changed since the last {@link #clearDirty()}
+     */
+    public boolean isDirty() {
+        return dirtyStart < Math.min(dirtyEnd, count);
+    }
+
+    public void clearDirty() {
+        dirtyStart = Integer.MAX_VALUE;
+        dirtyEnd = 0;
+    }
+
+    /**
+     * Remove all instances
+     */
+    public void clear() {
+        count = 0;
+        clearDirty();
+    }
+
+    /**
+     * Returns the packed instance data.
+     * Only the first {@link #getCount()} instances are valid.
+     */
+    public float[] getInstances() {
+        return instances;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("Instance " + index + " out of bounds for " + count + " instances");
+    }
+
+}
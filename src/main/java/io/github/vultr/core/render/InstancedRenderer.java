@@ -0,0 +1,228 @@
+package io.github.vultr.core.render;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL33.GL_FLOAT;
+import static org.lwjgl.opengl.GL33.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL33.GL_STATIC_DRAW;
+import static org.lwjgl.opengl.GL33.GL_DYNAMIC_DRAW;
+import static org.lwjgl.opengl.GL33.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL33.GL_ELEMENT_ARRAY_BUFFER;
+
+import io.github.vultr.utils.render.ShaderProgram;
+import lombok.Getter;
+
+/**
+ * Draws many copies of a textured unit quad with a single instanced draw call.
+ * Each copy has its own transform, color and texture area, kept in an {@link InstanceBatch}.
+ * Only the instances changed since the last draw are uploaded,
+ * so mostly static instances like tiles cost no uploads per frame.
+ *
+ * The shader program has to use the attribute layout of
+ * {@code assets/shaders/instanced_vertex.glsl}.
+ * All OpenGL calls go through the {@link RenderDevice}.
+ */
+public class InstancedRenderer {
+
+    public static final int DEFAULT_CAPACITY = 100000;
+
+    private static final Matrix4f IDENTITY = new Matrix4f();
+
+    // unit quad, position and uv per vertex
+    private static final float[] QUAD = {
+            0, 0, 0, 0,
+            1, 0, 1, 0,
+            1, 1, 1, 1,
+            0, 1, 0, 1
+    };
+
+    private static final int[] QUAD_INDICES = { 0, 1, 2, 2, 3, 0 };
+
+    private static final int QUAD_VERTEX_SIZE_BYTES = 4 * Float.BYTES;
+
+    @Getter
+    private final InstanceBatch batch;
+
+    private final FloatBuffer uploadBuffer;
+
+    private int vaoId;
+    private int quadVboId;
+    private int instanceVboId;
+    private int eboId;
+
+    @Getter
+    private boolean initialized;
+
+    public InstancedRenderer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InstancedRenderer(int capacity) {
+        this.batch = new InstanceBatch(capacity);
+        this.uploadBuffer = BufferUtils.createFloatBuffer(capacity * InstanceBatch.INSTANCE_SIZE);
+    }
+
+    /**
+     * Create the buffer objects of the renderer.
+     * Has to be called on the thread owning the OpenGL context.
+     */
+    public void init() {
+        if (initialized) {
+            return;
+        }
+
+        vaoId = RenderDevice.genVertexArray();
+        RenderDevice.bindVertexArray(vaoId);
+
+        FloatBuffer quad = BufferUtils.createFloatBuffer(QUAD.length);
+        quad.put(QUAD).flip();
+
+        quadVboId = RenderDevice.genBuffer();
+        RenderDevice.bindBuffer(GL_ARRAY_BUFFER, quadVboId);
+        RenderDevice.bufferData(GL_ARRAY_BUFFER, quad, GL_STATIC_DRAW);
+
+        RenderDevice.vertexAttribPointer(0, 2, GL_FLOAT, false, QUAD_VERTEX_SIZE_BYTES, 0);
+        RenderDevice.enableVertexAttribArray(0);
+        RenderDevice.vertexAttribPointer(1, 2, GL_FLOAT, false, QUAD_VERTEX_SIZE_BYTES, 2 * Float.BYTES);
+        RenderDevice.enableVertexAttribArray(1);
+
+        IntBuffer indices = BufferUtils.createIntBuffer(QUAD_INDICES.length);
+        indices.put(QUAD_INDICES).flip();
+
+        eboId = RenderDevice.genBuffer();
+        RenderDevice.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, eboId);
+        RenderDevice.bufferData(GL_ELEMENT_ARRAY_BUFFER, indices, GL_STATIC_DRAW);
+
+        // allocated once, only the dirty instances are updated afterwards
+        instanceVboId = RenderDevice.genBuffer();
+        RenderDevice.bindBuffer(GL_ARRAY_BUFFER, instanceVboId);
+        RenderDevice.bufferData(GL_ARRAY_BUFFER, (long) uploadBuffer.capacity() * Float.BYTES, GL_DYNAMIC_DRAW);
+
+        // a mat4 attribute takes four locations, one per column
+        for (int column = 0; column < 4; column++) {
+            instanceAttribute(2 + column, 4, InstanceBatch.TRANSFORM_OFFSET + column * 4);
+        }
+        instanceAttribute(6, InstanceBatch.COLOR_SIZE, InstanceBatch.COLOR_OFFSET);
+        instanceAttribute(7, InstanceBatch.UV_RECT_SIZE, InstanceBatch.UV_RECT_OFFSET);
+
+        RenderDevice.bindVertexArray(0);
+
+        // everything added before the buffer existed has to be uploaded
+        batch.markDirty(0, batch.getCount());
+
+        this.initialized = true;
+    }
+
+    private void instanceAttribute(int index, int size, int offset) {
+        RenderDevice.vertexAttribPointer(index, size, GL_FLOAT, false, InstanceBatch.INSTANCE_SIZE_BYTES,
+                (long) offset * Float.BYTES);
+        RenderDevice.enableVertexAttribArray(index);
+        RenderDevice.vertexAttribDivisor(index, 1);
+    }
+
+    /**
+     * Upload the instances changed since the last upload
+     *
+     * @return the amount of uploaded instances
+     */
+    public int upload() {
+        init();
+
+        if (!batch.isDirty()) {
+            batch.clearDirty();
+            return 0;
+        }
+
+        int start = batch.getDirtyStart();
+        int end = Math.min(batch.getDirtyEnd(), batch.getCount());
+
+        uploadBuffer.clear();
+        uploadBuffer.put(batch.getInstances(), start * InstanceBatch.INSTANCE_SIZE,
+                (end - start) * InstanceBatch.INSTANCE_SIZE).flip();
+
+        RenderDevice.bindBuffer(GL_ARRAY_BUFFER, instanceVboId);
+        RenderDevice.bufferSubData(GL_ARRAY_BUFFER, (long) start * InstanceBatch.INSTANCE_SIZE_BYTES, uploadBuffer);
+        RenderDevice.bindBuffer(GL_ARRAY_BUFFER, 0);
+
+        batch.clearDirty();
+        return end - start;
+    }
+
+    /**
+     * Draw all instances in clip space
+     *
+     * @param program   the program to draw with
+     * @param textureId the texture of the quads, 0 to only use the instance colors
+     */
+    public void draw(ShaderProgram program, int textureId) {
+        draw(program, null, textureId);
+    }
+
+    /**
+     * Upload the changed instances and draw all of them
+     *
+     * @param program   the program to draw with
+     * @param camera    the camera to draw with, or null to draw in clip space
+     * @param textureId the texture of the quads, 0 to only use the instance colors
+     */
+    public void draw(ShaderProgram program, Camera camera, int textureId) {
+        if (batch.getCount() == 0) {
+            upload();
+            return;
+        }
+
+        program.bind();
+        program.setMat4("uProjView", camera != null ? camera.getViewProjection() : IDENTITY);
+        program.setInt("uTexture", 0);
+        program.setInt("uTextured", textureId != 0 ? 1 : 0);
+
+        if (textureId != 0)
+            RenderDevice.bindTexture(0, GL_TEXTURE_2D, textureId);
+
+        drawInstances();
+
+        program.unbind();
+    }
+
+    /**
+     * Upload the changed instances and draw all of them with the bound program and textures
+     *
+     * @return the amount of drawn instances
+     */
+    public int drawInstances() {
+        upload();
+
+        int count = batch.getCount();
+        if (count == 0) {
+            return 0;
+        }
+
+        RenderDevice.bindVertexArray(vaoId);
+        RenderDevice.drawElementsInstanced(GL_TRIANGLES, QUAD_INDICES.length, GL_UNSIGNED_INT, 0, count);
+        RenderDevice.bindVertexArray(0);
+        return count;
+    }
+
+    /**
+     * Delete the buffer objects of the renderer
+     */
+    public void dispose() {
+        if (!initialized) {
+            return;
+        }
+
+        RenderDevice.deleteBuffer(quadVboId);
+        RenderDevice.deleteBuffer(instanceVboId);
+        RenderDevice.deleteBuffer(eboId);
+        RenderDevice.deleteVertexArray(vaoId);
+
+        this.initialized = false;
+    }
+
+}
@@ -0,0 +1,216 @@
+package io.github.vultr.core.render;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import static org.lwjgl.opengl.GL33.glEndQuery;
+import static org.lwjgl.opengl.GL33.glGenQueries;
+import static org.lwjgl.opengl.GL33.glBeginQuery;
+import static org.lwjgl.opengl.GL33.glBufferData;
+import static org.lwjgl.opengl.GL33.glUseProgram;
+import static org.lwjgl.opengl.GL33.glBindTexture;
+import static org.lwjgl.opengl.GL33.glDrawElements;
+import static org.lwjgl.opengl.GL33.glDrawElementsInstanced;
+import static org.lwjgl.opengl.GL33.glDeleteQueries;
+import static org.lwjgl.opengl.GL33.glActiveTexture;
+import static org.lwjgl.opengl.GL33.glBufferSubData;
+import static org.lwjgl.opengl.GL33.glTexImage2D;
+import static org.lwjgl.opengl.GL33.glTexSubImage2D;
+import static org.lwjgl.opengl.GL33.glGetQueryObjecti;
+import static org.lwjgl.opengl.GL33.glGetQueryObjecti64;
+import static org.lwjgl.opengl.GL33.glGenBuffers;
+import static org.lwjgl.opengl.GL33.glBindBuffer;
+import static org.lwjgl.opengl.GL33.glDeleteBuffers;
+import static org.lwjgl.opengl.GL33.glGenVertexArrays;
+import static org.lwjgl.opengl.GL33.glBindVertexArray;
+import static org.lwjgl.opengl.GL33.glDeleteVertexArrays;
+import static org.lwjgl.opengl.GL33.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
+import static org.lwjgl.opengl.GL33.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL33.glMapBufferRange;
+import static org.lwjgl.opengl.GL33.glUnmapBuffer;
+import static org.lwjgl.opengl.GL33.glFenceSync;
+import static org.lwjgl.opengl.GL33.glClientWaitSync;
+import static org.lwjgl.opengl.GL33.glDeleteSync;
+import static org.lwjgl.opengl.GL33.GL_SYNC_GPU_COMMANDS_COMPLETE;
+import static org.lwjgl.opengl.GL33.GL_QUERY_RESULT;
+import static org.lwjgl.opengl.GL33.GL_QUERY_RESULT_AVAILABLE;
+
+/**
+ * {@link GLBackend} calling the OpenGL driver through LWJGL
+ */
+public class OpenGLBackend implements GLBackend {
+
+    @Override
+    public void useProgram(int program) {
+        glUseProgram(program);
+    }
+
+    @Override
+    public void activeTexture(int unit) {
+        glActiveTexture(unit);
+    }
+
+    @Override
+    public void bindTexture(int target, int texture) {
+        glBindTexture(target, texture);
+    }
+
+    @Override
+    public int genBuffer() {
+        return glGenBuffers();
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        glDeleteBuffers(buffer);
+    }
+
+    @Override
+    public void bindBuffer(int target, int buffer) {
+        glBindBuffer(target, buffer);
+    }
+
+    @Override
+    public int genVertexArray() {
+        return glGenVertexArrays();
+    }
+
+    @Override
+    public void deleteVertexArray(int vertexArray) {
+        glDeleteVertexArrays(vertexArray);
+    }
+
+    @Override
+    public void bindVertexArray(int vertexArray) {
+        glBindVertexArray(vertexArray);
+    }
+
+    @Override
+    public void vertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long offset) {
+        glVertexAttribPointer(index, size, type, normalized, stride, offset);
+    }
+
+    @Override
+    public void enableVertexAttribArray(int index) {
+        glEnableVertexAttribArray(index);
+    }
+
+    @Override
+    public void vertexAttribDivisor(int index, int divisor) {
+        glVertexAttribDivisor(index, divisor);
+    }
+
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        glBufferData(target, size, usage);
+    }
+
+    @Override
+    public void bufferData(int target, FloatBuffer data, int usage) {
+        glBufferData(target, data, usage);
+    }
+
+    @Override
+    public void bufferData(int target, IntBuffer data, int usage) {
+        glBufferData(target, data, usage);
+    }
+
+    @Override
+    public void bufferSubData(int target, long offset, FloatBuffer data) {
+        glBufferSubData(target, offset, data);
+    }
+
+    @Override
+    public void bufferSubData(int target, long offset, ByteBuffer data) {
+        glBufferSubData(target, offset, data);
+    }
+
+    @Override
+    public ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        return glMapBufferRange(target, offset, length, access);
+    }
+
+    @Override
+    public boolean unmapBuffer(int target) {
+        return glUnmapBuffer(target);
+    }
+
+    @Override
+    public void texImage2D(int target, int level, int internalFormat, int width, int height,
+            int format, int type, ByteBuffer pixels) {
+        glTexImage2D(target, level, internalFormat, width, height, 0, format, type, pixels);
+    }
+
+    @Override
+    public void texSubImage2D(int target, int level, int x, int y, int width, int height,
+            int format, int type, ByteBuffer pixels) {
+        glTexSubImage2D(target, level, x, y, width, height, format, type, pixels);
+    }
+
+    @Override
+    public void drawElements(int mode, int count, int type, long indices) {
+        glDrawElements(mode, count, type, indices);
+    }
+
+    @Override
+    public void drawElementsInstanced(int mode, int count, int type, long indices, int instances) {
+        glDrawElementsInstanced(mode, count, type, indices, instances);
+    }
+
+    @Override
+    public int genQuery() {
+        return glGenQueries();
+    }
+
+    @Override
+    public void deleteQuery(int query) {
+        glDeleteQueries(query);
+    }
+
+    @Override
+    public void beginQuery(int target, int query) {
+        glBeginQuery(target, query);
+    }
+
+    @Override
+    public void endQuery(int target) {
+        glEndQuery(target);
+    }
+
+    @Override
+    public boolean isQueryResultAvailable(int query) {
+        return glGetQueryObjecti(query, GL_QUERY_RESULT_AVAILABLE) != 0;
+    }
+
+    @Override
+    public long getQueryResult(int query) {
+        return glGetQueryObjecti64(query, GL_QUERY_RESULT);
+    }
+
+    @Override
+    public boolean isFenceSyncSupported() {
+        GLCapabilities capabilities = GL.getCapabilities();
+        return capabilities.OpenGL32 || capabilities.GL_ARB_sync;
+    }
+
+    @Override
+    public long fenceSync() {
+        return glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+    }
+
+    @Override
+    public int clientWaitSync(long sync, int flags, long timeout) {
+        return glClientWaitSync(sync, flags, timeout);
+    }
+
+    @Override
+    public void deleteSync(long sync) {
+        glDeleteSync(sync);
+    }
+
+}
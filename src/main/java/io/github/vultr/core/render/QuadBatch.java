@@ -0,0 +1,188 @@
+package io.github.vultr.core.render;
+
+import lombok.Getter;
+
+/**
+ * CPU side of the sprite batch.
+ * Packs quads into a flat vertex array and keeps track of the textures
+ * used by the batch, so it can be used without an OpenGL context.
+ */
+public class QuadBatch {
+
+    public static final int POSITION_SIZE = 2; // x, y
+    public static final int COLOR_SIZE = 4; // r, g, b, a
+    public static final int UV_SIZE = 2; // u, v
+    public static final int TEXTURE_SLOT_SIZE = 1; // slot
+
+    public static final int POSITION_OFFSET = 0;
+    public static final int COLOR_OFFSET = POSITION_OFFSET + POSITION_SIZE;
+    public static final int UV_OFFSET = COLOR_OFFSET + COLOR_SIZE;
+    public static final int TEXTURE_SLOT_OFFSET = UV_OFFSET + UV_SIZE;
+
+    public static final int VERTEX_SIZE = POSITION_SIZE + COLOR_SIZE + UV_SIZE + TEXTURE_SLOT_SIZE;
+    public static final int VERTEX_SIZE_BYTES = VERTEX_SIZE * Float.BYTES;
+
+    public static final int VERTICES_PER_QUAD = 4;
+    public static final int INDICES_PER_QUAD = 6;
+    public static final int QUAD_SIZE = VERTICES_PER_QUAD * VERTEX_SIZE;
+
+    public static final int MAX_TEXTURE_SLOTS = 8;
+
+    /**
+     * Texture slot used for quads without a texture
+     */
+    public static final int NO_TEXTURE = -1;
+
+    private final float[] vertices;
+
+    private final int[] textureIds = new int[MAX_TEXTURE_SLOTS];
+
+    @Getter
+    private final int capacity;
+
+    @Getter
+    private int quadCount;
+
+    @Getter
+    private int textureCount;
+
+    public QuadBatch(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+
+        this.capacity = capacity;
+        this.vertices = new float[capacity * QUAD_SIZE];
+    }
+
+    /**
+     * Add an axis aligned quad to the batch.
+     * A texture id of 0 will draw the quad using only its color.
+     *
+     * @return false if the batch has to be flushed before the quad fits
+     */
+    public boolean add(float x, float y, float width, float height,
+            float r, float g, float b, float a,
+            float u0, float v0, float u1, float v1,
+            int textureId) {
+        if (isFull())
+            return false;
+
+        int slot = NO_TEXTURE;
+        if (textureId != 0) {
+            slot = textureSlot(textureId);
+            if (slot == NO_TEXTURE)
+                return false;
+        }
+
+        int offset = quadCount * QUAD_SIZE;
+
+        // bottom left, bottom right, top right, top left
+        offset = putVertex(offset, x, y, r, g, b, a, u0, v0, slot);
+        offset = putVertex(offset, x + width, y, r, g, b, a, u1, v0, slot);
+        offset = putVertex(offset, x + width, y + height, r, g, b, a, u1, v1, slot);
+        putVertex(offset, x, y + height, r, g, b, a, u0, v1, slot);
+
+        quadCount++;
+        return true;
+    }
+
+    private int putVertex(int offset, float x, float y,
+            float r, float g, float b, float a,
+            float u, float v, int slot) {
+        vertices[offset++] = x;
+        vertices[offset++] = y;
+        vertices[offset++] = r;
+        vertices[offset++] = g;
+        vertices[offset++] = b;
+        vertices[offset++] = a;
+        vertices[offset++] = u;
+        vertices[offset++] = v;
+        vertices[offset++] = slot;
+        return offset;
+    }
+
+    /**
+     * Returns the slot of a texture in this batch,
+     * assigning a new slot if the texture is not used yet.
+     *
+     * @param textureId
+     * @return the slot or {@link #NO_TEXTURE} if all slots are taken
+     */
+    public int textureSlot(int textureId) {
+        for (int i = 0; i < textureCount; i++) {
+            if (textureIds[i] == textureId) {
+                return i;
+            }
+        }
+
+        if (textureCount == MAX_TEXTURE_SLOTS)
+            return NO_TEXTURE;
+
+        textureIds[textureCount] = textureId;
+        return textureCount++;
+    }
+
+    public int getTextureId(int slot) {
+        return textureIds[slot];
+    }
+
+    public boolean isFull() {
+        return quadCount == capacity;
+    }
+
+    public boolean isEmpty() {
+        return quadCount == 0;
+    }
+
+    /**
+     * Returns the packed vertex data.
+     * Only the first {@link #getVertexDataLength()} floats are valid.
+     */
+    public float[] getVertices() {
+        return vertices;
+    }
+
+    public int getVertexDataLength() {
+        return quadCount * QUAD_SIZE;
+    }
+
+    public int getIndexCount() {
+        return quadCount * INDICES_PER_QUAD;
+    }
+
+    /**
+     * Reset the batch without clearing the vertex array
+     */
+    public void clear() {
+        quadCount = 0;
+        textureCount = 0;
+    }
+
+    /**
+     * Creates the index array shared by all quads of a batch.
+     *
+     * @param quads the amount of quads
+     * @return the indices
+     */
+    public static int[] createIndices(int quads) {
+        int[] indices = new int[quads * INDICES_PER_QUAD];
+
+        for (int i = 0; i < quads; i++) {
+            int offset = i * INDICES_PER_QUAD;
+            int vertex = i * VERTICES_PER_QUAD;
+
+            // bottom right triangle
+            indices[offset] = vertex;
+            indices[offset + 1] = vertex + 1;
+            indices[offset + 2] = vertex + 2;
+
+            // top left triangle
+            indices[offset + 3] = vertex + 2;
+            indices[offset + 4] = vertex + 3;
+            indices[offset + 5] = vertex;
+        }
+
+        return indices;
+    }
+
+}
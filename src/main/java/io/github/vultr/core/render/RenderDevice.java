@@ -0,0 +1,213 @@
+package io.github.vultr.core.render;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import static org.lwjgl.opengl.GL33.GL_TEXTURE0;
+
+import lombok.Getter;
+
+/**
+ * Single path for all GPU submissions of the engine.
+ * Every call is forwarded to the {@link GLBackend} and counted in the {@link RenderStats}.
+ */
+public class RenderDevice {
+
+    @Getter
+    private static GLBackend backend = new OpenGLBackend();
+
+    @Getter
+    private static final RenderStats stats = new RenderStats();
+
+    @Getter
+    private static boolean gpuTimingEnabled;
+
+    @Getter
+    private static GpuTimer frameTimer; // measures the draw phase of the window loop
+
+    /**
+     * Replace the backend, e.g. with a fake when no OpenGL context exists
+     *
+     * @param backend
+     */
+    public static void setBackend(GLBackend backend) {
+        RenderDevice.backend = backend;
+    }
+
+    /**
+     * Measure GPU time with timer queries.
+     * Results are read back a few frames later, so the CPU never waits for them.
+     *
+     * @param enabled
+     */
+    public static void setGpuTimingEnabled(boolean enabled) {
+        gpuTimingEnabled = enabled;
+        if (enabled && frameTimer == null)
+            frameTimer = new GpuTimer("frame");
+    }
+
+    public static void useProgram(int program) {
+        if (program != 0)
+            stats.shaderBind();
+        backend.useProgram(program);
+    }
+
+    /**
+     * Unbind the current program, not counted as a shader bind
+     */
+    public static void unbindProgram() {
+        backend.useProgram(0);
+    }
+
+    /**
+     * Bind a texture to a texture unit
+     *
+     * @param unit the index of the unit, starting at 0
+     * @param target
+     * @param texture
+     */
+    public static void bindTexture(int unit, int target, int texture) {
+        stats.textureBind();
+        backend.activeTexture(GL_TEXTURE0 + unit);
+        backend.bindTexture(target, texture);
+    }
+
+    public static int genBuffer() {
+        return backend.genBuffer();
+    }
+
+    public static void deleteBuffer(int buffer) {
+        backend.deleteBuffer(buffer);
+    }
+
+    public static void bindBuffer(int target, int buffer) {
+        backend.bindBuffer(target, buffer);
+    }
+
+    public static int genVertexArray() {
+        return backend.genVertexArray();
+    }
+
+    public static void deleteVertexArray(int vertexArray) {
+        backend.deleteVertexArray(vertexArray);
+    }
+
+    public static void bindVertexArray(int vertexArray) {
+        backend.bindVertexArray(vertexArray);
+    }
+
+    /**
+     * Describe an attribute of the bound vertex array, read from the bound array buffer
+     *
+     * @param offset in bytes from the start of the buffer
+     */
+    public static void vertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long offset) {
+        backend.vertexAttribPointer(index, size, type, normalized, stride, offset);
+    }
+
+    public static void enableVertexAttribArray(int index) {
+        backend.enableVertexAttribArray(index);
+    }
+
+    /**
+     * Advance an attribute once per divisor instances instead of once per vertex
+     */
+    public static void vertexAttribDivisor(int index, int divisor) {
+        backend.vertexAttribDivisor(index, divisor);
+    }
+
+    /**
+     * Allocate a buffer without uploading data
+     */
+    public static void bufferData(int target, long size, int usage) {
+        backend.bufferData(target, size, usage);
+    }
+
+    public static void bufferData(int target, FloatBuffer data, int usage) {
+        stats.bufferUpload((long) data.remaining() * Float.BYTES);
+        backend.bufferData(target, data, usage);
+    }
+
+    public static void bufferData(int target, IntBuffer data, int usage) {
+        stats.bufferUpload((long) data.remaining() * Integer.BYTES);
+        backend.bufferData(target, data, usage);
+    }
+
+    public static void bufferSubData(int target, long offset, FloatBuffer data) {
+        stats.bufferUpload((long) data.remaining() * Float.BYTES);
+        backend.bufferSubData(target, offset, data);
+    }
+
+    public static void bufferSubData(int target, long offset, ByteBuffer data) {
+        stats.bufferUpload(data.remaining());
+        backend.bufferSubData(target, offset, data);
+    }
+
+    /**
+     * Map a range of the bound buffer for writing, the whole range is counted as uploaded
+     *
+     * @return the mapped memory or null if the range could not be mapped
+     */
+    public static ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        stats.bufferUpload(length);
+        return backend.mapBufferRange(target, offset, length, access);
+    }
+
+    public static boolean unmapBuffer(int target) {
+        return backend.unmapBuffer(target);
+    }
+
+    /**
+     * Allocate and upload a texture level, pixels may be null to only allocate
+     */
+    public static void texImage2D(int target, int level, int internalFormat, int width, int height,
+            int format, int type, ByteBuffer pixels) {
+        if (pixels != null)
+            stats.bufferUpload(pixels.remaining());
+        backend.texImage2D(target, level, internalFormat, width, height, format, type, pixels);
+    }
+
+    public static void texSubImage2D(int target, int level, int x, int y, int width, int height,
+            int format, int type, ByteBuffer pixels) {
+        stats.bufferUpload(pixels.remaining());
+        backend.texSubImage2D(target, level, x, y, width, height, format, type, pixels);
+    }
+
+    public static void drawElements(int mode, int count, int type, long indices) {
+        stats.drawCall(count);
+        backend.drawElements(mode, count, type, indices);
+    }
+
+    /**
+     * Draw the elements once per instance, counted as a single draw call
+     */
+    public static void drawElementsInstanced(int mode, int count, int type, long indices, int instances) {
+        stats.drawCall((long) count * instances);
+        backend.drawElementsInstanced(mode, count, type, indices, instances);
+    }
+
+    public static boolean isFenceSyncSupported() {
+        return backend.isFenceSyncSupported();
+    }
+
+    public static long fenceSync() {
+        return backend.fenceSync();
+    }
+
+    public static int clientWaitSync(long sync, int flags, long timeout) {
+        return backend.clientWaitSync(sync, flags, timeout);
+    }
+
+    public static void deleteSync(long sync) {
+        backend.deleteSync(sync);
+    }
+
+    /**
+     * Finish the frame, called by the window loop after swapping the buffers
+     */
+    public static void endFrame() {
+        stats.endFrame();
+    }
+
+}
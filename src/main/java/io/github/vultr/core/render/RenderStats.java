@@ -0,0 +1,91 @@
+package io.github.vultr.core.render;
+
+import lombok.Getter;
+
+/**
+ * Counts the work submitted to the GPU per frame.
+ * The getters return the values of the last finished frame.
+ */
+public class RenderStats {
+
+    private int currentDrawCalls;
+    private long currentVertices;
+    private int currentBufferUploads;
+    private long currentUploadedBytes;
+    private int currentShaderBinds;
+    private int currentTextureBinds;
+
+    @Getter
+    private int drawCalls;
+    @Getter
+    private long vertices;
+    @Getter
+    private int bufferUploads;
+    @Getter
+    private long uploadedBytes;
+    @Getter
+    private int shaderBinds;
+    @Getter
+    private int textureBinds;
+
+    @Getter
+    private long frames;
+
+    public void drawCall(long vertices) {
+        currentDrawCalls++;
+        currentVertices += vertices;
+    }
+
+    public void bufferUpload(long bytes) {
+        currentBufferUploads++;
+        currentUploadedBytes += bytes;
+    }
+
+    public void shaderBind() {
+        currentShaderBinds++;
+    }
+
+    public void textureBind() {
+        currentTextureBinds++;
+    }
+
+    /**
+     * Publish the counters of the current frame and start counting a new one
+     */
+    public void endFrame() {
+        drawCalls = currentDrawCalls;
+        vertices = currentVertices;
+        bufferUploads = currentBufferUploads;
+        uploadedBytes = currentUploadedBytes;
+        shaderBinds = currentShaderBinds;
+        textureBinds = currentTextureBinds;
+
+        currentDrawCalls = 0;
+        currentVertices = 0;
+        currentBufferUploads = 0;
+        currentUploadedBytes = 0;
+        currentShaderBinds = 0;
+        currentTextureBinds = 0;
+
+        frames++;
+    }
+
+    /**
+     * Clear all counters
+     */
+    public void reset() {
+        endFrame();
+        endFrame();
+        frames = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "draw calls: " + drawCalls
+                + ", vertices: " + vertices
+                + ", buffer uploads: " + bufferUploads + " (" + uploadedBytes + " bytes)"
+                + ", shader binds: " + shaderBinds
+                + ", texture binds: " + textureBinds;
+    }
+
+}
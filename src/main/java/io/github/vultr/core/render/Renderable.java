@@ -0,0 +1,19 @@
+package io.github.vultr.core.render;
+
+/**
+ * Something that can be drawn into a {@link SpriteBatch}
+ * and culled by its world space bounds.
+ */
+public interface Renderable {
+
+    float getX();
+
+    float getY();
+
+    float getWidth();
+
+    float getHeight();
+
+    void draw(SpriteBatch batch);
+
+}
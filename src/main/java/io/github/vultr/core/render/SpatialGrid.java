@@ -0,0 +1,245 @@
+package io.github.vultr.core.render;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * Uniform grid over a fixed world area, used to find the objects
+ * overlapping a rectangle without testing every object.
+ * Objects are identified by non negative int ids, objects outside of the
+ * grid area are stored in the border cells.
+ */
+public class SpatialGrid {
+
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    @Getter
+    private final float minX;
+    @Getter
+    private final float minY;
+    @Getter
+    private final float cellSize;
+
+    @Getter
+    private final int columns;
+    @Getter
+    private final int rows;
+
+    private final int[][] cells;
+    private final int[] cellCounts;
+
+    // bounds of each object, indexed by id
+    private float[] bounds = new float[0];
+    private boolean[] present = new boolean[0];
+
+    // prevents objects spanning multiple cells from being reported twice
+    private int[] queryStamps = new int[0];
+    private int queryStamp;
+
+    private int[] results = new int[64];
+
+    @Getter
+    private int size;
+
+    public SpatialGrid(float minX, float minY, float width, float height, float cellSize) {
+        if (cellSize <= 0)
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new int[columns * rows][];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    /**
+     * Add an object to the grid
+     *
+     * @param id
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     */
+    public void insert(int id, float x, float y, float width, float height) {
+        if (id < 0)
+            throw new IllegalArgumentException("Ids must not be negative: " + id);
+
+        ensureIdCapacity(id + 1);
+        if (present[id])
+            remove(id);
+
+        int offset = id * 4;
+        bounds[offset] = x;
+        bounds[offset + 1] = y;
+        bounds[offset + 2] = x + width;
+        bounds[offset + 3] = y + height;
+        present[id] = true;
+
+        int minColumn = column(x);
+        int maxColumn = column(x + width);
+        int minRow = row(y);
+        int maxRow = row(y + height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                addToCell(row * columns + column, id);
+            }
+        }
+
+        size++;
+    }
+
+    /**
+     * Remove an object from the grid
+     *
+     * @param id
+     */
+    public void remove(int id) {
+        if (!contains(id)) {
+            return;
+        }
+
+        int offset = id * 4;
+        int minColumn = column(bounds[offset]);
+        int maxColumn = column(bounds[offset + 2]);
+        int minRow = row(bounds[offset + 1]);
+        int maxRow = row(bounds[offset + 3]);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                removeFromCell(row * columns + column, id);
+            }
+        }
+
+        present[id] = false;
+        size--;
+    }
+
+    /**
+     * Move an object to new bounds
+     */
+    public void update(int id, float x, float y, float width, float height) {
+        insert(id, x, y, width, height);
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < present.length && present[id];
+    }
+
+    /**
+     * Find all objects overlapping a rectangle.
+     * The ids are written to {@link #getResults()}.
+     *
+     * @return the amount of objects found
+     */
+    public int query(float queryMinX, float queryMinY, float queryMaxX, float queryMaxY) {
+        int count = 0;
+        int stamp = nextQueryStamp();
+
+        int minColumn = column(queryMinX);
+        int maxColumn = column(queryMaxX);
+        int minRow = row(queryMinY);
+        int maxRow = row(queryMaxY);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * columns + column;
+                int[] ids = cells[cell];
+
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int id = ids[i];
+                    if (queryStamps[id] == stamp)
+                        continue;
+                    queryStamps[id] = stamp;
+
+                    int offset = id * 4;
+                    if (bounds[offset] > queryMaxX || bounds[offset + 2] < queryMinX
+                            || bounds[offset + 1] > queryMaxY || bounds[offset + 3] < queryMinY)
+                        continue;
+
+                    if (count == results.length)
+                        results = Arrays.copyOf(results, count * 2);
+                    results[count++] = id;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the ids found by the last query.
+     * Only the amount of entries returned by the query are valid.
+     */
+    public int[] getResults() {
+        return results;
+    }
+
+    /**
+     * Remove all objects
+     */
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        Arrays.fill(present, false);
+        size = 0;
+    }
+
+    private int nextQueryStamp() {
+        queryStamp++;
+        if (queryStamp == 0) {
+            // the stamp wrapped around, old stamps could match again
+            Arrays.fill(queryStamps, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private int column(float x) {
+        int column = (int) Math.floor((x - minX) / cellSize);
+        return Math.max(0, Math.min(columns - 1, column));
+    }
+
+    private int row(float y) {
+        int row = (int) Math.floor((y - minY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private void addToCell(int cell, int id) {
+        int[] ids = cells[cell];
+        if (ids == null) {
+            ids = cells[cell] = new int[INITIAL_CELL_CAPACITY];
+        } else if (cellCounts[cell] == ids.length) {
+            ids = cells[cell] = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[cellCounts[cell]++] = id;
+    }
+
+    private void removeFromCell(int cell, int id) {
+        int[] ids = cells[cell];
+        int count = cellCounts[cell];
+
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                ids[i] = ids[count - 1];
+                cellCounts[cell]--;
+                return;
+            }
+        }
+    }
+
+    private void ensureIdCapacity(int capacity) {
+        if (present.length >= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, present.length * 2);
+        bounds = Arrays.copyOf(bounds, newCapacity * 4);
+        present = Arrays.copyOf(present, newCapacity);
+        queryStamps = Arrays.copyOf(queryStamps, newCapacity);
+    }
+
+}
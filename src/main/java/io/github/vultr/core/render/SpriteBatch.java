@@ -0,0 +1,269 @@
+package io.github.vultr.core.render;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL33.glGenBuffers;
+import static org.lwjgl.opengl.GL33.glBindBuffer;
+import static org.lwjgl.opengl.GL33.glDeleteBuffers;
+import static org.lwjgl.opengl.GL33.glBindVertexArray;
+import static org.lwjgl.opengl.GL33.glGenVertexArrays;
+import static org.lwjgl.opengl.GL33.glDeleteVertexArrays;
+import static org.lwjgl.opengl.GL33.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL33.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL33.GL_FLOAT;
+import static org.lwjgl.opengl.GL33.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL33.GL_STATIC_DRAW;
+import static org.lwjgl.opengl.GL33.GL_DYNAMIC_DRAW;
+import static org.lwjgl.opengl.GL33.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL33.GL_ELEMENT_ARRAY_BUFFER;
+
+import io.github.vultr.utils.render.ShaderProgram;
+import io.github.vultr.utils.render.Texture;
+import io.github.vultr.utils.render.TextureRegion;
+import lombok.Getter;
+
+/**
+ * Batched 2D quad renderer.
+ * Quads are collected into one dynamic vertex buffer which is allocated once
+ * and drawn with a single draw call per flush.
+ *
+ * The shader program used while drawing has to use the attribute layout of
+ * {@code assets/shaders/sprite_vertex.glsl}. Its {@code uTextures} samplers
+ * are mapped to the texture units 0 to {@link QuadBatch#MAX_TEXTURE_SLOTS} - 1
+ * and its {@code uProjView} matrix is set when the program is passed to
+ * {@link #begin(ShaderProgram, Camera)}.
+ */
+public class SpriteBatch {
+
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    private static final Matrix4f IDENTITY = new Matrix4f();
+
+    private static final int[] TEXTURE_UNITS = new int[QuadBatch.MAX_TEXTURE_SLOTS];
+
+    static {
+        for (int i = 0; i < TEXTURE_UNITS.length; i++) {
+            TEXTURE_UNITS[i] = i;
+        }
+    }
+
+    private final QuadBatch batch;
+
+    private final FloatBuffer vertexBuffer;
+
+    private int vaoId;
+    private int vboId;
+    private int eboId;
+
+    @Getter
+    private boolean initialized;
+
+    @Getter
+    private boolean drawing;
+
+    private ShaderProgram program;
+
+    @Getter
+    private int drawCalls; // draw calls issued since the last begin
+
+    public SpriteBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SpriteBatch(int capacity) {
+        this.batch = new QuadBatch(capacity);
+        this.vertexBuffer = BufferUtils.createFloatBuffer(capacity * QuadBatch.QUAD_SIZE);
+    }
+
+    /**
+     * Create the buffer objects of the batch.
+     * Has to be called on the thread owning the OpenGL context.
+     */
+    public void init() {
+        if (initialized) {
+            return;
+        }
+
+        // generate vao
+        vaoId = glGenVertexArrays();
+        glBindVertexArray(vaoId);
+
+        // allocate the vertex buffer once, it is only updated afterwards
+        vboId = glGenBuffers();
+        glBindBuffer(GL_ARRAY_BUFFER, vboId);
+        RenderDevice.bufferData(GL_ARRAY_BUFFER, (long) vertexBuffer.capacity() * Float.BYTES, GL_DYNAMIC_DRAW);
+
+        // the index buffer never changes, so it is uploaded up front
+        int[] indices = QuadBatch.createIndices(batch.getCapacity());
+        IntBuffer elementBuffer = BufferUtils.createIntBuffer(indices.length);
+        elementBuffer.put(indices).flip();
+
+        eboId = glGenBuffers();
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, eboId);
+        RenderDevice.bufferData(GL_ELEMENT_ARRAY_BUFFER, elementBuffer, GL_STATIC_DRAW);
+
+        // add vertex attribute pointers
+        attribute(0, QuadBatch.POSITION_SIZE, QuadBatch.POSITION_OFFSET);
+        attribute(1, QuadBatch.COLOR_SIZE, QuadBatch.COLOR_OFFSET);
+        attribute(2, QuadBatch.UV_SIZE, QuadBatch.UV_OFFSET);
+        attribute(3, QuadBatch.TEXTURE_SLOT_SIZE, QuadBatch.TEXTURE_SLOT_OFFSET);
+
+        glBindVertexArray(0);
+
+        this.initialized = true;
+    }
+
+    private void attribute(int index, int size, int offset) {
+        glVertexAttribPointer(index, size, GL_FLOAT, false, QuadBatch.VERTEX_SIZE_BYTES, (long) offset * Float.BYTES);
+        glEnableVertexAttribArray(index);
+    }
+
+    /**
+     * Start collecting quads using the currently bound program
+     */
+    public void begin() {
+        begin(null);
+    }
+
+    /**
+     * Start collecting quads in clip space, the program is bound until {@link #end()}
+     *
+     * @param program the program to draw with, or null to keep the bound one
+     */
+    public void begin(ShaderProgram program) {
+        begin(program, null);
+    }
+
+    /**
+     * Start collecting quads in world space, the program is bound until {@link #end()}
+     *
+     * @param program the program to draw with, or null to keep the bound one
+     * @param camera the camera to draw with, or null to draw in clip space
+     */
+    public void begin(ShaderProgram program, Camera camera) {
+        if (drawing)
+            throw new IllegalStateException("SpriteBatch.end() has to be called before begin()");
+
+        init();
+        batch.clear();
+        drawCalls = 0;
+        drawing = true;
+
+        this.program = program;
+        if (program != null) {
+            program.bind();
+            program.setIntArray("uTextures", TEXTURE_UNITS);
+            program.setMat4("uProjView", camera != null ? camera.getViewProjection() : IDENTITY);
+        }
+    }
+
+    /**
+     * Draw a quad using only a color
+     */
+    public void draw(float x, float y, float width, float height, float r, float g, float b, float a) {
+        draw(0, x, y, width, height, 0, 0, 1, 1, r, g, b, a);
+    }
+
+    /**
+     * Draw a whole texture
+     */
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        draw(texture.getTextureId(), x, y, width, height, 0, 0, 1, 1, 1, 1, 1, 1);
+    }
+
+    /**
+     * Draw a texture region, e.g. a sprite of a texture atlas
+     */
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        draw(region, x, y, width, height, 1, 1, 1, 1);
+    }
+
+    /**
+     * Draw a tinted texture region
+     */
+    public void draw(TextureRegion region, float x, float y, float width, float height,
+            float r, float g, float b, float a) {
+        draw(region.getTexture().getTextureId(), x, y, width, height,
+                region.getU0(), region.getV0(), region.getU1(), region.getV1(), r, g, b, a);
+    }
+
+    /**
+     * Draw a textured quad
+     */
+    public void draw(int textureId, float x, float y, float width, float height,
+            float u0, float v0, float u1, float v1,
+            float r, float g, float b, float a) {
+        if (!drawing)
+            throw new IllegalStateException("SpriteBatch.begin() has to be called before drawing");
+
+        if (!batch.add(x, y, width, height, r, g, b, a, u0, v0, u1, v1, textureId)) {
+            flush();
+            batch.add(x, y, width, height, r, g, b, a, u0, v0, u1, v1, textureId);
+        }
+    }
+
+    /**
+     * Stop collecting quads and draw the remaining ones
+     */
+    public void end() {
+        if (!drawing)
+            throw new IllegalStateException("SpriteBatch.begin() has to be called before end()");
+
+        flush();
+        drawing = false;
+
+        if (program != null) {
+            program.unbind();
+            program = null;
+        }
+    }
+
+    /**
+     * Upload the collected quads and draw them with a single draw call
+     */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        vertexBuffer.clear();
+        vertexBuffer.put(batch.getVertices(), 0, batch.getVertexDataLength()).flip();
+
+        glBindBuffer(GL_ARRAY_BUFFER, vboId);
+        RenderDevice.bufferSubData(GL_ARRAY_BUFFER, 0, vertexBuffer);
+
+        // bind the textures used by the batch
+        for (int i = 0; i < batch.getTextureCount(); i++) {
+            RenderDevice.bindTexture(i, GL_TEXTURE_2D, batch.getTextureId(i));
+        }
+
+        glBindVertexArray(vaoId);
+        RenderDevice.drawElements(GL_TRIANGLES, batch.getIndexCount(), GL_UNSIGNED_INT, 0);
+        glBindVertexArray(0);
+
+        drawCalls++;
+        batch.clear();
+    }
+
+    /**
+     * Delete the buffer objects of the batch
+     */
+    public void dispose() {
+        if (!initialized) {
+            return;
+        }
+
+        glDeleteBuffers(vboId);
+        glDeleteBuffers(eboId);
+        glDeleteVertexArrays(vaoId);
+
+        this.initialized = false;
+    }
+
+}
@@ -0,0 +1,298 @@
+package io.github.vultr.core.render;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL33.GL_STREAM_DRAW;
+import static org.lwjgl.opengl.GL33.GL_MAP_WRITE_BIT;
+import static org.lwjgl.opengl.GL33.GL_MAP_UNSYNCHRONIZED_BIT;
+import static org.lwjgl.opengl.GL33.GL_MAP_INVALIDATE_RANGE_BIT;
+import static org.lwjgl.opengl.GL33.GL_SYNC_FLUSH_COMMANDS_BIT;
+import static org.lwjgl.opengl.GL33.GL_ALREADY_SIGNALED;
+import static org.lwjgl.opengl.GL33.GL_CONDITION_SATISFIED;
+import static org.lwjgl.opengl.GL33.GL_WAIT_FAILED;
+
+import lombok.Getter;
+
+/**
+ * Ring of per frame regions in one large buffer object for geometry written every frame.
+ * Writes go straight into mapped buffer memory without synchronizing with the driver.
+ * A region is only reused after the fence placed when it was finished is signaled,
+ * so the GPU never reads memory that is being overwritten.
+ *
+ * Without fence support the buffer is orphaned instead every time the ring wraps around,
+ * which lets the driver hand out fresh memory while the old one is still in use.
+ *
+ * Every GL call goes through the {@link RenderDevice}, so the ring can be driven
+ * by a fake {@link GLBackend}.
+ */
+public class StreamBuffer {
+
+    public static final int DEFAULT_REGION_COUNT = 3;
+
+    public static final int DEFAULT_ALIGNMENT = 16;
+
+    // how long a single wait for a fence may block before checking again
+    private static final long WAIT_TIMEOUT_NANOS = 1_000_000;
+
+    private static final int MAP_ACCESS = GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT;
+
+    @Getter
+    private final int target;
+    @Getter
+    private final int regionSize;
+    @Getter
+    private final int regionCount;
+    @Getter
+    private final int alignment;
+
+    // fence of every region, 0 if the region is not in use by the GPU
+    private final long[] fences;
+
+    @Getter
+    private int bufferId; // 0 until initialized
+
+    @Getter
+    private boolean fenced;
+
+    @Getter
+    private int region;
+    private int cursor;
+
+    @Getter
+    private boolean mapped;
+    private long mappedOffset;
+    private int mappedLength;
+
+    // times the CPU had to wait for the GPU to finish a region
+    @Getter
+    private long stalls;
+
+    @Getter
+    private long orphans;
+
+    public StreamBuffer(int target, int regionSize) {
+        this(target, regionSize, DEFAULT_REGION_COUNT, DEFAULT_ALIGNMENT);
+    }
+
+    /**
+     * @param target      e.g. GL_ARRAY_BUFFER
+     * @param regionSize  bytes that can be written per frame
+     * @param regionCount frames the GPU may lag behind before writing has to wait
+     * @param alignment   of the start of every allocation, in bytes
+     */
+    public StreamBuffer(int target, int regionSize, int regionCount, int alignment) {
+        if (regionSize <= 0 || regionCount <= 0)
+            throw new IllegalArgumentException("Region size and count must be positive");
+        if (alignment <= 0 || Integer.bitCount(alignment) != 1)
+            throw new IllegalArgumentException("Alignment must be a power of two: " + alignment);
+
+        this.target = target;
+        this.regionSize = regionSize;
+        this.regionCount = regionCount;
+        this.alignment = alignment;
+        this.fences = new long[regionCount];
+    }
+
+    /**
+     * Create the buffer object.
+     * Has to be called on the thread owning the OpenGL context.
+     */
+    public void init() {
+        if (bufferId != 0) {
+            return;
+        }
+
+        fenced = RenderDevice.isFenceSyncSupported();
+
+        bufferId = RenderDevice.genBuffer();
+        RenderDevice.bindBuffer(target, bufferId);
+        RenderDevice.bufferData(target, getSize(), GL_STREAM_DRAW);
+        RenderDevice.bindBuffer(target, 0);
+    }
+
+    /**
+     * Map memory for writing, moving to the next region if the current one is full.
+     * The buffer stays bound to its target until {@link #unmap()}.
+     *
+     * @param bytes at most the region size
+     * @return the mapped memory
+     */
+    public ByteBuffer map(int bytes) {
+        if (mapped)
+            throw new IllegalStateException("StreamBuffer.unmap() has to be called before mapping again");
+        if (bytes <= 0 || bytes > regionSize)
+            throw new IllegalArgumentException("Can not map " + bytes + " bytes of a " + regionSize + " byte region");
+
+        init();
+
+        int start = align(cursor);
+        if (start + bytes > regionSize) {
+            advance();
+            start = 0;
+        }
+
+        mappedOffset = (long) region * regionSize + start;
+        mappedLength = bytes;
+
+        RenderDevice.bindBuffer(target, bufferId);
+        ByteBuffer memory = RenderDevice.mapBufferRange(target, mappedOffset, bytes, MAP_ACCESS);
+        if (memory == null) {
+            RenderDevice.bindBuffer(target, 0);
+            throw new IllegalStateException("Failed to map " + bytes + " bytes of the stream buffer");
+        }
+
+        cursor = start + bytes;
+        mapped = true;
+        return memory;
+    }
+
+    /**
+     * Finish writing the mapped memory
+     *
+     * @return the offset of the written data in the buffer, used for drawing
+     */
+    public long unmap() {
+        if (!mapped)
+            throw new IllegalStateException("StreamBuffer.map() has to be called before unmap()");
+
+        RenderDevice.bindBuffer(target, bufferId);
+        boolean intact = RenderDevice.unmapBuffer(target);
+        mapped = false;
+
+        // the memory can be lost e.g. when the display mode changes
+        if (!intact)
+            throw new IllegalStateException("The contents of the stream buffer were lost");
+
+        return mappedOffset;
+    }
+
+    /**
+     * Returns the length of the last mapped range
+     */
+    public int getMappedLength() {
+        return mappedLength;
+    }
+
+    /**
+     * Finish the region of the frame, called after the draw calls reading it were issued
+     */
+    public void endFrame() {
+        if (mapped)
+            throw new IllegalStateException("StreamBuffer.unmap() has to be called before ending the frame");
+
+        if (cursor > 0)
+            advance();
+    }
+
+    /**
+     * Fence the current region and move to the next one,
+     * waiting until the GPU is done with it
+     */
+    private void advance() {
+        if (fenced)
+            fences[region] = RenderDevice.fenceSync();
+
+        region = (region + 1) % regionCount;
+        cursor = 0;
+
+        if (fenced) {
+            waitForRegion(region);
+        } else if (region == 0) {
+            orphan();
+        }
+    }
+
+    private void waitForRegion(int index) {
+        long fence = fences[index];
+        if (fence == 0) {
+            return;
+        }
+
+        boolean waited = false;
+        while (true) {
+            int result = RenderDevice.clientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, WAIT_TIMEOUT_NANOS);
+            if (result == GL_ALREADY_SIGNALED || result == GL_CONDITION_SATISFIED) {
+                if (result == GL_CONDITION_SATISFIED)
+                    waited = true;
+                break;
+            }
+
+            if (result == GL_WAIT_FAILED) {
+                // the fences can not be trusted anymore, fall back to orphaning
+                deleteFences();
+                fenced = false;
+                region = 0;
+                orphan();
+                return;
+            }
+
+            // timeout expired, keep waiting
+            waited = true;
+        }
+
+        if (waited)
+            stalls++;
+
+        RenderDevice.deleteSync(fence);
+        fences[index] = 0;
+    }
+
+    /**
+     * Replace the storage of the buffer, the old one is freed once the GPU is done with it
+     */
+    private void orphan() {
+        RenderDevice.bindBuffer(target, bufferId);
+        RenderDevice.bufferData(target, getSize(), GL_STREAM_DRAW);
+        RenderDevice.bindBuffer(target, 0);
+        orphans++;
+    }
+
+    private int align(int offset) {
+        return (offset + alignment - 1) & -alignment;
+    }
+
+    /**
+     * Returns the size of the whole buffer in bytes
+     */
+    public long getSize() {
+        return (long) regionSize * regionCount;
+    }
+
+    /**
+     * Returns the bytes that can still be mapped before moving to the next region
+     */
+    public int getRemaining() {
+        return Math.max(0, regionSize - align(cursor));
+    }
+
+    /**
+     * Delete the buffer object and the fences
+     */
+    public void dispose() {
+        if (bufferId == 0) {
+            return;
+        }
+
+        if (mapped) {
+            RenderDevice.bindBuffer(target, bufferId);
+            RenderDevice.unmapBuffer(target);
+            mapped = false;
+        }
+
+        deleteFences();
+        RenderDevice.deleteBuffer(bufferId);
+        bufferId = 0;
+        region = 0;
+        cursor = 0;
+    }
+
+    private void deleteFences() {
+        for (int i = 0; i < fences.length; i++) {
+            if (fences[i] != 0) {
+                RenderDevice.deleteSync(fences[i]);
+                fences[i] = 0;
+            }
+        }
+    }
+
+}
@@ -1,5 +1,9 @@
 package io.github.vultr.core.scene;
 
+import io.github.vultr.core.ecs.SystemScheduler;
+import io.github.vultr.core.ecs.World;
+import io.github.vultr.core.physics.PhysicsWorld;
+import io.github.vultr.core.render.Camera;
 import io.github.vultr.core.window.Window;
 import lombok.Getter;
 
@@ -8,8 +12,43 @@ public abstract class Scene {
     @Getter
     private Window window;
 
+    @Getter
+    private Camera camera;
+
+    // entities of the scene, created on first use
+    private World world;
+
+    // transform hierarchy of the scene, created on first use
+    private SceneGraph sceneGraph;
+
+    // null until enabled with enablePhysics
+    @Getter
+    private PhysicsWorld physics;
+
+    // update systems run on the world by updateSystems, created on first use
+    private SystemScheduler systems;
+
     public Scene(Window window) {
         this.window = window;
+        this.camera = new Camera(window);
+    }
+
+    public World getWorld() {
+        if (world == null)
+            world = new World();
+        return world;
+    }
+
+    public SceneGraph getSceneGraph() {
+        if (sceneGraph == null)
+            sceneGraph = new SceneGraph();
+        return sceneGraph;
+    }
+
+    public SystemScheduler getSystems() {
+        if (systems == null)
+            systems = new SystemScheduler();
+        return systems;
     }
 
     public abstract void init();
@@ -18,6 +57,51 @@ public abstract class Scene {
 
     public abstract void draw(float delta);
 
+    /**
+     * Called instead of {@link #draw(float)} when the window runs with a fixed timestep.
+     *
+     * @param delta the time since the last frame
+     * @param alpha how far the frame is between the last and the next update,
+     *              used to interpolate between update states
+     */
+    public void draw(float delta, float alpha) {
+        draw(delta);
+    }
+
+    /**
+     * Run the update systems of the scene on its world,
+     * usually called from {@link #update(float)}.
+     *
+     * @param delta
+     */
+    protected void updateSystems(float delta) {
+        if (systems != null)
+            systems.update(getWorld(), delta);
+    }
+
+    /**
+     * Give the scene a physics world
+     *
+     * @param gravityX
+     * @param gravityY
+     * @return the physics world
+     */
+    protected PhysicsWorld enablePhysics(float gravityX, float gravityY) {
+        if (physics == null)
+            physics = new PhysicsWorld(gravityX, gravityY);
+        return physics;
+    }
+
+    /**
+     * Step the physics world at its fixed rate, usually called from {@link #update(float)}.
+     *
+     * @param delta
+     */
+    protected void updatePhysics(float delta) {
+        if (physics != null)
+            physics.update(delta);
+    }
+
     public void onSceneEnter(Scene previousScene) {
         init();
     }
@@ -25,4 +109,14 @@ public abstract class Scene {
     public void onSceneExit() {
     }
 
+    /**
+     * Called when the framebuffer of the window is resized
+     *
+     * @param width
+     * @param height
+     */
+    public void onResize(int width, int height) {
+        camera.setViewport(width, height);
+    }
+
 }
@@ -0,0 +1,392 @@
+package io.github.vultr.core.scene;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import org.joml.Matrix4f;
+
+import lombok.Getter;
+
+/**
+ * A hierarchy of 2D transforms.
+ * Nodes are int handles with a local position, rotation and scale.
+ * World matrices are cached and {@link #update()} only recomputes the
+ * subtrees below nodes whose local transform or parent changed.
+ *
+ * World matrices are stored column major, 16 floats per node,
+ * so they can be copied into vertex or instance buffers as they are.
+ */
+public class SceneGraph {
+
+    public static final int NONE = -1;
+
+    public static final int MATRIX_SIZE = 16;
+
+    private int capacity = 64;
+
+    // hierarchy, siblings are a doubly linked list
+    private int[] parents = new int[capacity];
+    private int[] firstChildren = new int[capacity];
+    private int[] nextSiblings = new int[capacity];
+    private int[] previousSiblings = new int[capacity];
+
+    // local transforms
+    private float[] xs = new float[capacity];
+    private float[] ys = new float[capacity];
+    private float[] rotations = new float[capacity];
+    private float[] scaleXs = new float[capacity];
+    private float[] scaleYs = new float[capacity];
+
+    private float[] worldMatrices = new float[capacity * MATRIX_SIZE];
+
+    private boolean[] alive = new boolean[capacity];
+    private boolean[] dirty = new boolean[capacity];
+
+    // nodes marked dirty since the last update
+    private int[] dirtyNodes = new int[64];
+    private int dirtyCount;
+
+    private int nodeCount; // indices in use or freed
+    private int[] freeNodes = new int[16];
+    private int freeCount;
+
+    @Getter
+    private int size;
+
+    @Getter
+    private int updated; // world matrices recomputed by the last update
+
+    private int[] stack = new int[64];
+
+    private final Matrix4f parentMatrix = new Matrix4f();
+    private final Matrix4f matrix = new Matrix4f();
+
+    /**
+     * Create a root node with an identity transform
+     *
+     * @return the node
+     */
+    public int create() {
+        return create(NONE);
+    }
+
+    /**
+     * Create a node with an identity transform
+     *
+     * @param parent the parent node or {@link #NONE}
+     * @return the node
+     */
+    public int create(int parent) {
+        if (parent != NONE)
+            checkAlive(parent);
+
+        int node;
+        if (freeCount > 0) {
+            node = freeNodes[--freeCount];
+        } else {
+            if (nodeCount == capacity)
+                grow();
+            node = nodeCount++;
+        }
+
+        alive[node] = true;
+        parents[node] = NONE;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        previousSiblings[node] = NONE;
+
+        xs[node] = 0;
+        ys[node] = 0;
+        rotations[node] = 0;
+        scaleXs[node] = 1;
+        scaleYs[node] = 1;
+
+        size++;
+
+        attach(node, parent);
+        markDirty(node);
+        return node;
+    }
+
+    /**
+     * Destroy a node and all nodes below it
+     *
+     * @param node
+     */
+    public void destroy(int node) {
+        checkAlive(node);
+        detach(node);
+
+        int top = push(0, node);
+        while (top > 0) {
+            int current = stack[--top];
+
+            for (int child = firstChildren[current]; child != NONE; child = nextSiblings[child]) {
+                top = push(top, child);
+            }
+
+            alive[current] = false;
+            dirty[current] = false;
+            size--;
+
+            if (freeCount == freeNodes.length)
+                freeNodes = Arrays.copyOf(freeNodes, freeCount * 2);
+            freeNodes[freeCount++] = current;
+        }
+    }
+
+    public boolean isAlive(int node) {
+        return node >= 0 && node < nodeCount && alive[node];
+    }
+
+    /**
+     * Move a node and its subtree below another node
+     *
+     * @param node
+     * @param parent the new parent or {@link #NONE} to make the node a root
+     */
+    public void setParent(int node, int parent) {
+        checkAlive(node);
+        if (parent != NONE) {
+            checkAlive(parent);
+            for (int ancestor = parent; ancestor != NONE; ancestor = parents[ancestor]) {
+                if (ancestor == node)
+                    throw new IllegalArgumentException("A node can not be moved below itself");
+            }
+        }
+
+        detach(node);
+        attach(node, parent);
+        markDirty(node);
+    }
+
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    public void setPosition(int node, float x, float y) {
+        xs[node] = x;
+        ys[node] = y;
+        markDirty(node);
+    }
+
+    public void translate(int node, float x, float y) {
+        setPosition(node, xs[node] + x, ys[node] + y);
+    }
+
+    /**
+     * @param node
+     * @param rotation counter clockwise in radians
+     */
+    public void setRotation(int node, float rotation) {
+        rotations[node] = rotation;
+        markDirty(node);
+    }
+
+    public void setScale(int node, float scaleX, float scaleY) {
+        scaleXs[node] = scaleX;
+        scaleYs[node] = scaleY;
+        markDirty(node);
+    }
+
+    public float getX(int node) {
+        return xs[node];
+    }
+
+    public float getY(int node) {
+        return ys[node];
+    }
+
+    public float getRotation(int node) {
+        return rotations[node];
+    }
+
+    public float getScaleX(int node) {
+        return scaleXs[node];
+    }
+
+    public float getScaleY(int node) {
+        return scaleYs[node];
+    }
+
+    /**
+     * Returns the local transform of a node
+     */
+    public Matrix4f getLocal(int node, Matrix4f dest) {
+        return dest.translation(xs[node], ys[node], 0)
+                .rotateZ(rotations[node])
+                .scale(scaleXs[node], scaleYs[node], 1);
+    }
+
+    /**
+     * Returns the world transform of a node as of the last update
+     */
+    public Matrix4f getWorld(int node, Matrix4f dest) {
+        return dest.set(worldMatrices, node * MATRIX_SIZE);
+    }
+
+    public float getWorldX(int node) {
+        return worldMatrices[node * MATRIX_SIZE + 12];
+    }
+
+    public float getWorldY(int node) {
+        return worldMatrices[node * MATRIX_SIZE + 13];
+    }
+
+    /**
+     * Returns the world matrices of all nodes, 16 floats per node starting at node * 16.
+     * The array is replaced when the graph grows.
+     */
+    public float[] getWorldMatrices() {
+        return worldMatrices;
+    }
+
+    /**
+     * Write the world matrix of a node at the position of the buffer and advance it
+     */
+    public void writeWorld(int node, FloatBuffer dest) {
+        dest.put(worldMatrices, node * MATRIX_SIZE, MATRIX_SIZE);
+    }
+
+    /**
+     * Write the world matrix of a node into an array, e.g. a vertex or instance buffer
+     */
+    public void writeWorld(int node, float[] dest, int offset) {
+        System.arraycopy(worldMatrices, node * MATRIX_SIZE, dest, offset, MATRIX_SIZE);
+    }
+
+    /**
+     * Recompute the world matrices of all changed subtrees
+     *
+     * @return the amount of recomputed nodes
+     */
+    public int update() {
+        updated = 0;
+
+        for (int i = 0; i < dirtyCount; i++) {
+            int node = dirtyNodes[i];
+            if (!alive[node] || !dirty[node] || hasDirtyAncestor(node))
+                continue;
+
+            updateSubtree(node);
+        }
+
+        dirtyCount = 0;
+        return updated;
+    }
+
+    private boolean hasDirtyAncestor(int node) {
+        for (int ancestor = parents[node]; ancestor != NONE; ancestor = parents[ancestor]) {
+            if (dirty[ancestor])
+                return true;
+        }
+        return false;
+    }
+
+    private void updateSubtree(int root) {
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+
+            // world = parent world * local
+            int parent = parents[node];
+            getLocal(node, matrix);
+            if (parent != NONE)
+                getWorld(parent, parentMatrix).mulAffine(matrix, matrix);
+            matrix.get(worldMatrices, node * MATRIX_SIZE);
+
+            dirty[node] = false;
+            updated++;
+
+            for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+                top = push(top, child);
+            }
+        }
+    }
+
+    private void markDirty(int node) {
+        if (dirty[node]) {
+            return;
+        }
+
+        dirty[node] = true;
+        if (dirtyCount == dirtyNodes.length)
+            dirtyNodes = Arrays.copyOf(dirtyNodes, dirtyCount * 2);
+        dirtyNodes[dirtyCount++] = node;
+    }
+
+    private void attach(int node, int parent) {
+        parents[node] = parent;
+        if (parent == NONE) {
+            return;
+        }
+
+        int first = firstChildren[parent];
+        nextSiblings[node] = first;
+        previousSiblings[node] = NONE;
+        if (first != NONE)
+            previousSiblings[first] = node;
+        firstChildren[parent] = node;
+    }
+
+    private void detach(int node) {
+        int parent = parents[node];
+        if (parent == NONE) {
+            return;
+        }
+
+        int previous = previousSiblings[node];
+        int next = nextSiblings[node];
+        if (previous != NONE)
+            nextSiblings[previous] = next;
+        else
+            firstChildren[parent] = next;
+        if (next != NONE)
+            previousSiblings[next] = previous;
+
+        parents[node] = NONE;
+        nextSiblings[node] = NONE;
+        previousSiblings[node] = NONE;
+    }
+
+    private int push(int top, int node) {
+        if (top == stack.length)
+            stack = Arrays.copyOf(stack, top * 2);
+        stack[top] = node;
+        return top + 1;
+    }
+
+    private void checkAlive(int node) {
+        if (!isAlive(node))
+            throw new IllegalArgumentException("Scene graph node " + node + " does not exist");
+    }
+
+    private void grow() {
+        capacity *= 2;
+
+        parents = Arrays.copyOf(parents, capacity);
+        firstChildren = Arrays.copyOf(firstChildren, capacity);
+        nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+        previousSiblings = Arrays.copyOf(previousSiblings, capacity);
+
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        rotations = Arrays.copyOf(rotations, capacity);
+        scaleXs = Arrays.copyOf(scaleXs, capacity);
+        scaleYs = Arrays.copyOf(scaleYs, capacity);
+
+        worldMatrices = Arrays.copyOf(worldMatrices, capacity * MATRIX_SIZE);
+
+        alive = Arrays.copyOf(alive, capacity);
+        dirty = Arrays.copyOf(dirty, capacity);
+    }
+
+}
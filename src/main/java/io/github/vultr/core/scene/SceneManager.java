@@ -15,7 +15,7 @@ public class SceneManager {
     private static List<Scene> scenes = new ArrayList<>();
 
     @Getter
-    private static Scene currentScene;
+    private static volatile Scene currentScene;
     @Getter
     private static Scene previousScene;
 
@@ -45,7 +45,19 @@ public class SceneManager {
         scenes.add(scene);
     }
 
-    public static void changeScene(Class<? extends Scene> scene) {
+    /**
+     * Change the current scene.
+     * When the window runs threaded and this is called from the update thread,
+     * the change happens on the render thread before the next frame.
+     *
+     * @param scene
+     */
+    public static synchronized void changeScene(Class<? extends Scene> scene) {
+        if (deferToRenderThread()) {
+            window.runOnRenderThread(() -> changeScene(scene));
+            return;
+        }
+
         previousScene = currentScene;
         if (currentScene != null)
             currentScene.onSceneExit();
@@ -55,7 +67,19 @@ public class SceneManager {
         sceneIndex = getSceneIndex(scene);
     }
 
-    public static void changeScene(int index) {
+    /**
+     * Change the current scene.
+     * When the window runs threaded and this is called from the update thread,
+     * the change happens on the render thread before the next frame.
+     *
+     * @param index
+     */
+    public static synchronized void changeScene(int index) {
+        if (deferToRenderThread()) {
+            window.runOnRenderThread(() -> changeScene(index));
+            return;
+        }
+
         previousScene = currentScene;
         if (currentScene != null)
             currentScene.onSceneExit();
@@ -65,6 +89,21 @@ public class SceneManager {
         sceneIndex = index;
     }
 
+    /**
+     * Update the current scene.
+     * Scene changes wait for a running update to finish.
+     *
+     * @param delta
+     */
+    public static synchronized void update(float delta) {
+        currentScene.update(delta);
+    }
+
+    // scenes initialize OpenGL resources, which only works on the render thread
+    private static boolean deferToRenderThread() {
+        return window.isThreaded() && window.isWindowReady() && !window.isRenderThread();
+    }
+
     /**
      * Returns a scene in the scene list
      * based on the provided scene class.
@@ -91,6 +130,18 @@ public class SceneManager {
         return scenes.get(index);
     }
 
+    /**
+     * Notify all scenes about a new framebuffer size
+     *
+     * @param width
+     * @param height
+     */
+    public static void resize(int width, int height) {
+        for (int i = 0; i < scenes.size(); i++) {
+            scenes.get(i).onResize(width, height);
+        }
+    }
+
     public static boolean hasScene() {
         return scenes.size() > 0;
     }
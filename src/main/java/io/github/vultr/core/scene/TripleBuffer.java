@@ -0,0 +1,70 @@
+package io.github.vultr.core.scene;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock free handoff of state from one writing thread to one reading thread.
+ * The writer fills the write buffer and publishes it, the reader always
+ * acquires the most recently published buffer. Neither side ever waits.
+ *
+ * A write buffer can contain the state of an older publish,
+ * so writers have to overwrite everything the reader uses.
+ *
+ * @param <T> the state type
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final Object[] buffers;
+
+    // index of the buffer between writer and reader, plus a flag if it was not read yet
+    private final AtomicInteger middle = new AtomicInteger(2);
+
+    private int writeIndex = 0; // only used by the writer
+    private int readIndex = 1; // only used by the reader
+
+    public TripleBuffer(Supplier<T> factory) {
+        this.buffers = new Object[] { factory.get(), factory.get(), factory.get() };
+    }
+
+    /**
+     * Returns the buffer the writer can fill
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * Make the write buffer available to the reader
+     * and continue with a different write buffer.
+     */
+    public void publish() {
+        int previous = middle.getAndSet(writeIndex | FRESH);
+        writeIndex = previous & INDEX_MASK;
+    }
+
+    /**
+     * Returns true if a buffer was published since the last acquire
+     */
+    public boolean hasUpdate() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    /**
+     * Returns the latest published buffer.
+     * Returns the same buffer again if nothing was published in between.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (hasUpdate()) {
+            int previous = middle.getAndSet(readIndex);
+            readIndex = previous & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+
+}
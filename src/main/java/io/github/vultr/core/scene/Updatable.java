@@ -0,0 +1,11 @@
+package io.github.vultr.core.scene;
+
+/**
+ * Something that is updated with the time passed since its last update
+ */
+@FunctionalInterface
+public interface Updatable {
+
+    void update(float delta);
+
+}
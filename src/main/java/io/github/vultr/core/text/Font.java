@@ -0,0 +1,287 @@
+package io.github.vultr.core.text;
+
+import static org.lwjgl.stb.STBTruetype.stbtt_ScaleForPixelHeight;
+import static org.lwjgl.stb.STBTruetype.stbtt_GetFontVMetrics;
+import static org.lwjgl.stb.STBTruetype.stbtt_GetFontBoundingBox;
+import static org.lwjgl.stb.STBTruetype.stbtt_GetCodepointHMetrics;
+import static org.lwjgl.stb.STBTruetype.stbtt_GetCodepointKernAdvance;
+import static org.lwjgl.stb.STBTruetype.stbtt_GetCodepointBitmapBox;
+import static org.lwjgl.stb.STBTruetype.stbtt_MakeCodepointBitmap;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.lwjgl.stb.STBTTFontinfo;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import io.github.vultr.core.render.SpriteBatch;
+import lombok.Getter;
+
+/**
+ * TrueType font rendered at a fixed pixel height.
+ * Glyphs are rasterized when they are first drawn and kept in a {@link FontAtlas},
+ * which can be shared by several fonts. Layouts of drawn strings are cached,
+ * so static text only looks up its glyphs each frame.
+ *
+ * Has to be drawn on the thread owning the OpenGL context.
+ */
+public class Font implements GlyphMetrics {
+
+    public static final int DEFAULT_LAYOUT_CACHE_SIZE = 256;
+
+    private final FontData data;
+    private final STBTTFontinfo info;
+
+    @Getter
+    private final float pixelHeight;
+    private final float scale;
+
+    @Getter
+    private final float ascent;
+    @Getter
+    private final float descent;
+    @Getter
+    private final float lineHeight;
+
+    @Getter
+    private final FontAtlas atlas;
+    private final boolean ownsAtlas;
+    private final int fontId;
+
+    // advances of the first codepoints, the rest are asked from stb
+    private final float[] advances = new float[256];
+
+    // most recently drawn strings
+    private final Map<String, TextLayout> layouts;
+
+    /**
+     * Load a font with its own atlas
+     *
+     * @param filePath
+     * @param pixelHeight the distance from the lowest descender to the highest ascender
+     */
+    public Font(String filePath, float pixelHeight) {
+        this(filePath, pixelHeight, null);
+    }
+
+    /**
+     * Load a font into a shared atlas
+     *
+     * @param filePath
+     * @param pixelHeight the distance from the lowest descender to the highest ascender
+     * @param atlas       the atlas to rasterize into, null to create one fitting the font
+     */
+    public Font(String filePath, float pixelHeight, FontAtlas atlas) {
+        this(FontData.load(filePath), pixelHeight, atlas);
+    }
+
+    /**
+     * Create a font from a parsed font file, e.g. one loaded by the asset manager.
+     * The font takes ownership of the data and frees it when it is disposed.
+     *
+     * @param data
+     * @param pixelHeight the distance from the lowest descender to the highest ascender
+     * @param atlas       the atlas to rasterize into, null to create one fitting the font
+     */
+    public Font(FontData data, float pixelHeight, FontAtlas atlas) {
+        this.data = data;
+        this.info = data.getInfo();
+
+        this.pixelHeight = pixelHeight;
+        this.scale = stbtt_ScaleForPixelHeight(info, pixelHeight);
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer ascent = stack.mallocInt(1);
+            IntBuffer descent = stack.mallocInt(1);
+            IntBuffer lineGap = stack.mallocInt(1);
+            stbtt_GetFontVMetrics(info, ascent, descent, lineGap);
+
+            this.ascent = ascent.get(0) * scale;
+            this.descent = descent.get(0) * scale;
+            this.lineHeight = (ascent.get(0) - descent.get(0) + lineGap.get(0)) * scale;
+
+            if (atlas == null) {
+                IntBuffer x0 = stack.mallocInt(1);
+                IntBuffer y0 = stack.mallocInt(1);
+                IntBuffer x1 = stack.mallocInt(1);
+                IntBuffer y1 = stack.mallocInt(1);
+                stbtt_GetFontBoundingBox(info, x0, y0, x1, y1);
+
+                // large enough for every glyph of the font
+                int cellWidth = (int) Math.ceil((x1.get(0) - x0.get(0)) * scale) + 1;
+                int cellHeight = (int) Math.ceil((y1.get(0) - y0.get(0)) * scale) + 1;
+                atlas = new FontAtlas(Math.min(cellWidth, FontAtlas.DEFAULT_SIZE),
+                        Math.min(cellHeight, FontAtlas.DEFAULT_SIZE));
+                this.ownsAtlas = true;
+            } else {
+                this.ownsAtlas = false;
+            }
+        }
+
+        this.atlas = atlas;
+        this.fontId = atlas.getCache().registerFont();
+
+        for (int i = 0; i < advances.length; i++) {
+            advances[i] = readAdvance(i);
+        }
+
+        this.layouts = new LinkedHashMap<>(DEFAULT_LAYOUT_CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TextLayout> eldest) {
+                return size() > DEFAULT_LAYOUT_CACHE_SIZE;
+            }
+        };
+    }
+
+    @Override
+    public float getAdvance(int codepoint) {
+        return codepoint < advances.length ? advances[codepoint] : readAdvance(codepoint);
+    }
+
+    @Override
+    public float getKerning(int previous, int codepoint) {
+        return stbtt_GetCodepointKernAdvance(info, previous, codepoint) * scale;
+    }
+
+    /**
+     * Returns the cached layout of a string, laying it out if needed
+     *
+     * @param text
+     * @return the layout
+     */
+    public TextLayout getLayout(String text) {
+        TextLayout layout = layouts.get(text);
+        if (layout == null) {
+            layout = TextLayout.layout(text, this);
+            layouts.put(text, layout);
+        }
+        return layout;
+    }
+
+    public float getWidth(String text) {
+        return getLayout(text).getWidth();
+    }
+
+    /**
+     * Draw a string in white
+     *
+     * @param batch
+     * @param text
+     * @param x     the start of the first line
+     * @param y     the baseline of the first line
+     */
+    public void draw(SpriteBatch batch, String text, float x, float y) {
+        draw(batch, getLayout(text), x, y, 1, 1, 1, 1);
+    }
+
+    /**
+     * Draw a tinted string
+     *
+     * @param batch
+     * @param text
+     * @param x     the start of the first line
+     * @param y     the baseline of the first line
+     */
+    public void draw(SpriteBatch batch, String text, float x, float y, float r, float g, float b, float a) {
+        draw(batch, getLayout(text), x, y, r, g, b, a);
+    }
+
+    /**
+     * Draw a laid out string, one quad per visible glyph
+     *
+     * @param batch
+     * @param layout a layout of this font
+     * @param x      the start of the first line
+     * @param y      the baseline of the first line
+     */
+    public void draw(SpriteBatch batch, TextLayout layout, float x, float y, float r, float g, float b, float a) {
+        GlyphCache cache = atlas.getCache();
+        float width = atlas.getWidth();
+        float height = atlas.getHeight();
+
+        for (int i = 0; i < layout.getGlyphCount(); i++) {
+            int codepoint = layout.getCodepoint(i);
+            if (Character.isWhitespace(codepoint)) {
+                continue;
+            }
+
+            int cell = cache.find(fontId, codepoint);
+            if (cell == GlyphCache.NONE)
+                cell = rasterize(batch, codepoint);
+
+            int glyphWidth = cache.getGlyphWidth(cell);
+            int glyphHeight = cache.getGlyphHeight(cell);
+            if (glyphWidth == 0 || glyphHeight == 0) {
+                continue;
+            }
+
+            int cellX = cache.getCellX(cell);
+            int cellY = cache.getCellY(cell);
+
+            // bitmap rows are stored top down
+            batch.draw(atlas.getTexture().getTextureId(),
+                    x + layout.getX(i) + cache.getOffsetX(cell), y + layout.getY(i) + cache.getOffsetY(cell),
+                    glyphWidth, glyphHeight,
+                    cellX / width, (cellY + glyphHeight) / height,
+                    (cellX + glyphWidth) / width, cellY / height,
+                    r, g, b, a);
+        }
+    }
+
+    /**
+     * Removes all cached layouts
+     */
+    public void clearLayouts() {
+        layouts.clear();
+    }
+
+    /**
+     * Free the font, and its atlas if it was created by the font
+     */
+    public void dispose() {
+        if (ownsAtlas)
+            atlas.dispose();
+        data.free();
+        layouts.clear();
+    }
+
+    private int rasterize(SpriteBatch batch, int codepoint) {
+        GlyphCache cache = atlas.getCache();
+
+        // queued quads may still use the glyph that is evicted
+        if (cache.isFull())
+            batch.flush();
+
+        int cell = cache.allocate(fontId, codepoint);
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer x0 = stack.mallocInt(1);
+            IntBuffer y0 = stack.mallocInt(1);
+            IntBuffer x1 = stack.mallocInt(1);
+            IntBuffer y1 = stack.mallocInt(1);
+            stbtt_GetCodepointBitmapBox(info, codepoint, scale, scale, x0, y0, x1, y1);
+
+            // stb measures downwards from the baseline
+            cache.setGlyph(cell, x0.get(0), -y1.get(0), x1.get(0) - x0.get(0), y1.get(0) - y0.get(0));
+        }
+
+        ByteBuffer coverage = atlas.getCoverage();
+        MemoryUtil.memSet(coverage, 0);
+        stbtt_MakeCodepointBitmap(info, coverage, cache.getGlyphWidth(cell), cache.getGlyphHeight(cell),
+                cache.getCellWidth(), scale, scale, codepoint);
+        atlas.upload(cell);
+        return cell;
+    }
+
+    private float readAdvance(int codepoint) {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer advance = stack.mallocInt(1);
+            stbtt_GetCodepointHMetrics(info, codepoint, advance, null);
+            return advance.get(0) * scale;
+        }
+    }
+
+}
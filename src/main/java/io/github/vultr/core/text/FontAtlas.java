@@ -0,0 +1,92 @@
+package io.github.vultr.core.text;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.system.MemoryUtil;
+
+import io.github.vultr.utils.render.ImageData;
+import io.github.vultr.utils.render.Texture;
+import lombok.Getter;
+
+/**
+ * Texture holding the rasterized glyphs of one or more fonts.
+ * The texture is split into cells of the same size managed by a {@link GlyphCache},
+ * glyphs are uploaded one cell at a time when they are first drawn.
+ *
+ * Glyph coverage is stored in the alpha channel of white pixels,
+ * so the sprite shader tints glyphs with the draw color.
+ */
+public class FontAtlas {
+
+    public static final int DEFAULT_SIZE = 1024;
+
+    @Getter
+    private final GlyphCache cache;
+
+    @Getter
+    private final Texture texture;
+
+    // single channel glyph bitmap, one cell large
+    @Getter
+    private final ByteBuffer coverage;
+
+    // coverage expanded to the pixels of the texture
+    private final ByteBuffer pixels;
+
+    public FontAtlas(int cellWidth, int cellHeight) {
+        this(DEFAULT_SIZE, DEFAULT_SIZE, cellWidth, cellHeight);
+    }
+
+    public FontAtlas(int width, int height, int cellWidth, int cellHeight) {
+        if (cellWidth > width || cellHeight > height)
+            throw new IllegalArgumentException("Cells can not be larger than the atlas");
+
+        this.cache = new GlyphCache(width / cellWidth, height / cellHeight, cellWidth, cellHeight);
+        this.texture = new Texture(width, height);
+        this.coverage = MemoryUtil.memCalloc(cellWidth * cellHeight);
+        this.pixels = MemoryUtil.memAlloc(cellWidth * cellHeight * ImageData.CHANNELS);
+    }
+
+    /**
+     * Upload the coverage buffer into a cell, replacing the glyph that was there before
+     *
+     * @param cell
+     */
+    public void upload(int cell) {
+        if (!texture.isUploaded()) {
+            ImageData empty = ImageData.allocate(texture.getWidth(), texture.getHeight());
+            try {
+                texture.upload(empty);
+            } finally {
+                empty.free();
+            }
+        }
+
+        pixels.clear();
+        for (int i = 0; i < coverage.capacity(); i++) {
+            pixels.put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF).put(coverage.get(i));
+        }
+        pixels.flip();
+
+        texture.upload(cache.getCellX(cell), cache.getCellY(cell),
+                cache.getCellWidth(), cache.getCellHeight(), pixels);
+    }
+
+    public int getWidth() {
+        return texture.getWidth();
+    }
+
+    public int getHeight() {
+        return texture.getHeight();
+    }
+
+    /**
+     * Delete the texture and free the buffers
+     */
+    public void dispose() {
+        texture.dispose();
+        MemoryUtil.memFree(coverage);
+        MemoryUtil.memFree(pixels);
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.github.vultr.core.text;
+
+import static org.lwjgl.stb.STBTruetype.stbtt_InitFont;
+import static org.lwjgl.stb.STBTruetype.stbtt_GetFontOffsetForIndex;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.stb.STBTTFontinfo;
+import org.lwjgl.system.MemoryUtil;
+
+import io.github.vultr.core.exceptions.FailedFontException;
+import io.github.vultr.utils.files.FileReader;
+
+/**
+ * A TrueType file read into native memory and parsed by stb.
+ * It does not depend on a pixel height, so it can be loaded on any thread.
+ * A {@link Font} created from it takes ownership, otherwise it has to be freed.
+ */
+public class FontData {
+
+    private ByteBuffer data;
+    private STBTTFontinfo info;
+
+    private FontData(ByteBuffer data, STBTTFontinfo info) {
+        this.data = data;
+        this.info = info;
+    }
+
+    /**
+     * Read and parse a font file
+     *
+     * @param filePath
+     * @return the parsed font
+     */
+    public static FontData load(String filePath) {
+        ByteBuffer data = FileReader.readDirect(filePath);
+
+        // stb would read in front of the buffer for files that are no font
+        int offset = stbtt_GetFontOffsetForIndex(data, 0);
+        if (offset < 0) {
+            MemoryUtil.memFree(data);
+            throw new FailedFontException("Failed to load font: " + filePath);
+        }
+
+        STBTTFontinfo info = STBTTFontinfo.malloc();
+        if (!stbtt_InitFont(info, data, offset)) {
+            info.free();
+            MemoryUtil.memFree(data);
+            throw new FailedFontException("Failed to load font: " + filePath);
+        }
+
+        return new FontData(data, info);
+    }
+
+    public STBTTFontinfo getInfo() {
+        if (info == null)
+            throw new IllegalStateException("Font data has already been freed");
+        return info;
+    }
+
+    public boolean isFreed() {
+        return info == null;
+    }
+
+    /**
+     * Release the font file and the parsed tables
+     */
+    public void free() {
+        if (info == null) {
+            return;
+        }
+
+        info.free();
+        MemoryUtil.memFree(data);
+        info = null;
+        data = null;
+    }
+
+}
@@ -0,0 +1,236 @@
+package io.github.vultr.core.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Assigns glyphs to the cells of an atlas grid.
+ * When every cell is taken the least recently used glyph is evicted.
+ * Lookups go through per font page tables and the recently used order is an
+ * int linked list, so finding and touching a glyph does not allocate.
+ *
+ * Only does the bookkeeping, the pixels are handled by the {@link FontAtlas}.
+ */
+public class GlyphCache {
+
+    public static final int NONE = -1;
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_COUNT = (Character.MAX_CODE_POINT + 1) >> PAGE_BITS;
+
+    @Getter
+    private final int columns;
+    @Getter
+    private final int rows;
+    @Getter
+    private final int cellWidth;
+    @Getter
+    private final int cellHeight;
+
+    // cell by codepoint per font, pages are created when first used
+    private final List<int[][]> fontPages = new ArrayList<>();
+
+    // owner of every cell
+    private final int[] cellFonts;
+    private final int[] cellCodepoints;
+
+    // placement of the glyph inside its cell, relative to the pen position
+    private final float[] offsetXs;
+    private final float[] offsetYs;
+    private final int[] glyphWidths;
+    private final int[] glyphHeights;
+
+    // recently used order, head is the most recent
+    private final int[] previous;
+    private final int[] next;
+    private int head = NONE;
+    private int tail = NONE;
+
+    private int used;
+
+    @Getter
+    private long evictions;
+
+    public GlyphCache(int columns, int rows, int cellWidth, int cellHeight) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+
+        int cells = columns * rows;
+        cellFonts = new int[cells];
+        cellCodepoints = new int[cells];
+        offsetXs = new float[cells];
+        offsetYs = new float[cells];
+        glyphWidths = new int[cells];
+        glyphHeights = new int[cells];
+        previous = new int[cells];
+        next = new int[cells];
+    }
+
+    /**
+     * Register a font, glyphs of different fonts never share a cell
+     *
+     * @return the id of the font
+     */
+    public int registerFont() {
+        fontPages.add(new int[PAGE_COUNT][]);
+        return fontPages.size() - 1;
+    }
+
+    /**
+     * Returns the cell of a glyph and marks it as recently used
+     *
+     * @return the cell or {@link #NONE} if the glyph is not cached
+     */
+    public int find(int font, int codepoint) {
+        int[] page = fontPages.get(font)[codepoint >> PAGE_BITS];
+        if (page == null) {
+            return NONE;
+        }
+
+        int cell = page[codepoint & (PAGE_SIZE - 1)];
+        if (cell != NONE)
+            touch(cell);
+        return cell;
+    }
+
+    /**
+     * Returns true if allocating a glyph would evict another one
+     */
+    public boolean isFull() {
+        return used == cellFonts.length;
+    }
+
+    /**
+     * Take a cell for a glyph, evicting the least recently used glyph if needed.
+     * The glyph has to be rasterized into the cell afterwards.
+     *
+     * @return the cell
+     */
+    public int allocate(int font, int codepoint) {
+        int cell;
+        if (used < cellFonts.length) {
+            cell = used++;
+        } else {
+            cell = tail;
+            unlink(cell);
+            setCell(cellFonts[cell], cellCodepoints[cell], NONE);
+            evictions++;
+        }
+
+        cellFonts[cell] = font;
+        cellCodepoints[cell] = codepoint;
+        offsetXs[cell] = 0;
+        offsetYs[cell] = 0;
+        glyphWidths[cell] = 0;
+        glyphHeights[cell] = 0;
+
+        setCell(font, codepoint, cell);
+        pushFront(cell);
+        return cell;
+    }
+
+    /**
+     * Store where the glyph of a cell is drawn relative to the pen position
+     *
+     * @param cell
+     * @param offsetX from the pen to the left edge
+     * @param offsetY from the baseline to the bottom edge, upwards
+     * @param width   clamped to the cell size
+     * @param height  clamped to the cell size
+     */
+    public void setGlyph(int cell, float offsetX, float offsetY, int width, int height) {
+        offsetXs[cell] = offsetX;
+        offsetYs[cell] = offsetY;
+        glyphWidths[cell] = Math.min(width, cellWidth);
+        glyphHeights[cell] = Math.min(height, cellHeight);
+    }
+
+    public float getOffsetX(int cell) {
+        return offsetXs[cell];
+    }
+
+    public float getOffsetY(int cell) {
+        return offsetYs[cell];
+    }
+
+    public int getGlyphWidth(int cell) {
+        return glyphWidths[cell];
+    }
+
+    public int getGlyphHeight(int cell) {
+        return glyphHeights[cell];
+    }
+
+    public int getCellX(int cell) {
+        return (cell % columns) * cellWidth;
+    }
+
+    public int getCellY(int cell) {
+        return (cell / columns) * cellHeight;
+    }
+
+    public int getCapacity() {
+        return cellFonts.length;
+    }
+
+    public int getUsed() {
+        return used;
+    }
+
+    private void setCell(int font, int codepoint, int cell) {
+        int[][] pages = fontPages.get(font);
+        int[] page = pages[codepoint >> PAGE_BITS];
+        if (page == null) {
+            if (cell == NONE) {
+                return;
+            }
+            page = new int[PAGE_SIZE];
+            Arrays.fill(page, NONE);
+            pages[codepoint >> PAGE_BITS] = page;
+        }
+        page[codepoint & (PAGE_SIZE - 1)] = cell;
+    }
+
+    private void touch(int cell) {
+        if (cell == head) {
+            return;
+        }
+        unlink(cell);
+        pushFront(cell);
+    }
+
+    private void pushFront(int cell) {
+        previous[cell] = NONE;
+        next[cell] = head;
+        if (head != NONE)
+            previous[head] = cell;
+        head = cell;
+        if (tail == NONE)
+            tail = cell;
+    }
+
+    private void unlink(int cell) {
+        int before = previous[cell];
+        int after = next[cell];
+
+        if (before != NONE)
+            next[before] = after;
+        else
+            head = after;
+
+        if (after != NONE)
+            previous[after] = before;
+        else
+            tail = before;
+
+        previous[cell] = NONE;
+        next[cell] = NONE;
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.github.vultr.core.text;
+
+/**
+ * Horizontal metrics of a font, in pixels
+ */
+public interface GlyphMetrics {
+
+    float getAdvance(int codepoint);
+
+    /**
+     * Returns the adjustment of the advance between two codepoints
+     */
+    float getKerning(int previous, int codepoint);
+
+    /**
+     * Returns the distance between two baselines
+     */
+    float getLineHeight();
+
+}
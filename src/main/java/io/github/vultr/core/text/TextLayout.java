@@ -0,0 +1,105 @@
+package io.github.vultr.core.text;
+
+import lombok.Getter;
+
+/**
+ * The pen positions of every glyph of a string, relative to the baseline of its first line.
+ * Lines are split at '\n' and go downwards. Layouts only depend on the metrics,
+ * so static text is laid out once and drawn from the cached positions.
+ */
+public class TextLayout {
+
+    @Getter
+    private final String text;
+
+    private final int[] codepoints;
+    private final float[] xs;
+    private final float[] ys;
+
+    @Getter
+    private final int glyphCount;
+
+    @Getter
+    private final float width;
+    @Getter
+    private final float height;
+
+    @Getter
+    private final int lineCount;
+
+    private TextLayout(String text, int[] codepoints, float[] xs, float[] ys, int glyphCount,
+            float width, float height, int lineCount) {
+        this.text = text;
+        this.codepoints = codepoints;
+        this.xs = xs;
+        this.ys = ys;
+        this.glyphCount = glyphCount;
+        this.width = width;
+        this.height = height;
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * Lay out a string
+     *
+     * @param text
+     * @param metrics
+     * @return the layout
+     */
+    public static TextLayout layout(String text, GlyphMetrics metrics) {
+        int length = text.codePointCount(0, text.length());
+        int[] codepoints = new int[length];
+        float[] xs = new float[length];
+        float[] ys = new float[length];
+
+        float lineHeight = metrics.getLineHeight();
+
+        int count = 0;
+        int lines = 1;
+        float x = 0;
+        float y = 0;
+        float width = 0;
+        int previous = -1;
+
+        for (int i = 0; i < text.length();) {
+            int codepoint = text.codePointAt(i);
+            i += Character.charCount(codepoint);
+
+            if (codepoint == '\n') {
+                width = Math.max(width, x);
+                x = 0;
+                y -= lineHeight;
+                lines++;
+                previous = -1;
+                continue;
+            }
+
+            if (previous != -1)
+                x += metrics.getKerning(previous, codepoint);
+
+            codepoints[count] = codepoint;
+            xs[count] = x;
+            ys[count] = y;
+            count++;
+
+            x += metrics.getAdvance(codepoint);
+            previous = codepoint;
+        }
+        width = Math.max(width, x);
+
+        return new TextLayout(text, codepoints, xs, ys, count, width, lines * lineHeight, lines);
+    }
+
+    public int getCodepoint(int glyph) {
+        return codepoints[glyph];
+    }
+
+    public float getX(int glyph) {
+        return xs[glyph];
+    }
+
+    public float getY(int glyph) {
+        return ys[glyph];
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.github.vultr.core.window;
 
+import io.github.vultr.core.listener.InputEventQueue;
 import io.github.vultr.core.listener.KeyListener;
 import io.github.vultr.core.listener.MouseListener;
 
@@ -8,9 +9,76 @@ public class Input {
     public static final MouseListener mouseListener = MouseListener.get();
     public static final KeyListener keyListener = KeyListener.get();
 
+    /**
+     * Events recorded by the GLFW callbacks, applied to the listeners on update
+     */
+    protected static final InputEventQueue events = new InputEventQueue();
+
+    private static final InputEventQueue.Handler dispatcher = Input::dispatch;
+
+    /**
+     * Start a new input frame and apply the queued events
+     */
     protected static void update() {
-        mouseListener.update();
-        keyListener.update();
+        update(true);
+    }
+
+    /**
+     * Apply the queued events
+     *
+     * @param newFrame false to keep the pressed and released state of the last frame,
+     *                 when no update consumed it yet
+     */
+    protected static void update(boolean newFrame) {
+        if (newFrame) {
+            mouseListener.update();
+            keyListener.update();
+        }
+        events.drain(dispatcher);
+    }
+
+    /**
+     * Returns the amount of events dropped because the queue was full
+     */
+    public static long getDroppedEvents() {
+        return events.getDroppedEvents();
+    }
+
+    private static void dispatch(int type, int code, int action, int mods, double x, double y) {
+        switch (type) {
+            case InputEventQueue.KEY:
+                KeyListener.keyCallback(0, code, 0, action, mods);
+                break;
+            case InputEventQueue.MOUSE_BUTTON:
+                MouseListener.mouseButtonCallback(0, code, action, mods);
+                break;
+            case InputEventQueue.MOUSE_MOVE:
+                MouseListener.mousePosCallback(0, x, y);
+                break;
+            case InputEventQueue.SCROLL:
+                MouseListener.mouseScrollCallback(0, x, y);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // GLFW callbacks, they only record the events
+
+    protected static void keyCallback(long window, int key, int scancode, int action, int mods) {
+        events.offer(InputEventQueue.KEY, key, action, mods, 0, 0);
+    }
+
+    protected static void mouseButtonCallback(long window, int button, int action, int mods) {
+        events.offer(InputEventQueue.MOUSE_BUTTON, button, action, mods, 0, 0);
+    }
+
+    protected static void mousePosCallback(long window, double x, double y) {
+        events.offer(InputEventQueue.MOUSE_MOVE, 0, 0, 0, x, y);
+    }
+
+    protected static void mouseScrollCallback(long window, double x, double y) {
+        events.offer(InputEventQueue.SCROLL, 0, 0, 0, x, y);
     }
 
 }
@@ -0,0 +1,126 @@
+package io.github.vultr.core.window;
+
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.vultr.core.scene.Updatable;
+import io.github.vultr.utils.time.FixedTimestep;
+
+/**
+ * Runs updates at a fixed rate on their own thread,
+ * so slow updates do not stall the render thread.
+ * Does not touch GLFW or OpenGL and can be used without a window.
+ */
+public class SimulationThread {
+
+    private final FixedTimestep timestep;
+    private final Updatable target;
+
+    private Thread thread;
+
+    private volatile boolean running;
+
+    private volatile float alpha;
+
+    private volatile long updates;
+
+    private volatile Throwable failure;
+
+    public SimulationThread(FixedTimestep timestep, Updatable target) {
+        this.timestep = timestep;
+        this.target = target;
+    }
+
+    /**
+     * Start the update thread
+     */
+    public void start() {
+        if (running)
+            throw new IllegalStateException("The simulation thread is already running");
+
+        running = true;
+        failure = null;
+        timestep.reset();
+
+        thread = new Thread(this::run, "Vultr-Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop the update thread and wait for the current update to finish
+     */
+    public void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    private void run() {
+        long lastTime = System.nanoTime();
+
+        try {
+            while (running) {
+                long time = System.nanoTime();
+                int steps = timestep.advance(time - lastTime);
+                lastTime = time;
+
+                for (int i = 0; i < steps && running; i++) {
+                    target.update(timestep.getStepSeconds());
+                    updates++;
+                }
+                alpha = timestep.getAlpha();
+
+                // sleep until the next update is due
+                long remaining = (long) ((1 - timestep.getAlpha()) * timestep.getStepNanos());
+                if (running && remaining > 0)
+                    LockSupport.parkNanos(remaining);
+            }
+        } catch (Throwable t) {
+            failure = t;
+            running = false;
+        }
+    }
+
+    /**
+     * Rethrows an exception thrown by an update on the calling thread
+     */
+    public void checkFailure() {
+        Throwable t = failure;
+        if (t == null) {
+            return;
+        }
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        throw new IllegalStateException("Simulation thread failed", t);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns how far the simulation is between its last and next update
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Returns the amount of updates run since the thread was started
+     */
+    public long getUpdates() {
+        return updates;
+    }
+
+}
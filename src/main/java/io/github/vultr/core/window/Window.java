@@ -5,11 +5,17 @@ import org.lwjgl.glfw.GLFWVidMode;
 import org.lwjgl.opengl.GL;
 import org.lwjgl.system.MemoryStack;
 
+import io.github.vultr.core.assets.AssetManager;
+import io.github.vultr.core.audio.Audio;
 import io.github.vultr.core.exceptions.NoSceneFoundException;
-import io.github.vultr.core.listener.KeyListener;
-import io.github.vultr.core.listener.MouseListener;
+import io.github.vultr.core.profiler.Profiler;
+import io.github.vultr.core.render.GpuTimer;
+import io.github.vultr.core.render.RenderDevice;
 import io.github.vultr.core.scene.SceneManager;
+import io.github.vultr.utils.render.ProgramBinaryCache;
+import io.github.vultr.utils.render.ShaderWatcher;
 import io.github.vultr.utils.time.DeltaTime;
+import io.github.vultr.utils.time.FixedTimestep;
 import lombok.Getter;
 
 import static org.lwjgl.glfw.Callbacks.glfwFreeCallbacks;
@@ -18,6 +24,8 @@ import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.system.MemoryUtil.NULL;
 
 import java.nio.IntBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class Window {
 
@@ -47,6 +55,25 @@ public class Window {
     @Getter
     private float delta;
 
+    @Getter
+    private FixedTimestep fixedTimestep; // null when updates use the frame delta
+
+    @Getter
+    private boolean threaded;
+
+    private boolean shaderHotReload;
+
+    private String shaderBinaryDirectory; // null when shader binaries are not cached
+
+    private boolean audio;
+
+    private Thread renderThread;
+
+    private SimulationThread simulation;
+
+    // work that has to run on the thread owning the OpenGL context
+    private final Queue<Runnable> renderTasks = new ConcurrentLinkedQueue<>();
+
     protected Window() {
         init(800, 600, "Vultr");
     }
@@ -124,6 +151,92 @@ public class Window {
         return this;
     }
 
+    /**
+     * Run scene updates at a fixed rate instead of once per frame.
+     * Draw calls receive an alpha to interpolate between updates.
+     *
+     * @param updatesPerSecond
+     * @return
+     */
+    public Window fixedTimestep(double updatesPerSecond) {
+        return fixedTimestep(updatesPerSecond, FixedTimestep.DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * Run scene updates at a fixed rate instead of once per frame.
+     * Draw calls receive an alpha to interpolate between updates.
+     *
+     * @param updatesPerSecond
+     * @param maxStepsPerFrame the maximum amount of updates to catch up per frame
+     * @return
+     */
+    public Window fixedTimestep(double updatesPerSecond, int maxStepsPerFrame) {
+        this.fixedTimestep = new FixedTimestep(updatesPerSecond, maxStepsPerFrame);
+        return this;
+    }
+
+    /**
+     * Run input handling and scene updates on their own thread.
+     * Updates run at the fixed timestep rate, or 60 times per second if none is set.
+     * Scenes have to hand their state to draw through snapshots,
+     * e.g. a {@link io.github.vultr.core.scene.TripleBuffer}.
+     *
+     * @return
+     */
+    public Window threaded() {
+        this.threaded = true;
+        return this;
+    }
+
+    /**
+     * Recompile shaders of the shader cache when their source files change.
+     * Meant for development, a failed compile keeps the old shader.
+     *
+     * @return
+     */
+    public Window hotReloadShaders() {
+        this.shaderHotReload = true;
+        return this;
+    }
+
+    /**
+     * Open the audio device when the window is shown
+     *
+     * @return
+     */
+    public Window audio() {
+        this.audio = true;
+        return this;
+    }
+
+    /**
+     * Keep linked shader programs on disk, so later launches do not have to compile them.
+     * Ignored if the driver can not provide program binaries.
+     *
+     * @param directory
+     * @return
+     */
+    public Window cacheShaderBinaries(String directory) {
+        this.shaderBinaryDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Returns true if called from the thread owning the OpenGL context
+     */
+    public boolean isRenderThread() {
+        return Thread.currentThread() == renderThread;
+    }
+
+    /**
+     * Run a task on the render thread before the next frame is drawn
+     *
+     * @param task
+     */
+    public void runOnRenderThread(Runnable task) {
+        renderTasks.add(task);
+    }
+
     /**
      * Will center the window on the screen when it is opened
      * 
@@ -197,6 +310,7 @@ public class Window {
         }
 
         glfwMakeContextCurrent(windowId);
+        renderThread = Thread.currentThread();
 
         // Enable vsync if enabled
         glfwSwapInterval(isVsync() ? 1 : 0);
@@ -211,6 +325,15 @@ public class Window {
         glEnable(GL_BLEND);
         glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
 
+        if (shaderBinaryDirectory != null)
+            ProgramBinaryCache.enable(shaderBinaryDirectory);
+
+        if (shaderHotReload)
+            ShaderWatcher.start(this::runOnRenderThread);
+
+        if (audio)
+            Audio.init();
+
         this.windowReady = true;
 
         if (SceneManager.hasScene()) {
@@ -222,37 +345,137 @@ public class Window {
      * Start the update loop of the window
      */
     private void loop() {
-        while (!glfwWindowShouldClose(windowId)) {
-            // Update input and poll events
-            Input.update();
-            glfwPollEvents();
-
-            // Set the clear color of the window
-            glClearColor(1, 1, 1, 1);
-            glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
-            glEnable(GL_DEPTH);
+        boolean inputConsumed = true;
+        boolean firstFrame = true;
+
+        if (threaded)
+            startSimulation();
+
+        try {
+            while (!glfwWindowShouldClose(windowId)) {
+                Profiler.beginFrame();
+
+                // Poll events and update input
+                Profiler.begin(Profiler.POLL_EVENTS);
+                glfwPollEvents();
+                Profiler.end();
+
+                // with a fixed timestep frames without an update keep their input,
+                // so presses are not lost before the next update sees them
+                Profiler.begin(Profiler.INPUT);
+                if (!threaded)
+                    Input.update(inputConsumed);
+                Profiler.end();
+
+                runRenderTasks();
+
+                // upload assets decoded in the background, limited by the upload budget
+                Profiler.begin(Profiler.ASSETS);
+                AssetManager.update();
+                Profiler.end();
+
+                Audio.update();
+
+                // Set the clear color of the window
+                glClearColor(1, 1, 1, 1);
+                glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
+                glEnable(GL_DEPTH);
+
+                // Draw and update the current scene
+                // if a scene is set
+                if (!SceneManager.hasScene())
+                    throw new NoSceneFoundException("No scene has been added to the scene");
+
+                long deltaNanos = DeltaTime.getDeltaNanos();
+                delta = (float) (deltaNanos / DeltaTime.NANOS_PER_SECOND);
+
+                GpuTimer gpuTimer = RenderDevice.getFrameTimer();
+                if (gpuTimer != null)
+                    gpuTimer.begin();
+
+                if (threaded) {
+                    // updates run on the simulation thread
+                    simulation.checkFailure();
+
+                    Profiler.begin(Profiler.DRAW);
+                    SceneManager.getCurrentScene().draw(delta, simulation.getAlpha());
+                    Profiler.end();
+                } else if (fixedTimestep != null) {
+                    int steps = fixedTimestep.advance(deltaNanos);
+
+                    Profiler.begin(Profiler.UPDATE);
+                    for (int i = 0; i < steps; i++) {
+                        SceneManager.getCurrentScene().update(fixedTimestep.getStepSeconds());
+                    }
+                    Profiler.end();
+                    inputConsumed = steps > 0;
+
+                    Profiler.begin(Profiler.DRAW);
+                    SceneManager.getCurrentScene().draw(delta, fixedTimestep.getAlpha());
+                    Profiler.end();
+                } else {
+                    Profiler.begin(Profiler.UPDATE);
+                    SceneManager.getCurrentScene().update(delta);
+                    Profiler.end();
+
+                    Profiler.begin(Profiler.DRAW);
+                    SceneManager.getCurrentScene().draw(delta);
+                    Profiler.end();
+                }
+
+                if (gpuTimer != null)
+                    gpuTimer.end();
+
+                // Swap the buffers
+                Profiler.begin(Profiler.SWAP);
+                glfwSwapBuffers(windowId);
+                Profiler.end();
+
+                RenderDevice.endFrame();
+                Profiler.endFrame();
+
+                // the first scene has created its shaders by now
+                if (firstFrame) {
+                    if (ProgramBinaryCache.isEnabled())
+                        System.out.println(ProgramBinaryCache.getSummary());
+                    firstFrame = false;
+                }
+            }
+        } finally {
+            if (simulation != null)
+                simulation.stop();
+            AssetManager.shutdown();
+            ShaderWatcher.stop();
+            Audio.destroy();
+        }
+    }
 
-            // Draw and update the current scene
-            // if a scene is set
-            if (!SceneManager.hasScene())
-                throw new NoSceneFoundException("No scene has been added to the scene");
+    private void startSimulation() {
+        FixedTimestep timestep = fixedTimestep != null ? fixedTimestep : new FixedTimestep(60);
 
-            delta = DeltaTime.getDelta();
-            if (delta >= 0)
-                SceneManager.getCurrentScene().update(delta);
-            SceneManager.getCurrentScene().draw(delta);
+        simulation = new SimulationThread(timestep, delta -> {
+            Input.update();
+            SceneManager.update(delta);
+        });
+        simulation.start();
+    }
 
-            // Swap the buffers
-            glfwSwapBuffers(windowId);
+    private void runRenderTasks() {
+        Runnable task;
+        while ((task = renderTasks.poll()) != null) {
+            task.run();
         }
     }
 
     private void setCallbacks() {
         glfwSetFramebufferSizeCallback(windowId, Window::framebufferSizeCallback);
-        glfwSetCursorPosCallback(windowId, MouseListener::mousePosCallback);
-        glfwSetMouseButtonCallback(windowId, MouseListener::mouseButtonCallback);
-        glfwSetScrollCallback(windowId, MouseListener::mouseScrollCallback);
-        glfwSetKeyCallback(windowId, KeyListener::keyCallback);
+
+        // input is recorded into a queue and applied when the input is updated,
+        // on the simulation thread when running threaded
+        glfwSetCursorPosCallback(windowId, Input::mousePosCallback);
+        glfwSetMouseButtonCallback(windowId, Input::mouseButtonCallback);
+        glfwSetScrollCallback(windowId, Input::mouseScrollCallback);
+        glfwSetKeyCallback(windowId, Input::keyCallback);
     }
 
     private int glfwBool(boolean state) {
@@ -260,8 +483,16 @@ public class Window {
     }
 
     protected static void framebufferSizeCallback(long window, int width, int height) {
+        // minimized windows report an empty framebuffer, keep the last size
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
         Window.get().width = width;
         Window.get().height = height;
+
+        glViewport(0, 0, width, height);
+        SceneManager.resize(width, height);
     }
 
 }
@@ -0,0 +1,159 @@
+package io.github.vultr.utils.files;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+/**
+ * Packs files and directories into a {@link VultrArchive}.
+ * Entries are named by their path as given, e.g. packing {@code assets}
+ * stores {@code assets/shaders/sprite_vertex.glsl}, which is the path
+ * the game loads it with.
+ *
+ * Run with {@code mvn -P pack-assets process-classes}
+ * or {@code java ArchivePacker <output> <file or directory>...}
+ */
+public class ArchivePacker {
+
+    // deflated data is only kept if it saves at least this share
+    private static final float MIN_SAVING = 0.1f;
+
+    private static class Entry {
+        private final String name;
+        private final byte[] nameBytes;
+        private final long hash;
+        private byte[] data;
+        private int size;
+        private int flags;
+
+        private Entry(String name) {
+            this.name = name;
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            this.hash = VultrArchive.hash(name);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ArchivePacker <output> <file or directory>...");
+            System.exit(1);
+        }
+
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(Paths.get(args[i]));
+        }
+
+        long start = System.nanoTime();
+        int count = pack(Paths.get(args[0]), inputs);
+        System.out.printf("Packed %d files into %s in %.1f ms%n", count, args[0], (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Write an archive holding all regular files below the inputs
+     *
+     * @param output
+     * @param inputs
+     * @return the amount of packed files
+     * @throws IOException
+     */
+    public static int pack(Path output, List<Path> inputs) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        Path outputFile = output.toAbsolutePath().normalize();
+
+        for (Path input : inputs) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(input)) {
+                files = walk.filter(Files::isRegularFile)
+                        .filter(file -> !file.toAbsolutePath().normalize().equals(outputFile))
+                        .collect(Collectors.toList());
+            }
+
+            for (Path file : files) {
+                Entry entry = new Entry(VultrArchive.normalize(file));
+                byte[] data = Files.readAllBytes(file);
+                entry.size = data.length;
+                entry.data = deflate(data);
+                if (entry.data.length > data.length * (1 - MIN_SAVING)) {
+                    entry.data = data;
+                } else {
+                    entry.flags = VultrArchive.FLAG_DEFLATE;
+                }
+                entries.add(entry);
+            }
+        }
+
+        entries.sort(Comparator.comparingLong((Entry entry) -> entry.hash).thenComparing(entry -> entry.name));
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i).name.equals(entries.get(i - 1).name))
+                throw new IOException("Duplicate archive entry: " + entries.get(i).name);
+        }
+
+        int namesOffset = VultrArchive.HEADER_SIZE + entries.size() * VultrArchive.ENTRY_SIZE;
+        int namesSize = 0;
+        for (Entry entry : entries) {
+            namesSize += entry.nameBytes.length;
+        }
+
+        try (OutputStream stream = Files.newOutputStream(output);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(VultrArchive.MAGIC);
+            out.writeInt(VultrArchive.VERSION);
+            out.writeInt(entries.size());
+
+            int nameOffset = namesOffset;
+            long dataOffset = (long) namesOffset + namesSize;
+            for (Entry entry : entries) {
+                out.writeLong(entry.hash);
+                out.writeLong(dataOffset);
+                out.writeInt(entry.data.length);
+                out.writeInt(entry.size);
+                out.writeInt(entry.flags);
+                out.writeInt(nameOffset);
+                out.writeInt(entry.nameBytes.length);
+
+                nameOffset += entry.nameBytes.length;
+                dataOffset += entry.data.length;
+            }
+
+            for (Entry entry : entries) {
+                out.write(entry.nameBytes);
+            }
+            for (Entry entry : entries) {
+                out.write(entry.data);
+            }
+        }
+
+        return entries.size();
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+}
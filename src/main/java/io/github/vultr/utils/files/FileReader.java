@@ -1,28 +1,194 @@
 package io.github.vultr.utils.files;
 
+import static org.lwjgl.system.MemoryUtil.*;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import io.github.vultr.core.exceptions.FailedFileReadException;
 
+/**
+ * Reads files as text or as buffers that can be passed to LWJGL directly.
+ * Text is always decoded as UTF-8. Failures throw a {@link FailedFileReadException}.
+ *
+ * Paths are looked up in the mounted archives first, the archive mounted last wins,
+ * and are read from the file system if no archive holds them.
+ */
 public class FileReader {
 
+    private static final List<VultrArchive> archives = new CopyOnWriteArrayList<>();
+
+    /**
+     * Mount an archive, its entries are read instead of loose files with the same path
+     *
+     * @param archivePath
+     * @return the mounted archive
+     */
+    public static VultrArchive mount(String archivePath) {
+        try {
+            VultrArchive archive = new VultrArchive(archivePath);
+            archives.add(0, archive);
+            return archive;
+        } catch (IOException e) {
+            throw failed(archivePath, e);
+        }
+    }
+
+    public static boolean unmount(VultrArchive archive) {
+        return archives.remove(archive);
+    }
+
+    public static void unmountAll() {
+        archives.clear();
+    }
+
+    /**
+     * Returns true if a mounted archive holds the file
+     */
+    public static boolean isArchived(String filePath) {
+        return findArchive(VultrArchive.normalize(filePath)) != null;
+    }
+
+    /**
+     * Returns true if the file is in a mounted archive or on the file system
+     */
+    public static boolean exists(String filePath) {
+        return isArchived(filePath) || Files.isRegularFile(Paths.get(filePath));
+    }
+
     public static List<String> readLines(String filePath) {
+        ByteBuffer archived = readArchived(filePath);
+        if (archived != null) {
+            return decode(archived).lines().collect(Collectors.toList());
+        }
+
         try {
-            return Files.readAllLines(Paths.get(filePath));
+            return Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw failed(filePath, e);
         }
-        return null;
     }
 
-    public static String readBytes(String filePath) {
+    public static String readString(String filePath) {
+        ByteBuffer archived = readArchived(filePath);
+        if (archived != null) {
+            return decode(archived);
+        }
+
         try {
-            return new String(Files.readAllBytes(Paths.get(filePath)));
+            return Files.readString(Paths.get(filePath), StandardCharsets.UTF_8);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw failed(filePath, e);
+        }
+    }
+
+    /**
+     * @deprecated returns the file as text, use {@link #readString(String)}
+     */
+    @Deprecated
+    public static String readBytes(String filePath) {
+        return readString(filePath);
+    }
+
+    /**
+     * Map a file into memory without copying it.
+     * The view stays valid after the file is closed and is unmapped by the garbage collector.
+     * Archived files are a slice of the mapped archive.
+     *
+     * @param filePath
+     * @return a read only direct view of the file
+     */
+    public static ByteBuffer map(String filePath) {
+        ByteBuffer archived = readArchived(filePath);
+        if (archived != null) {
+            return archived;
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw failed(filePath, e);
+        }
+    }
+
+    /**
+     * Read a file into native memory, e.g. for stb.
+     * The buffer has to be freed with {@link org.lwjgl.system.MemoryUtil#memFree(java.nio.Buffer)}.
+     *
+     * @param filePath
+     * @return a direct buffer holding the file
+     */
+    public static ByteBuffer readDirect(String filePath) {
+        ByteBuffer archived = readArchived(filePath);
+        if (archived != null) {
+            ByteBuffer buffer = memAlloc(archived.remaining());
+            return buffer.put(archived).flip();
+        }
+
+        Path path = Paths.get(filePath);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("File is too large: " + size + " bytes");
+
+            ByteBuffer buffer = memAlloc((int) size);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) == -1)
+                        throw new IOException("Unexpected end of file");
+                }
+            } catch (IOException e) {
+                memFree(buffer);
+                throw e;
+            }
+            return buffer.flip();
+        } catch (IOException e) {
+            throw failed(filePath, e);
+        }
+    }
+
+    private static VultrArchive findArchive(String name) {
+        for (VultrArchive archive : archives) {
+            if (archive.contains(name))
+                return archive;
         }
         return null;
     }
 
+    private static ByteBuffer readArchived(String filePath) {
+        if (archives.isEmpty()) {
+            return null;
+        }
+
+        String name = VultrArchive.normalize(filePath);
+        VultrArchive archive = findArchive(name);
+        if (archive == null) {
+            return null;
+        }
+
+        try {
+            return archive.read(name);
+        } catch (IOException e) {
+            throw failed(filePath, e);
+        }
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    private static FailedFileReadException failed(String filePath, IOException e) {
+        return new FailedFileReadException("File error: Failed to read " + filePath + ": " + e.getMessage(), e);
+    }
+
 }
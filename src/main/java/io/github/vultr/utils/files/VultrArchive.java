@@ -0,0 +1,216 @@
+package io.github.vultr.utils.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import lombok.Getter;
+
+/**
+ * A packed asset archive, written by {@link ArchivePacker}.
+ * The file is memory mapped once and entries are served as slices of the mapping,
+ * so reading an asset does not open a file or copy stored data.
+ *
+ * Layout, big endian:
+ * <pre>
+ * header  magic, version, entry count
+ * index   per entry: name hash, data offset, stored length, size, flags, name offset, name length
+ *         sorted by name hash
+ * names   UTF-8 entry names, used to tell apart names with the same hash
+ * data    entry data, deflated when the flag is set
+ * </pre>
+ */
+public class VultrArchive {
+
+    public static final int MAGIC = 0x564C5452; // "VLTR"
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 12;
+    public static final int ENTRY_SIZE = 36;
+
+    public static final int FLAG_DEFLATE = 1;
+
+    @Getter
+    private final String filePath;
+
+    private final MappedByteBuffer data;
+
+    private final long[] hashes;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final int[] sizes;
+    private final int[] flags;
+    private final int[] nameOffsets;
+    private final int[] nameLengths;
+
+    /**
+     * Map an archive and read its index
+     *
+     * @param filePath
+     * @throws IOException if the file can not be read or is not an archive
+     */
+    public VultrArchive(String filePath) throws IOException {
+        this.filePath = filePath;
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC)
+            throw new IOException("Not a Vultr archive: " + filePath);
+        if (data.getInt(4) != VERSION)
+            throw new IOException("Unsupported archive version " + data.getInt(4) + ": " + filePath);
+
+        int count = data.getInt(8);
+        if (count < 0 || HEADER_SIZE + (long) count * ENTRY_SIZE > data.capacity())
+            throw new IOException("Corrupt archive index: " + filePath);
+
+        hashes = new long[count];
+        offsets = new long[count];
+        lengths = new int[count];
+        sizes = new int[count];
+        flags = new int[count];
+        nameOffsets = new int[count];
+        nameLengths = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            hashes[i] = data.getLong(entry);
+            offsets[i] = data.getLong(entry + 8);
+            lengths[i] = data.getInt(entry + 16);
+            sizes[i] = data.getInt(entry + 20);
+            flags[i] = data.getInt(entry + 24);
+            nameOffsets[i] = data.getInt(entry + 28);
+            nameLengths[i] = data.getInt(entry + 32);
+
+            if (offsets[i] < 0 || offsets[i] + lengths[i] > data.capacity()
+                    || nameOffsets[i] < 0 || (long) nameOffsets[i] + nameLengths[i] > data.capacity())
+                throw new IOException("Corrupt archive entry " + i + ": " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if the archive holds a file with the given name
+     */
+    public boolean contains(String name) {
+        return find(normalize(name)) != -1;
+    }
+
+    /**
+     * Returns the data of an entry.
+     * Stored entries are a read only slice of the mapped file,
+     * deflated entries are inflated into a new direct buffer.
+     *
+     * @param name
+     * @return the data or null if the archive does not hold the file
+     * @throws IOException if a deflated entry is corrupt
+     */
+    public ByteBuffer read(String name) throws IOException {
+        int entry = find(normalize(name));
+        if (entry == -1) {
+            return null;
+        }
+
+        ByteBuffer stored = data.slice((int) offsets[entry], lengths[entry]).asReadOnlyBuffer();
+        if ((flags[entry] & FLAG_DEFLATE) == 0) {
+            return stored;
+        }
+
+        ByteBuffer inflated = ByteBuffer.allocateDirect(sizes[entry]);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            while (inflated.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(inflated) == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    break;
+            }
+            if (inflated.hasRemaining())
+                throw new IOException("Truncated archive entry " + name + " in " + filePath);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive entry " + name + " in " + filePath, e);
+        } finally {
+            inflater.end();
+        }
+        return inflated.flip();
+    }
+
+    /**
+     * Returns the uncompressed size of an entry or -1 if the archive does not hold the file
+     */
+    public int getSize(String name) {
+        int entry = find(normalize(name));
+        return entry == -1 ? -1 : sizes[entry];
+    }
+
+    public int getEntryCount() {
+        return hashes.length;
+    }
+
+    private int find(String name) {
+        long hash = hash(name);
+
+        // binary search the first entry with the hash, then compare names
+        int low = 0;
+        int high = hashes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hashes[mid] < hash)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        byte[] bytes = null;
+        for (int i = low; i < hashes.length && hashes[i] == hash; i++) {
+            if (bytes == null)
+                bytes = name.getBytes(StandardCharsets.UTF_8);
+            if (nameEquals(i, bytes))
+                return i;
+        }
+        return -1;
+    }
+
+    private boolean nameEquals(int entry, byte[] name) {
+        if (nameLengths[entry] != name.length) {
+            return false;
+        }
+
+        int offset = nameOffsets[entry];
+        for (int i = 0; i < name.length; i++) {
+            if (data.get(offset + i) != name[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the name a path is stored under, with forward slashes and without "./"
+     */
+    public static String normalize(String filePath) {
+        return normalize(Paths.get(filePath));
+    }
+
+    static String normalize(Path path) {
+        return path.normalize().toString().replace('\\', '/');
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the UTF-8 name, sorted as a signed long in the index
+     */
+    public static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+}
@@ -0,0 +1,154 @@
+package io.github.vultr.utils.render;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import static org.lwjgl.stb.STBImage.stbi_load;
+import static org.lwjgl.stb.STBImage.stbi_image_free;
+import static org.lwjgl.stb.STBImage.stbi_failure_reason;
+import static org.lwjgl.stb.STBImage.stbi_load_from_memory;
+import static org.lwjgl.stb.STBImage.stbi_set_flip_vertically_on_load;
+
+import io.github.vultr.core.exceptions.FailedTextureException;
+import io.github.vultr.utils.files.FileReader;
+import lombok.Getter;
+
+/**
+ * RGBA pixels stored off heap, ready to be uploaded to a texture.
+ * Rows start at the bottom of the image, matching OpenGL texture coordinates.
+ * Has to be freed once it is not needed anymore.
+ */
+public class ImageData {
+
+    public static final int CHANNELS = 4;
+
+    @Getter
+    private final int width;
+    @Getter
+    private final int height;
+
+    private ByteBuffer pixels;
+
+    private final boolean stbAllocated;
+
+    private ImageData(int width, int height, ByteBuffer pixels, boolean stbAllocated) {
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+        this.stbAllocated = stbAllocated;
+    }
+
+    /**
+     * Decode an image file straight into off heap memory
+     *
+     * @param filePath
+     * @return the decoded image
+     */
+    public static ImageData load(String filePath) {
+        if (FileReader.isArchived(filePath)) {
+            return decode(filePath, FileReader.map(filePath));
+        }
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer width = stack.mallocInt(1);
+            IntBuffer height = stack.mallocInt(1);
+            IntBuffer channels = stack.mallocInt(1);
+
+            stbi_set_flip_vertically_on_load(true);
+            ByteBuffer pixels = stbi_load(filePath, width, height, channels, CHANNELS);
+            if (pixels == null)
+                throw new FailedTextureException("Texture error: Failed to load image: "
+                        + filePath + "\n\t" + stbi_failure_reason());
+
+            return new ImageData(width.get(0), height.get(0), pixels, true);
+        }
+    }
+
+    /**
+     * Decode an encoded image (png, jpg, ...) from memory
+     *
+     * @param name used in error messages
+     * @param encoded a direct buffer holding the file contents
+     * @return the decoded image
+     */
+    public static ImageData decode(String name, ByteBuffer encoded) {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer width = stack.mallocInt(1);
+            IntBuffer height = stack.mallocInt(1);
+            IntBuffer channels = stack.mallocInt(1);
+
+            stbi_set_flip_vertically_on_load(true);
+            ByteBuffer pixels = stbi_load_from_memory(encoded, width, height, channels, CHANNELS);
+            if (pixels == null)
+                throw new FailedTextureException("Texture error: Failed to decode image: "
+                        + name + "\n\t" + stbi_failure_reason());
+
+            return new ImageData(width.get(0), height.get(0), pixels, true);
+        }
+    }
+
+    /**
+     * Allocate a transparent image
+     *
+     * @param width
+     * @param height
+     * @return the image
+     */
+    public static ImageData allocate(int width, int height) {
+        ByteBuffer pixels = MemoryUtil.memCalloc(width * height * CHANNELS);
+        return new ImageData(width, height, pixels, false);
+    }
+
+    /**
+     * Copy another image into this image
+     *
+     * @param source
+     * @param x the left edge in this image
+     * @param y the bottom edge in this image
+     */
+    public void copy(ImageData source, int x, int y) {
+        if (x < 0 || y < 0 || x + source.width > width || y + source.height > height)
+            throw new IllegalArgumentException("Image does not fit at " + x + ", " + y);
+
+        long sourceAddress = MemoryUtil.memAddress(source.getPixels());
+        long targetAddress = MemoryUtil.memAddress(getPixels());
+        int rowBytes = source.width * CHANNELS;
+
+        for (int row = 0; row < source.height; row++) {
+            MemoryUtil.memCopy(
+                    sourceAddress + (long) row * rowBytes,
+                    targetAddress + ((long) (y + row) * width + x) * CHANNELS,
+                    rowBytes);
+        }
+    }
+
+    public ByteBuffer getPixels() {
+        if (pixels == null)
+            throw new IllegalStateException("Image has already been freed");
+        return pixels;
+    }
+
+    public boolean isFreed() {
+        return pixels == null;
+    }
+
+    /**
+     * Release the pixel memory
+     */
+    public void free() {
+        if (pixels == null) {
+            return;
+        }
+
+        if (stbAllocated)
+            stbi_image_free(pixels);
+        else
+            MemoryUtil.memFree(pixels);
+
+        pixels = null;
+    }
+
+}
@@ -0,0 +1,243 @@
+package io.github.vultr.utils.render;
+
+import static org.lwjgl.opengl.ARBGetProgramBinary.GL_NUM_PROGRAM_BINARY_FORMATS;
+import static org.lwjgl.opengl.ARBGetProgramBinary.GL_PROGRAM_BINARY_LENGTH;
+import static org.lwjgl.opengl.ARBGetProgramBinary.GL_PROGRAM_BINARY_RETRIEVABLE_HINT;
+import static org.lwjgl.opengl.ARBGetProgramBinary.glGetProgramBinary;
+import static org.lwjgl.opengl.ARBGetProgramBinary.glProgramBinary;
+import static org.lwjgl.opengl.ARBGetProgramBinary.glProgramParameteri;
+import static org.lwjgl.opengl.GL33.GL_FALSE;
+import static org.lwjgl.opengl.GL33.GL_LINK_STATUS;
+import static org.lwjgl.opengl.GL33.GL_RENDERER;
+import static org.lwjgl.opengl.GL33.GL_TRUE;
+import static org.lwjgl.opengl.GL33.GL_VENDOR;
+import static org.lwjgl.opengl.GL33.GL_VERSION;
+import static org.lwjgl.opengl.GL33.glCreateProgram;
+import static org.lwjgl.opengl.GL33.glDeleteProgram;
+import static org.lwjgl.opengl.GL33.glGetInteger;
+import static org.lwjgl.opengl.GL33.glGetProgrami;
+import static org.lwjgl.opengl.GL33.glGetString;
+import static org.lwjgl.system.MemoryUtil.memAlloc;
+import static org.lwjgl.system.MemoryUtil.memFree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryStack;
+
+import io.github.vultr.core.exceptions.FailedFileReadException;
+import io.github.vultr.utils.files.FileReader;
+
+/**
+ * Stores linked shader programs on disk, so later launches skip compiling and linking.
+ * Entries are keyed by a hash of the sources and the driver, a driver update or
+ * a different GPU misses the cache. Binaries rejected by the driver are deleted
+ * and the program is compiled from source again.
+ *
+ * Needs OpenGL 4.1 or GL_ARB_get_program_binary and is disabled until enabled.
+ */
+public class ProgramBinaryCache {
+
+    private static Path directory;
+
+    private static String driver;
+
+    // programs created this launch, for the startup log
+    private static int cachedPrograms;
+    private static int compiledPrograms;
+    private static long cachedNanos;
+    private static long compiledNanos;
+
+    /**
+     * Enable the cache, has to be called on the thread owning the OpenGL context
+     *
+     * @param directoryPath where the binaries are kept
+     * @return false if the driver can not provide program binaries
+     */
+    public static boolean enable(String directoryPath) {
+        GLCapabilities caps = GL.getCapabilities();
+        if (!(caps.OpenGL41 || caps.GL_ARB_get_program_binary) || glGetInteger(GL_NUM_PROGRAM_BINARY_FORMATS) == 0) {
+            System.err.println("Shader binary cache disabled: the driver does not support program binaries");
+            return false;
+        }
+
+        try {
+            directory = Files.createDirectories(Paths.get(directoryPath));
+        } catch (IOException e) {
+            System.err.println("Shader binary cache disabled: " + e.getMessage());
+            return false;
+        }
+
+        driver = glGetString(GL_VENDOR) + "\n" + glGetString(GL_RENDERER) + "\n" + glGetString(GL_VERSION);
+        return true;
+    }
+
+    public static void disable() {
+        directory = null;
+    }
+
+    public static boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Create a program from a cached binary
+     *
+     * @param vertexSource
+     * @param fragmentSource
+     * @return the linked program or 0 if there is no usable binary
+     */
+    static int load(String vertexSource, String fragmentSource) {
+        if (directory == null) {
+            return 0;
+        }
+
+        Path file = file(vertexSource, fragmentSource);
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+
+        ByteBuffer data;
+        try {
+            data = FileReader.readDirect(file.toString());
+        } catch (FailedFileReadException e) {
+            System.err.println("Shader binary cache: " + e.getMessage());
+            return 0;
+        }
+
+        try {
+            if (data.remaining() <= Integer.BYTES) {
+                delete(file);
+                return 0;
+            }
+
+            int format = data.getInt();
+            int program = glCreateProgram();
+            glProgramBinary(program, format, data);
+
+            if (glGetProgrami(program, GL_LINK_STATUS) == GL_FALSE) {
+                // the driver changed in a way the key does not see
+                glDeleteProgram(program);
+                delete(file);
+                return 0;
+            }
+            return program;
+        } finally {
+            memFree(data);
+        }
+    }
+
+    /**
+     * Ask the driver to keep the binary of a program, has to be called before linking
+     */
+    static void prepare(int program) {
+        if (directory != null)
+            glProgramParameteri(program, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+    }
+
+    /**
+     * Write the binary of a linked program
+     */
+    static void store(int program, String vertexSource, String fragmentSource) {
+        if (directory == null) {
+            return;
+        }
+
+        int length = glGetProgrami(program, GL_PROGRAM_BINARY_LENGTH);
+        if (length <= 0) {
+            return;
+        }
+
+        ByteBuffer data = memAlloc(Integer.BYTES + length);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer written = stack.mallocInt(1);
+            IntBuffer format = stack.mallocInt(1);
+
+            ByteBuffer binary = data.slice(Integer.BYTES, length);
+            glGetProgramBinary(program, written, format, binary);
+            data.putInt(0, format.get(0));
+            data.limit(Integer.BYTES + written.get(0));
+
+            // write next to the entry first, so a crash never leaves half a binary
+            Path file = file(vertexSource, fragmentSource);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Shader binary cache: failed to write a program: " + e.getMessage());
+        } finally {
+            memFree(data);
+        }
+    }
+
+    /**
+     * Count a program for the startup log
+     *
+     * @param nanos  time spent creating the program
+     * @param cached true if it came from a binary
+     */
+    static void record(long nanos, boolean cached) {
+        if (cached) {
+            cachedPrograms++;
+            cachedNanos += nanos;
+        } else {
+            compiledPrograms++;
+            compiledNanos += nanos;
+        }
+    }
+
+    /**
+     * Returns a line describing how the programs of this launch were created
+     */
+    public static String getSummary() {
+        return String.format("Shader programs: %d from binary cache in %.2f ms, %d compiled in %.2f ms%s",
+                cachedPrograms, cachedNanos / 1e6, compiledPrograms, compiledNanos / 1e6,
+                isEnabled() ? "" : " (binary cache disabled)");
+    }
+
+    private static Path file(String vertexSource, String fragmentSource) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(driver.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(vertexSource.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(fragmentSource.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder name = new StringBuilder();
+            for (byte b : digest.digest()) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return directory.resolve(name.append(".bin").toString());
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // tried again next launch
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package io.github.vultr.utils.render;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * Packs rectangles into a fixed area using the skyline bottom left heuristic.
+ * The skyline is the top edge of everything packed so far, each rectangle is
+ * placed where it ends up lowest.
+ */
+public class RectPacker {
+
+    @Getter
+    private final int width;
+    @Getter
+    private final int height;
+
+    // skyline segments sorted by x
+    private int[] segmentX = new int[16];
+    private int[] segmentY = new int[16];
+    private int[] segmentWidth = new int[16];
+    private int segmentCount;
+
+    @Getter
+    private long usedArea;
+
+    @Getter
+    private int packedCount;
+
+    public RectPacker(int width, int height) {
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("Packer size must be positive: " + width + "x" + height);
+
+        this.width = width;
+        this.height = height;
+        reset();
+    }
+
+    /**
+     * Find a place for a rectangle
+     *
+     * @param rectWidth
+     * @param rectHeight
+     * @param position receives the x and y of the bottom left corner
+     * @return false if the rectangle does not fit anymore
+     */
+    public boolean pack(int rectWidth, int rectHeight, int[] position) {
+        if (rectWidth <= 0 || rectHeight <= 0)
+            throw new IllegalArgumentException("Rectangle size must be positive: " + rectWidth + "x" + rectHeight);
+
+        int bestIndex = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestWidth = Integer.MAX_VALUE;
+        int bestY = 0;
+
+        for (int i = 0; i < segmentCount; i++) {
+            int y = fit(i, rectWidth, rectHeight);
+            if (y == -1)
+                continue;
+
+            int top = y + rectHeight;
+            if (top < bestTop || (top == bestTop && segmentWidth[i] < bestWidth)) {
+                bestIndex = i;
+                bestTop = top;
+                bestWidth = segmentWidth[i];
+                bestY = y;
+            }
+        }
+
+        if (bestIndex == -1) {
+            return false;
+        }
+
+        int x = segmentX[bestIndex];
+        addSegment(bestIndex, x, bestY + rectHeight, rectWidth);
+
+        position[0] = x;
+        position[1] = bestY;
+
+        usedArea += (long) rectWidth * rectHeight;
+        packedCount++;
+        return true;
+    }
+
+    /**
+     * Returns the y a rectangle would be placed at when starting at a segment,
+     * or -1 if it does not fit there
+     */
+    private int fit(int index, int rectWidth, int rectHeight) {
+        int x = segmentX[index];
+        if (x + rectWidth > width) {
+            return -1;
+        }
+
+        int remaining = rectWidth;
+        int y = 0;
+
+        for (int i = index; remaining > 0; i++) {
+            if (i == segmentCount) {
+                return -1;
+            }
+
+            y = Math.max(y, segmentY[i]);
+            if (y + rectHeight > height) {
+                return -1;
+            }
+            remaining -= segmentWidth[i];
+        }
+
+        return y;
+    }
+
+    private void addSegment(int index, int x, int y, int segmentWidth) {
+        insertSegment(index, x, y, segmentWidth);
+
+        // cut the segments now covered by the new one
+        int right = x + segmentWidth;
+        int i = index + 1;
+        while (i < segmentCount && segmentX[i] < right) {
+            int overlap = right - segmentX[i];
+            segmentX[i] += overlap;
+            this.segmentWidth[i] -= overlap;
+
+            if (this.segmentWidth[i] <= 0) {
+                removeSegment(i);
+            } else {
+                break;
+            }
+        }
+
+        // merge neighbours of the same height
+        i = 0;
+        while (i < segmentCount - 1) {
+            if (segmentY[i] == segmentY[i + 1]) {
+                this.segmentWidth[i] += this.segmentWidth[i + 1];
+                removeSegment(i + 1);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void insertSegment(int index, int x, int y, int width) {
+        if (segmentCount == segmentX.length) {
+            segmentX = Arrays.copyOf(segmentX, segmentCount * 2);
+            segmentY = Arrays.copyOf(segmentY, segmentCount * 2);
+            segmentWidth = Arrays.copyOf(segmentWidth, segmentCount * 2);
+        }
+
+        int moved = segmentCount - index;
+        System.arraycopy(segmentX, index, segmentX, index + 1, moved);
+        System.arraycopy(segmentY, index, segmentY, index + 1, moved);
+        System.arraycopy(segmentWidth, index, segmentWidth, index + 1, moved);
+
+        segmentX[index] = x;
+        segmentY[index] = y;
+        segmentWidth[index] = width;
+        segmentCount++;
+    }
+
+    private void removeSegment(int index) {
+        int moved = segmentCount - index - 1;
+        System.arraycopy(segmentX, index + 1, segmentX, index, moved);
+        System.arraycopy(segmentY, index + 1, segmentY, index, moved);
+        System.arraycopy(segmentWidth, index + 1, segmentWidth, index, moved);
+        segmentCount--;
+    }
+
+    /**
+     * Returns the share of the area covered by packed rectangles, between 0 and 1
+     */
+    public float getOccupancy() {
+        return (float) ((double) usedArea / ((long) width * height));
+    }
+
+    /**
+     * Remove all packed rectangles
+     */
+    public void reset() {
+        segmentX[0] = 0;
+        segmentY[0] = 0;
+        segmentWidth[0] = width;
+        segmentCount = 1;
+        usedArea = 0;
+        packedCount = 0;
+    }
+
+}
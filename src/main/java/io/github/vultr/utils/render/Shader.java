@@ -5,55 +5,32 @@ import java.nio.IntBuffer;
 
 import org.lwjgl.BufferUtils;
 
-import static org.lwjgl.opengl.GL33.glGetShaderi;
 import static org.lwjgl.opengl.GL33.glGenBuffers;
 import static org.lwjgl.opengl.GL33.glBindBuffer;
-import static org.lwjgl.opengl.GL33.glBufferData;
-import static org.lwjgl.opengl.GL33.glUseProgram;
-import static org.lwjgl.opengl.GL33.glLinkProgram;
-import static org.lwjgl.opengl.GL33.glGetProgrami;
-import static org.lwjgl.opengl.GL33.glCreateShader;
-import static org.lwjgl.opengl.GL33.glShaderSource;
-import static org.lwjgl.opengl.GL33.glAttachShader;
-import static org.lwjgl.opengl.GL33.glDrawElements;
-import static org.lwjgl.opengl.GL33.glCreateProgram;
-import static org.lwjgl.opengl.GL33.glCompileShader;
 import static org.lwjgl.opengl.GL33.glBindVertexArray;
 import static org.lwjgl.opengl.GL33.glGenVertexArrays;
-import static org.lwjgl.opengl.GL33.glGetShaderInfoLog;
-import static org.lwjgl.opengl.GL33.glGetProgramInfoLog;
 import static org.lwjgl.opengl.GL33.glVertexAttribPointer;
 import static org.lwjgl.opengl.GL33.glEnableVertexAttribArray;
 import static org.lwjgl.opengl.GL33.glDisableVertexAttribArray;
-import static org.lwjgl.opengl.GL33.GL_FALSE;
 import static org.lwjgl.opengl.GL33.GL_FLOAT;
 import static org.lwjgl.opengl.GL33.GL_TRIANGLES;
 import static org.lwjgl.opengl.GL33.GL_STATIC_DRAW;
-import static org.lwjgl.opengl.GL33.GL_LINK_STATUS;
 import static org.lwjgl.opengl.GL33.GL_UNSIGNED_INT;
 import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
-import static org.lwjgl.opengl.GL33.GL_VERTEX_SHADER;
-import static org.lwjgl.opengl.GL33.GL_COMPILE_STATUS;
-import static org.lwjgl.opengl.GL33.GL_FRAGMENT_SHADER;
-import static org.lwjgl.opengl.GL33.GL_INFO_LOG_LENGTH;
 import static org.lwjgl.opengl.GL33.GL_ELEMENT_ARRAY_BUFFER;
 
-import io.github.vultr.core.exceptions.FailedShaderException;
-import io.github.vultr.utils.files.FileReader;
+import io.github.vultr.core.render.RenderDevice;
 import lombok.Getter;
 
 public class Shader {
 
-    private int programId;
-    private int vertexId;
-    private int fragmentId;
+    @Getter
+    private ShaderProgram program;
+
     private int vaoId;
     private int vboId;
     private int eboId;
 
-    private String vertexShader;
-    private String fragmentShader;
-
     private String vertexFilePath;
     private String fragmentFilePath;
 
@@ -77,75 +54,15 @@ public class Shader {
     public Shader(String vertexFilePath, String fragmentFilePath) {
         this.vertexFilePath = vertexFilePath;
         this.fragmentFilePath = fragmentFilePath;
-        vertexShader = String.join("\r\n", FileReader.readLines(vertexFilePath));
-        fragmentShader = String.join("\r\n", FileReader.readLines(fragmentFilePath));
     }
 
     public void compileShader() {
-        // load vertex shader
-        vertexId = glCreateShader(GL_VERTEX_SHADER);
-
-        // pass vertex shader source to the GPU
-        glShaderSource(vertexId, vertexShader);
-
-        // compile vertex shader
-        glCompileShader(vertexId);
-
-        // check for errors in compilation
-        int success = glGetShaderi(vertexId, GL_COMPILE_STATUS);
-        if (success == GL_FALSE) {
-            int len = glGetShaderi(vertexId, GL_INFO_LOG_LENGTH);
-
-            String errorMessage = "Shader error: Vertex shader compilation failed: "
-                    + vertexFilePath
-                    + "\n\t"
-                    + glGetShaderInfoLog(vertexId, len);
-
-            throw new FailedShaderException(errorMessage);
-        }
-
-        // load fragment shader
-        fragmentId = glCreateShader(GL_FRAGMENT_SHADER);
-
-        // pass vertex shader source to the GPU
-        glShaderSource(fragmentId, fragmentShader);
-
-        // compile vertex shader
-        glCompileShader(fragmentId);
-
-        // check for errors in compilation
-        success = glGetShaderi(fragmentId, GL_COMPILE_STATUS);
-        if (success == GL_FALSE) {
-            int len = glGetShaderi(fragmentId, GL_INFO_LOG_LENGTH);
-
-            String errorMessage = "Shader error: Fragment shader compilation failed: "
-                    + fragmentFilePath
-                    + "\n\t"
-                    + glGetShaderInfoLog(fragmentId, len);
-
-            throw new FailedShaderException(errorMessage);
+        if (shaderCompiled) {
+            return;
         }
 
-        // create shader program
-        programId = glCreateProgram();
-
-        // attach shaders
-        glAttachShader(programId, vertexId);
-        glAttachShader(programId, fragmentId);
-
-        // link program
-        glLinkProgram(programId);
-
-        success = glGetProgrami(programId, GL_LINK_STATUS);
-        if (success == GL_FALSE) {
-            int len = glGetProgrami(programId, GL_INFO_LOG_LENGTH);
-
-            String errorMessage = "Shader error: Shader program linking failed: "
-                    + "\n\t"
-                    + glGetProgramInfoLog(programId, len);
-
-            throw new FailedShaderException(errorMessage);
-        }
+        // programs are shared between all shaders using the same sources
+        program = ShaderCache.get(vertexFilePath, fragmentFilePath);
 
         // generate buffer objects
 
@@ -162,7 +79,7 @@ public class Shader {
 
         // upload vertex buffer
         glBindBuffer(GL_ARRAY_BUFFER, vboId);
-        glBufferData(GL_ARRAY_BUFFER, vertexBuffer, GL_STATIC_DRAW);
+        RenderDevice.bufferData(GL_ARRAY_BUFFER, vertexBuffer, GL_STATIC_DRAW);
 
         IntBuffer elementBuffer = BufferUtils.createIntBuffer(elementArray.length);
         elementBuffer.put(elementArray).flip();
@@ -172,7 +89,7 @@ public class Shader {
 
         // upload element buffer
         glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, eboId);
-        glBufferData(GL_ELEMENT_ARRAY_BUFFER, elementBuffer, GL_STATIC_DRAW);
+        RenderDevice.bufferData(GL_ELEMENT_ARRAY_BUFFER, elementBuffer, GL_STATIC_DRAW);
 
         // add vertex attribute pointers
         int posSize = 3; // x, y, z
@@ -196,7 +113,7 @@ public class Shader {
             return;
         }
         // bind shader program
-        glUseProgram(programId);
+        program.bind();
 
         // bind vao
         glBindVertexArray(vaoId);
@@ -206,19 +123,22 @@ public class Shader {
         glEnableVertexAttribArray(1);
 
         // draw
-        glDrawElements(GL_TRIANGLES, elementArray.length, GL_UNSIGNED_INT, 0);
+        RenderDevice.drawElements(GL_TRIANGLES, elementArray.length, GL_UNSIGNED_INT, 0);
     }
 
     /**
      * Unbind the shader
      */
     public void unbindShader() {
+        if (!shaderCompiled) {
+            return;
+        }
         glDisableVertexAttribArray(0);
         glDisableVertexAttribArray(1);
 
         glBindVertexArray(0);
 
-        glUseProgram(0);
+        program.unbind();
     }
 
     /**
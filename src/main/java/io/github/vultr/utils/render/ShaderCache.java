@@ -0,0 +1,133 @@
+package io.github.vultr.utils.render;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.github.vultr.core.assets.AssetManager;
+import io.github.vultr.core.assets.ShaderLoader;
+
+/**
+ * Keeps one compiled {@link ShaderProgram} per vertex and fragment source path and define set,
+ * so scenes using the same shaders share a single program and every variant is only compiled once.
+ * Sources are run through the {@link ShaderPreprocessor} before compiling.
+ * Has to be used on the thread owning the OpenGL context.
+ */
+public class ShaderCache {
+
+    private static final Map<String, ShaderProgram> programs = new HashMap<>();
+
+    private static final ShaderPreprocessor preprocessor = new ShaderPreprocessor();
+
+    /**
+     * Returns the program for the given source files.
+     * The sources are only read and compiled the first time a program is requested.
+     *
+     * @param vertexFilePath
+     * @param fragmentFilePath
+     * @return the compiled program
+     */
+    public static ShaderProgram get(String vertexFilePath, String fragmentFilePath) {
+        return get(vertexFilePath, fragmentFilePath, Collections.emptyMap());
+    }
+
+    /**
+     * Returns a variant of the program for the given source files
+     *
+     * @param vertexFilePath
+     * @param fragmentFilePath
+     * @param defines          inserted into both sources
+     * @return the compiled program
+     */
+    public static ShaderProgram get(String vertexFilePath, String fragmentFilePath, Map<String, String> defines) {
+        ShaderProgram program = programs.get(key(vertexFilePath, fragmentFilePath, defines));
+        if (program != null) {
+            return program;
+        }
+
+        return compile(vertexFilePath, fragmentFilePath, defines,
+                preprocessor.process(vertexFilePath, defines),
+                preprocessor.process(fragmentFilePath, defines));
+    }
+
+    /**
+     * Read the sources in the background and compile the program on the render thread.
+     *
+     * @param vertexFilePath
+     * @param fragmentFilePath
+     * @return completes on the render thread with the compiled program
+     */
+    public static CompletableFuture<ShaderProgram> load(String vertexFilePath, String fragmentFilePath) {
+        return load(vertexFilePath, fragmentFilePath, Collections.emptyMap());
+    }
+
+    public static CompletableFuture<ShaderProgram> load(String vertexFilePath, String fragmentFilePath,
+            Map<String, String> defines) {
+        String key = key(vertexFilePath, fragmentFilePath, defines);
+
+        ShaderProgram program = programs.get(key);
+        if (program != null) {
+            return CompletableFuture.completedFuture(program);
+        }
+
+        return AssetManager.load(key, new ShaderLoader(vertexFilePath, fragmentFilePath, defines));
+    }
+
+    /**
+     * Returns the cached variant for the given source files,
+     * or compiles the already preprocessed sources if there is none.
+     *
+     * @param vertexFilePath
+     * @param fragmentFilePath
+     * @param defines
+     * @param vertex
+     * @param fragment
+     * @return the compiled program
+     */
+    public static ShaderProgram compile(String vertexFilePath, String fragmentFilePath, Map<String, String> defines,
+            ShaderPreprocessor.Result vertex, ShaderPreprocessor.Result fragment) {
+        String key = key(vertexFilePath, fragmentFilePath, defines);
+
+        ShaderProgram program = programs.get(key);
+        if (program == null) {
+            program = new ShaderProgram(vertexFilePath, fragmentFilePath, defines,
+                    vertex.getSource(), fragment.getSource());
+            program.compile();
+            programs.put(key, program);
+            ShaderWatcher.watch(program, vertex.getFiles(), fragment.getFiles());
+        }
+
+        return program;
+    }
+
+    public static boolean contains(String vertexFilePath, String fragmentFilePath) {
+        return contains(vertexFilePath, fragmentFilePath, Collections.emptyMap());
+    }
+
+    public static boolean contains(String vertexFilePath, String fragmentFilePath, Map<String, String> defines) {
+        return programs.containsKey(key(vertexFilePath, fragmentFilePath, defines));
+    }
+
+    public static int size() {
+        return programs.size();
+    }
+
+    /**
+     * Delete all cached programs
+     */
+    public static void clear() {
+        for (ShaderProgram program : programs.values()) {
+            ShaderWatcher.unwatch(program);
+            program.dispose();
+        }
+        programs.clear();
+    }
+
+    private static String key(String vertexFilePath, String fragmentFilePath, Map<String, String> defines) {
+        // normalize so "./a.glsl" and "a.glsl" share a program
+        return ShaderPreprocessor.normalize(vertexFilePath) + "|" + ShaderPreprocessor.normalize(fragmentFilePath)
+                + "|" + ShaderPreprocessor.defineKey(defines);
+    }
+
+}
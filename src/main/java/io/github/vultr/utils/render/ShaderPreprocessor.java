@@ -0,0 +1,189 @@
+package io.github.vultr.utils.render;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.github.vultr.core.exceptions.FailedShaderException;
+import io.github.vultr.utils.files.FileReader;
+import lombok.Getter;
+
+/**
+ * Turns a GLSL file into a single source before it is compiled.
+ * <ul>
+ * <li>{@code #include "file"} is replaced by the file, resolved relative to the including file.
+ * Every file is included once, including a file that is still being included is an error.</li>
+ * <li>Defines are inserted after the {@code #version} line, or at the top if there is none.</li>
+ * </ul>
+ * {@code #line} directives keep the line numbers of compile errors pointing at the original lines.
+ * Does not need an OpenGL context.
+ */
+public class ShaderPreprocessor {
+
+    private static final Pattern INCLUDE = Pattern.compile("^\\s*#\\s*include\\s+[\"<]([^\">]+)[\">]\\s*(//.*)?$");
+    private static final Pattern VERSION = Pattern.compile("^\\s*#\\s*version\\b.*");
+
+    /**
+     * A preprocessed source and the files it was built from
+     */
+    public static class Result {
+        @Getter
+        private final String source;
+
+        // the processed file first, then its includes
+        @Getter
+        private final Set<String> files;
+
+        private Result(String source, Set<String> files) {
+            this.source = source;
+            this.files = Collections.unmodifiableSet(files);
+        }
+    }
+
+    private final Function<String, String> sourceProvider;
+
+    /**
+     * Read sources with the {@link FileReader}
+     */
+    public ShaderPreprocessor() {
+        this(FileReader::readString);
+    }
+
+    /**
+     * @param sourceProvider returns the source of a normalized file path
+     */
+    public ShaderPreprocessor(Function<String, String> sourceProvider) {
+        this.sourceProvider = sourceProvider;
+    }
+
+    public Result process(String filePath) {
+        return process(filePath, Collections.emptyMap());
+    }
+
+    /**
+     * Resolve the includes of a file and insert defines
+     *
+     * @param filePath
+     * @param defines  values may be empty for flags
+     * @return the preprocessed source
+     */
+    public Result process(String filePath, Map<String, String> defines) {
+        String root = normalize(filePath);
+
+        StringBuilder source = new StringBuilder();
+        Set<String> files = new LinkedHashSet<>();
+        List<String> stack = new ArrayList<>();
+
+        String header = defineLines(defines);
+        int[] versionLine = { -1 };
+
+        append(root, source, files, stack, header, versionLine);
+
+        // no #version, so the defines go first
+        if (versionLine[0] == -1 && !header.isEmpty()) {
+            source.insert(0, header + "#line 1\n");
+        }
+
+        return new Result(source.toString(), files);
+    }
+
+    private void append(String file, StringBuilder source, Set<String> files, List<String> stack,
+            String header, int[] versionLine) {
+        if (stack.contains(file)) {
+            stack.add(file);
+            throw new FailedShaderException("Shader error: Include cycle: " + String.join(" -> ", stack));
+        }
+        if (!files.add(file)) {
+            return;
+        }
+
+        String text = sourceProvider.apply(file);
+        if (text == null)
+            throw new FailedShaderException("Shader error: Failed to read shader source: " + file);
+
+        // included files start counting their own lines
+        if (!stack.isEmpty())
+            source.append("#line 1\n");
+
+        stack.add(file);
+
+        int lineNumber = 0;
+        for (String line : (Iterable<String>) text.lines()::iterator) {
+            lineNumber++;
+
+            Matcher include = INCLUDE.matcher(line);
+            if (include.matches()) {
+                String included = normalize(resolve(file, include.group(1)));
+
+                append(included, source, files, stack, header, versionLine);
+                source.append("#line ").append(lineNumber + 1).append('\n');
+                continue;
+            }
+
+            source.append(line).append('\n');
+
+            // defines have to follow the version of the processed file
+            if (versionLine[0] == -1 && stack.size() == 1 && VERSION.matcher(line).matches()) {
+                versionLine[0] = lineNumber;
+                if (!header.isEmpty()) {
+                    source.append(header);
+                    source.append("#line ").append(lineNumber + 1).append('\n');
+                }
+            }
+        }
+
+        stack.remove(stack.size() - 1);
+    }
+
+    private static String defineLines(Map<String, String> defines) {
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<String, String> define : new TreeMap<>(defines).entrySet()) {
+            lines.append("#define ").append(define.getKey());
+            if (define.getValue() != null && !define.getValue().isEmpty())
+                lines.append(' ').append(define.getValue());
+            lines.append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static String resolve(String file, String include) {
+        Path parent = Paths.get(file).getParent();
+        return parent == null ? include : parent.resolve(include).toString();
+    }
+
+    /**
+     * Returns a path with forward slashes and without "." or ".." parts
+     */
+    public static String normalize(String filePath) {
+        return Paths.get(filePath).normalize().toString().replace('\\', '/');
+    }
+
+    /**
+     * Returns the defines in a fixed order, so equal sets give equal keys
+     */
+    public static String defineKey(Map<String, String> defines) {
+        if (defines.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (Map.Entry<String, String> define : new TreeMap<>(defines).entrySet()) {
+            if (key.length() > 0)
+                key.append(',');
+            key.append(define.getKey());
+            if (define.getValue() != null && !define.getValue().isEmpty())
+                key.append('=').append(define.getValue());
+        }
+        return key.toString();
+    }
+
+}
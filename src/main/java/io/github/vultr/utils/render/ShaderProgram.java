@@ -0,0 +1,328 @@
+package io.github.vultr.utils.render;
+
+import java.nio.IntBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.joml.Matrix4f;
+import org.joml.Vector4f;
+import org.lwjgl.system.MemoryStack;
+
+import static org.lwjgl.opengl.GL33.glGetShaderi;
+import static org.lwjgl.opengl.GL33.glLinkProgram;
+import static org.lwjgl.opengl.GL33.glGetProgrami;
+import static org.lwjgl.opengl.GL33.glDeleteShader;
+import static org.lwjgl.opengl.GL33.glDetachShader;
+import static org.lwjgl.opengl.GL33.glCreateShader;
+import static org.lwjgl.opengl.GL33.glShaderSource;
+import static org.lwjgl.opengl.GL33.glAttachShader;
+import static org.lwjgl.opengl.GL33.glDeleteProgram;
+import static org.lwjgl.opengl.GL33.glCreateProgram;
+import static org.lwjgl.opengl.GL33.glCompileShader;
+import static org.lwjgl.opengl.GL33.glUniform1i;
+import static org.lwjgl.opengl.GL33.glUniform1f;
+import static org.lwjgl.opengl.GL33.glUniform2f;
+import static org.lwjgl.opengl.GL33.glUniform4f;
+import static org.lwjgl.opengl.GL33.glUniform1iv;
+import static org.lwjgl.opengl.GL33.glGetActiveUniform;
+import static org.lwjgl.opengl.GL33.glUniformMatrix4fv;
+import static org.lwjgl.opengl.GL33.glGetUniformLocation;
+import static org.lwjgl.opengl.GL33.glGetShaderInfoLog;
+import static org.lwjgl.opengl.GL33.glGetProgramInfoLog;
+import static org.lwjgl.opengl.GL33.GL_FALSE;
+import static org.lwjgl.opengl.GL33.GL_LINK_STATUS;
+import static org.lwjgl.opengl.GL33.GL_ACTIVE_UNIFORMS;
+import static org.lwjgl.opengl.GL33.GL_VERTEX_SHADER;
+import static org.lwjgl.opengl.GL33.GL_COMPILE_STATUS;
+import static org.lwjgl.opengl.GL33.GL_FRAGMENT_SHADER;
+import static org.lwjgl.opengl.GL33.GL_INFO_LOG_LENGTH;
+
+import io.github.vultr.core.exceptions.FailedShaderException;
+import io.github.vultr.core.render.RenderDevice;
+import lombok.Getter;
+
+/**
+ * A linked shader program.
+ * Only owns the program object, geometry is owned by whoever draws with it.
+ * Programs are usually obtained through the {@link ShaderCache}.
+ */
+public class ShaderProgram {
+
+    @Getter
+    private final String vertexFilePath;
+    @Getter
+    private final String fragmentFilePath;
+
+    // defines the sources were preprocessed with
+    @Getter
+    private final Map<String, String> defines;
+
+    private String vertexShader;
+    private String fragmentShader;
+
+    @Getter
+    private int programId;
+
+    @Getter
+    private boolean compiled;
+
+    // uniform locations by name, filled once after linking
+    private final Map<String, Integer> uniformLocations = new HashMap<>();
+
+    public ShaderProgram(String vertexFilePath, String fragmentFilePath, String vertexShader, String fragmentShader) {
+        this(vertexFilePath, fragmentFilePath, Collections.emptyMap(), vertexShader, fragmentShader);
+    }
+
+    public ShaderProgram(String vertexFilePath, String fragmentFilePath, Map<String, String> defines,
+            String vertexShader, String fragmentShader) {
+        this.vertexFilePath = vertexFilePath;
+        this.fragmentFilePath = fragmentFilePath;
+        this.defines = Collections.unmodifiableMap(new TreeMap<>(defines));
+        this.vertexShader = vertexShader;
+        this.fragmentShader = fragmentShader;
+    }
+
+    /**
+     * Compile both shader stages and link the program.
+     * The stage objects are deleted after linking.
+     */
+    public void compile() {
+        if (compiled) {
+            return;
+        }
+
+        this.programId = link(vertexShader, fragmentShader);
+        this.compiled = true;
+
+        cacheUniformLocations();
+    }
+
+    /**
+     * Replace the program with one built from new sources.
+     * The current program is only deleted once the new one linked,
+     * if compiling fails it stays in use and the exception is thrown.
+     * Uniforms have to be set again after reloading.
+     *
+     * @param vertexSource
+     * @param fragmentSource
+     */
+    public void reload(String vertexSource, String fragmentSource) {
+        int program = link(vertexSource, fragmentSource);
+
+        if (compiled)
+            glDeleteProgram(programId);
+
+        this.vertexShader = vertexSource;
+        this.fragmentShader = fragmentSource;
+        this.programId = program;
+        this.compiled = true;
+
+        cacheUniformLocations();
+    }
+
+    private int link(String vertexSource, String fragmentSource) {
+        long start = System.nanoTime();
+
+        int program = ProgramBinaryCache.load(vertexSource, fragmentSource);
+        if (program != 0) {
+            ProgramBinaryCache.record(System.nanoTime() - start, true);
+            return program;
+        }
+
+        program = compileAndLink(vertexSource, fragmentSource);
+        ProgramBinaryCache.store(program, vertexSource, fragmentSource);
+        ProgramBinaryCache.record(System.nanoTime() - start, false);
+        return program;
+    }
+
+    private int compileAndLink(String vertexSource, String fragmentSource) {
+        int vertexId = compileStage(GL_VERTEX_SHADER, vertexSource, "Vertex", vertexFilePath);
+        int fragmentId;
+        try {
+            fragmentId = compileStage(GL_FRAGMENT_SHADER, fragmentSource, "Fragment", fragmentFilePath);
+        } catch (FailedShaderException e) {
+            glDeleteShader(vertexId);
+            throw e;
+        }
+
+        // create shader program
+        int program = glCreateProgram();
+
+        ProgramBinaryCache.prepare(program);
+
+        // attach shaders
+        glAttachShader(program, vertexId);
+        glAttachShader(program, fragmentId);
+
+        // link program
+        glLinkProgram(program);
+
+        // the stages are not needed anymore once the program is linked
+        glDetachShader(program, vertexId);
+        glDetachShader(program, fragmentId);
+        glDeleteShader(vertexId);
+        glDeleteShader(fragmentId);
+
+        int success = glGetProgrami(program, GL_LINK_STATUS);
+        if (success == GL_FALSE) {
+            int len = glGetProgrami(program, GL_INFO_LOG_LENGTH);
+
+            String errorMessage = "Shader error: Shader program linking failed: "
+                    + vertexFilePath + ", " + fragmentFilePath
+                    + "\n\t"
+                    + glGetProgramInfoLog(program, len);
+
+            glDeleteProgram(program);
+            throw new FailedShaderException(errorMessage);
+        }
+
+        return program;
+    }
+
+    /**
+     * Look up the locations of all active uniforms of the program,
+     * so setting a uniform never has to query the driver.
+     */
+    private void cacheUniformLocations() {
+        uniformLocations.clear();
+
+        int count = glGetProgrami(programId, GL_ACTIVE_UNIFORMS);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer size = stack.mallocInt(1);
+            IntBuffer type = stack.mallocInt(1);
+
+            for (int i = 0; i < count; i++) {
+                String name = glGetActiveUniform(programId, i, size, type);
+                int location = glGetUniformLocation(programId, name);
+
+                // arrays are reported as "name[0]"
+                if (name.endsWith("[0]"))
+                    name = name.substring(0, name.length() - 3);
+
+                uniformLocations.put(name, location);
+            }
+        }
+    }
+
+    private static int compileStage(int type, String source, String stageName, String filePath) {
+        int shaderId = glCreateShader(type);
+
+        // pass shader source to the GPU
+        glShaderSource(shaderId, source);
+
+        // compile shader
+        glCompileShader(shaderId);
+
+        // check for errors in compilation
+        int success = glGetShaderi(shaderId, GL_COMPILE_STATUS);
+        if (success == GL_FALSE) {
+            int len = glGetShaderi(shaderId, GL_INFO_LOG_LENGTH);
+
+            String errorMessage = "Shader error: " + stageName + " shader compilation failed: "
+                    + filePath
+                    + "\n\t"
+                    + glGetShaderInfoLog(shaderId, len);
+
+            glDeleteShader(shaderId);
+            throw new FailedShaderException(errorMessage);
+        }
+
+        return shaderId;
+    }
+
+    /**
+     * Returns the cached location of a uniform
+     *
+     * @param name
+     * @return the location or -1 if the program has no active uniform with this name
+     */
+    public int getUniformLocation(String name) {
+        Integer location = uniformLocations.get(name);
+        return location == null ? -1 : location;
+    }
+
+    public boolean hasUniform(String name) {
+        return uniformLocations.containsKey(name);
+    }
+
+    // the setters below expect the program to be bound
+
+    public void setInt(String name, int value) {
+        int location = getUniformLocation(name);
+        if (location != -1)
+            glUniform1i(location, value);
+    }
+
+    public void setIntArray(String name, int[] values) {
+        int location = getUniformLocation(name);
+        if (location != -1)
+            glUniform1iv(location, values);
+    }
+
+    public void setFloat(String name, float value) {
+        int location = getUniformLocation(name);
+        if (location != -1)
+            glUniform1f(location, value);
+    }
+
+    public void setVec2(String name, float x, float y) {
+        int location = getUniformLocation(name);
+        if (location != -1)
+            glUniform2f(location, x, y);
+    }
+
+    public void setVec4(String name, float x, float y, float z, float w) {
+        int location = getUniformLocation(name);
+        if (location != -1)
+            glUniform4f(location, x, y, z, w);
+    }
+
+    public void setVec4(String name, Vector4f value) {
+        setVec4(name, value.x, value.y, value.z, value.w);
+    }
+
+    public void setMat4(String name, Matrix4f matrix) {
+        int location = getUniformLocation(name);
+        if (location == -1) {
+            return;
+        }
+
+        // the thread local stack avoids allocating a buffer per upload
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            glUniformMatrix4fv(location, false, matrix.get(stack.mallocFloat(16)));
+        }
+    }
+
+    /**
+     * Bind the program
+     */
+    public void bind() {
+        if (!compiled) {
+            return;
+        }
+        RenderDevice.useProgram(programId);
+    }
+
+    /**
+     * Unbind the program
+     */
+    public void unbind() {
+        RenderDevice.unbindProgram();
+    }
+
+    /**
+     * Delete the program
+     */
+    public void dispose() {
+        if (!compiled) {
+            return;
+        }
+        glDeleteProgram(programId);
+        uniformLocations.clear();
+        this.programId = 0;
+        this.compiled = false;
+    }
+
+}
@@ -0,0 +1,208 @@
+package io.github.vultr.utils.render;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import io.github.vultr.core.exceptions.FailedFileReadException;
+import io.github.vultr.core.exceptions.FailedShaderException;
+
+/**
+ * Recompiles shader programs when their source files change, meant for development.
+ * Changed sources are read on the watcher thread and the program is swapped
+ * on the render thread between frames. If the new sources do not compile
+ * the old program stays in use and the error is printed.
+ *
+ * Programs created by the {@link ShaderCache} are watched automatically while the watcher runs,
+ * together with the files they include.
+ */
+public class ShaderWatcher {
+
+    // editors often write a file in several steps, changes are collected for this long
+    private static final long SETTLE_MILLIS = 50;
+
+    private static WatchService service;
+    private static Thread thread;
+    private static Executor renderThread;
+
+    private static final Map<Path, Set<ShaderProgram>> programsByFile = new ConcurrentHashMap<>();
+    private static final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    private static final ShaderPreprocessor preprocessor = new ShaderPreprocessor();
+
+    /**
+     * Start watching
+     *
+     * @param renderThread runs the recompilation on the thread owning the OpenGL context
+     */
+    public static synchronized void start(Executor renderThread) {
+        if (thread != null) {
+            return;
+        }
+
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            System.err.println("Shader hot reload disabled: " + e.getMessage());
+            return;
+        }
+
+        ShaderWatcher.renderThread = renderThread;
+
+        thread = new Thread(ShaderWatcher::run, "Vultr-Shader-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop watching and forget all watched programs
+     */
+    public static synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+
+        try {
+            service.close();
+        } catch (IOException e) {
+            // the watcher thread stops either way
+        }
+        thread = null;
+        service = null;
+        programsByFile.clear();
+        watchedDirectories.clear();
+    }
+
+    public static synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Reload a program when one of its source files or their includes change
+     *
+     * @param program
+     * @param vertexFiles   the files the vertex source was built from
+     * @param fragmentFiles the files the fragment source was built from
+     */
+    public static synchronized void watch(ShaderProgram program, Set<String> vertexFiles, Set<String> fragmentFiles) {
+        if (thread == null) {
+            return;
+        }
+
+        for (String file : vertexFiles) {
+            watchFile(program, file);
+        }
+        for (String file : fragmentFiles) {
+            watchFile(program, file);
+        }
+    }
+
+    public static void unwatch(ShaderProgram program) {
+        for (Set<ShaderProgram> programs : programsByFile.values()) {
+            programs.remove(program);
+        }
+    }
+
+    private static void watchFile(ShaderProgram program, String filePath) {
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        Path directory = file.getParent();
+
+        // files only found in archives can not change
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        if (watchedDirectories.add(directory)) {
+            try {
+                directory.register(service, ENTRY_MODIFY, ENTRY_CREATE);
+            } catch (IOException e) {
+                watchedDirectories.remove(directory);
+                System.err.println("Shader hot reload can not watch " + directory + ": " + e.getMessage());
+                return;
+            }
+        }
+
+        programsByFile.computeIfAbsent(file, key -> ConcurrentHashMap.newKeySet()).add(program);
+    }
+
+    private static void run() {
+        WatchService service = ShaderWatcher.service;
+
+        try {
+            while (true) {
+                WatchKey key = service.take();
+
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(key, changed);
+
+                // wait for the editor to finish writing
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+
+                Set<ShaderProgram> programs = new LinkedHashSet<>();
+                for (Path file : changed) {
+                    Set<ShaderProgram> watching = programsByFile.get(file);
+                    if (watching != null)
+                        programs.addAll(watching);
+                }
+
+                for (ShaderProgram program : programs) {
+                    reload(program);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    private static void collect(WatchKey key, Set<Path> changed) {
+        Path directory = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW)
+                continue;
+            changed.add(directory.resolve((Path) event.context()).normalize());
+        }
+        key.reset();
+    }
+
+    private static void reload(ShaderProgram program) {
+        ShaderPreprocessor.Result vertex;
+        ShaderPreprocessor.Result fragment;
+        try {
+            vertex = preprocessor.process(program.getVertexFilePath(), program.getDefines());
+            fragment = preprocessor.process(program.getFragmentFilePath(), program.getDefines());
+        } catch (FailedFileReadException | FailedShaderException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        // includes may have been added
+        watch(program, vertex.getFiles(), fragment.getFiles());
+
+        renderThread.execute(() -> {
+            try {
+                program.reload(vertex.getSource(), fragment.getSource());
+                System.out.println("Reloaded shader: " + program.getVertexFilePath() + ", " + program.getFragmentFilePath());
+            } catch (FailedShaderException e) {
+                System.err.println(e.getMessage());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.github.vultr.utils.render;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL33.glGenTextures;
+import static org.lwjgl.opengl.GL33.glBindTexture;
+import static org.lwjgl.opengl.GL33.glPixelStorei;
+import static org.lwjgl.opengl.GL33.glTexParameteri;
+import static org.lwjgl.opengl.GL33.glDeleteTextures;
+import static org.lwjgl.opengl.GL33.GL_RGBA;
+import static org.lwjgl.opengl.GL33.GL_RGBA8;
+import static org.lwjgl.opengl.GL33.GL_NEAREST;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL33.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL33.GL_CLAMP_TO_EDGE;
+import static org.lwjgl.opengl.GL33.GL_UNPACK_ROW_LENGTH;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_WRAP_S;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_WRAP_T;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_MIN_FILTER;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_MAG_FILTER;
+
+import io.github.vultr.core.render.RenderDevice;
+import lombok.Getter;
+
+/**
+ * RGBA texture.
+ * The texture object is created on the first upload, so a texture can be
+ * created and referenced before an OpenGL context is available.
+ */
+public class Texture {
+
+    @Getter
+    private final int width;
+    @Getter
+    private final int height;
+
+    @Getter
+    private int textureId; // 0 until uploaded
+
+    public Texture(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Create a texture and upload an image
+     *
+     * @param image
+     */
+    public Texture(ImageData image) {
+        this(image.getWidth(), image.getHeight());
+        upload(image);
+    }
+
+    /**
+     * Upload the whole texture
+     *
+     * @param image an image with the size of the texture
+     */
+    public void upload(ImageData image) {
+        if (image.getWidth() != width || image.getHeight() != height)
+            throw new IllegalArgumentException("Image size does not match the texture size");
+
+        boolean created = textureId == 0;
+        if (created) {
+            textureId = glGenTextures();
+        }
+
+        glBindTexture(GL_TEXTURE_2D, textureId);
+
+        if (created) {
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+
+            RenderDevice.texImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, width, height,
+                    GL_RGBA, GL_UNSIGNED_BYTE, image.getPixels());
+        } else {
+            RenderDevice.texSubImage2D(GL_TEXTURE_2D, 0, 0, 0, width, height,
+                    GL_RGBA, GL_UNSIGNED_BYTE, image.getPixels());
+        }
+
+        glBindTexture(GL_TEXTURE_2D, 0);
+    }
+
+    /**
+     * Upload a part of the texture
+     *
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     * @param pixels tightly packed RGBA rows of the area
+     */
+    public void upload(int x, int y, int width, int height, ByteBuffer pixels) {
+        if (textureId == 0)
+            throw new IllegalStateException("The texture has to be uploaded completely first");
+
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        RenderDevice.texSubImage2D(GL_TEXTURE_2D, 0, x, y, width, height, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+        glBindTexture(GL_TEXTURE_2D, 0);
+    }
+
+    /**
+     * Upload an area of an image with the size of the texture
+     *
+     * @param image
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     */
+    public void upload(ImageData image, int x, int y, int width, int height) {
+        if (image.getWidth() != this.width || image.getHeight() != this.height)
+            throw new IllegalArgumentException("Image size does not match the texture size");
+        if (textureId == 0)
+            throw new IllegalStateException("The texture has to be uploaded completely first");
+
+        ByteBuffer pixels = image.getPixels();
+        int offset = (y * this.width + x) * ImageData.CHANNELS;
+        int length = ((height - 1) * this.width + width) * ImageData.CHANNELS;
+
+        // read the rows of the area straight out of the full image
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        glPixelStorei(GL_UNPACK_ROW_LENGTH, this.width);
+        RenderDevice.texSubImage2D(GL_TEXTURE_2D, 0, x, y, width, height, GL_RGBA, GL_UNSIGNED_BYTE,
+                pixels.slice(offset, length));
+        glPixelStorei(GL_UNPACK_ROW_LENGTH, 0);
+        glBindTexture(GL_TEXTURE_2D, 0);
+    }
+
+    public boolean isUploaded() {
+        return textureId != 0;
+    }
+
+    /**
+     * Bind the texture to a texture unit
+     *
+     * @param unit
+     */
+    public void bind(int unit) {
+        RenderDevice.bindTexture(unit, GL_TEXTURE_2D, textureId);
+    }
+
+    /**
+     * Delete the texture
+     */
+    public void dispose() {
+        if (textureId == 0) {
+            return;
+        }
+        glDeleteTextures(textureId);
+        textureId = 0;
+    }
+
+}
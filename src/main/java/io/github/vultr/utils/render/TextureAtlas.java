@@ -0,0 +1,174 @@
+package io.github.vultr.utils.render;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Packs many small images into a few large textures at runtime,
+ * so sprites from different images can be drawn without switching textures.
+ * Images are copied into off heap pages, the pages are uploaded with {@link #upload()}.
+ */
+public class TextureAtlas {
+
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+
+    // empty pixels around each image, prevents bleeding of neighbours when filtering
+    public static final int PADDING = 1;
+
+    private static class Page {
+        private final RectPacker packer;
+        private final ImageData pixels;
+        private final Texture texture;
+
+        // area changed since the last upload
+        private int dirtyMinX = Integer.MAX_VALUE;
+        private int dirtyMinY = Integer.MAX_VALUE;
+        private int dirtyMaxX;
+        private int dirtyMaxY;
+
+        private Page(int size) {
+            this.packer = new RectPacker(size, size);
+            this.pixels = ImageData.allocate(size, size);
+            this.texture = new Texture(size, size);
+        }
+
+        private boolean isDirty() {
+            return dirtyMaxX > dirtyMinX;
+        }
+
+        private void markDirty(int x, int y, int width, int height) {
+            dirtyMinX = Math.min(dirtyMinX, x);
+            dirtyMinY = Math.min(dirtyMinY, y);
+            dirtyMaxX = Math.max(dirtyMaxX, x + width);
+            dirtyMaxY = Math.max(dirtyMaxY, y + height);
+        }
+
+        private void clearDirty() {
+            dirtyMinX = Integer.MAX_VALUE;
+            dirtyMinY = Integer.MAX_VALUE;
+            dirtyMaxX = 0;
+            dirtyMaxY = 0;
+        }
+    }
+
+    @Getter
+    private final int pageSize;
+
+    private final List<Page> pages = new ArrayList<>();
+
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+
+    private final int[] position = new int[2];
+
+    public TextureAtlas() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    public TextureAtlas(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Copy an image into the atlas.
+     * The image is not freed, it can be released after adding it.
+     *
+     * @param name
+     * @param image
+     * @return the region of the image
+     */
+    public TextureRegion add(String name, ImageData image) {
+        int paddedWidth = image.getWidth() + PADDING * 2;
+        int paddedHeight = image.getHeight() + PADDING * 2;
+        if (paddedWidth > pageSize || paddedHeight > pageSize)
+            throw new IllegalArgumentException("Image " + name + " does not fit into an atlas page of " + pageSize);
+
+        // try the existing pages first, newest first as older ones are likely full
+        Page page = null;
+        for (int i = pages.size() - 1; i >= 0; i--) {
+            if (pages.get(i).packer.pack(paddedWidth, paddedHeight, position)) {
+                page = pages.get(i);
+                break;
+            }
+        }
+
+        if (page == null) {
+            page = new Page(pageSize);
+            pages.add(page);
+            page.packer.pack(paddedWidth, paddedHeight, position);
+        }
+
+        int x = position[0] + PADDING;
+        int y = position[1] + PADDING;
+
+        page.pixels.copy(image, x, y);
+        page.markDirty(x, y, image.getWidth(), image.getHeight());
+
+        TextureRegion region = new TextureRegion(page.texture, x, y, image.getWidth(), image.getHeight());
+        regions.put(name, region);
+        return region;
+    }
+
+    public TextureRegion getRegion(String name) {
+        return regions.get(name);
+    }
+
+    public boolean contains(String name) {
+        return regions.containsKey(name);
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    public Texture getPage(int index) {
+        return pages.get(index).texture;
+    }
+
+    /**
+     * Returns the share of the page area used by images, between 0 and 1
+     */
+    public float getOccupancy() {
+        if (pages.isEmpty()) {
+            return 0;
+        }
+
+        long used = 0;
+        for (Page page : pages) {
+            used += page.packer.getUsedArea();
+        }
+        return (float) ((double) used / ((long) pages.size() * pageSize * pageSize));
+    }
+
+    /**
+     * Upload the changed parts of the pages.
+     * Has to be called on the thread owning the OpenGL context.
+     */
+    public void upload() {
+        for (Page page : pages) {
+            if (!page.texture.isUploaded()) {
+                page.texture.upload(page.pixels);
+            } else if (page.isDirty()) {
+                page.texture.upload(page.pixels, page.dirtyMinX, page.dirtyMinY,
+                        page.dirtyMaxX - page.dirtyMinX, page.dirtyMaxY - page.dirtyMinY);
+            }
+            page.clearDirty();
+        }
+    }
+
+    /**
+     * Delete the page textures and free their pixels
+     */
+    public void dispose() {
+        for (Page page : pages) {
+            page.texture.dispose();
+            page.pixels.free();
+        }
+        pages.clear();
+        regions.clear();
+    }
+
+}
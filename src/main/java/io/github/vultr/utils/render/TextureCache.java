@@ -0,0 +1,138 @@
+package io.github.vultr.utils.render;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.github.vultr.core.assets.AssetManager;
+import io.github.vultr.core.assets.TextureLoader;
+
+/**
+ * Reference counted textures by file path.
+ * A texture is loaded on the first acquire and deleted when the last user released it.
+ * Has to be used on the thread owning the OpenGL context.
+ */
+public class TextureCache {
+
+    private static class Entry {
+        private final Texture texture;
+        private int references;
+
+        private Entry(Texture texture) {
+            this.texture = texture;
+        }
+    }
+
+    private static final Map<String, Entry> textures = new HashMap<>();
+
+    /**
+     * Returns the texture of a file and increases its reference count
+     *
+     * @param filePath
+     * @return the texture
+     */
+    public static Texture acquire(String filePath) {
+        String key = key(filePath);
+
+        Entry entry = textures.get(key);
+        if (entry == null) {
+            ImageData image = ImageData.load(filePath);
+            try {
+                entry = new Entry(new Texture(image));
+            } finally {
+                // the pixels are on the GPU now
+                image.free();
+            }
+            textures.put(key, entry);
+        }
+
+        entry.references++;
+        return entry.texture;
+    }
+
+    /**
+     * Decode the image of a file in the background and upload it on the render thread.
+     * Like {@link #acquire(String)} every call increases the reference count once.
+     *
+     * @param filePath
+     * @return completes on the render thread with the texture
+     */
+    public static CompletableFuture<Texture> load(String filePath) {
+        if (contains(filePath)) {
+            return CompletableFuture.completedFuture(acquire(filePath));
+        }
+
+        return AssetManager.load(filePath, TextureLoader.INSTANCE)
+                .thenApply(texture -> put(filePath, texture));
+    }
+
+    /**
+     * Add a texture that was loaded elsewhere, e.g. by the asset manager
+     *
+     * @param filePath
+     * @param texture
+     * @return the cached texture, which is the existing one if the path was already loaded
+     */
+    public static Texture put(String filePath, Texture texture) {
+        String key = key(filePath);
+
+        Entry entry = textures.get(key);
+        if (entry == null) {
+            entry = new Entry(texture);
+            textures.put(key, entry);
+        } else if (entry.texture != texture) {
+            texture.dispose();
+        }
+
+        entry.references++;
+        return entry.texture;
+    }
+
+    /**
+     * Decrease the reference count of a texture, deleting it when it is not used anymore
+     *
+     * @param filePath
+     */
+    public static void release(String filePath) {
+        String key = key(filePath);
+
+        Entry entry = textures.get(key);
+        if (entry == null) {
+            return;
+        }
+
+        if (--entry.references <= 0) {
+            entry.texture.dispose();
+            textures.remove(key);
+        }
+    }
+
+    public static boolean contains(String filePath) {
+        return textures.containsKey(key(filePath));
+    }
+
+    public static int getReferences(String filePath) {
+        Entry entry = textures.get(key(filePath));
+        return entry == null ? 0 : entry.references;
+    }
+
+    public static int size() {
+        return textures.size();
+    }
+
+    /**
+     * Delete all cached textures regardless of their references
+     */
+    public static void clear() {
+        for (Entry entry : textures.values()) {
+            entry.texture.dispose();
+        }
+        textures.clear();
+    }
+
+    private static String key(String filePath) {
+        return Paths.get(filePath).normalize().toString();
+    }
+
+}
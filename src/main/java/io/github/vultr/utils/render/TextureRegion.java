@@ -0,0 +1,53 @@
+package io.github.vultr.utils.render;
+
+import lombok.Getter;
+
+/**
+ * A rectangular part of a texture
+ */
+public class TextureRegion {
+
+    @Getter
+    private final Texture texture;
+
+    @Getter
+    private final float u0;
+    @Getter
+    private final float v0;
+    @Getter
+    private final float u1;
+    @Getter
+    private final float v1;
+
+    @Getter
+    private final int width;
+    @Getter
+    private final int height;
+
+    /**
+     * A region covering the whole texture
+     *
+     * @param texture
+     */
+    public TextureRegion(Texture texture) {
+        this(texture, 0, 0, texture.getWidth(), texture.getHeight());
+    }
+
+    /**
+     * @param texture
+     * @param x the left edge in pixels
+     * @param y the bottom edge in pixels
+     * @param width
+     * @param height
+     */
+    public TextureRegion(Texture texture, int x, int y, int width, int height) {
+        this.texture = texture;
+        this.width = width;
+        this.height = height;
+        this.u0 = (float) x / texture.getWidth();
+        this.v0 = (float) y / texture.getHeight();
+        this.u1 = (float) (x + width) / texture.getWidth();
+        this.v1 = (float) (y + height) / texture.getHeight();
+    }
+
+}
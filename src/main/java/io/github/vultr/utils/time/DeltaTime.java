@@ -1,20 +1,47 @@
 package io.github.vultr.utils.time;
 
-import org.lwjgl.glfw.GLFW;
-
 public class DeltaTime {
 
-    private static float lastTime;
+    public static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // origin of the seconds returned by getLastTime
+    private static final long START_TIME = System.nanoTime();
+
+    private static long lastTime = -1;
 
+    /**
+     * Returns the time of the last delta measurement in seconds since the timer started,
+     * or 0 before the first measurement
+     */
     public static float getLastTime() {
+        return lastTime < 0 ? 0 : (float) ((lastTime - START_TIME) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} of the last delta measurement,
+     * or -1 before the first measurement
+     */
+    public static long getLastTimeNanos() {
         return lastTime;
     }
 
-    public static float getDelta() {
-        float time = (float) GLFW.glfwGetTime();
-        float delta = time - lastTime;
+    /**
+     * Returns the nanoseconds passed since the last call.
+     * The first call returns 0.
+     */
+    public static long getDeltaNanos() {
+        long time = System.nanoTime();
+        long delta = lastTime < 0 ? 0 : time - lastTime;
         lastTime = time;
         return delta;
     }
 
+    /**
+     * Returns the seconds passed since the last call.
+     * The first call returns 0.
+     */
+    public static float getDelta() {
+        return (float) (getDeltaNanos() / NANOS_PER_SECOND);
+    }
+
 }
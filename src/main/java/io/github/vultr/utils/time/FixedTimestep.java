@@ -0,0 +1,83 @@
+package io.github.vultr.utils.time;
+
+import lombok.Getter;
+
+/**
+ * Accumulates frame time and splits it into updates of a fixed length.
+ * The time left over after the updates is exposed as an interpolation alpha
+ * between the last two updates.
+ */
+public class FixedTimestep {
+
+    public static final int DEFAULT_MAX_STEPS = 5;
+
+    @Getter
+    private final long stepNanos;
+
+    @Getter
+    private final float stepSeconds;
+
+    @Getter
+    private final int maxSteps;
+
+    private long accumulator;
+
+    @Getter
+    private float alpha;
+
+    @Getter
+    private long droppedNanos; // time skipped because the updates could not catch up
+
+    /**
+     * @param updatesPerSecond the rate updates run at
+     * @param maxSteps the maximum amount of updates per frame,
+     *                 prevents slow updates from piling up forever
+     */
+    public FixedTimestep(double updatesPerSecond, int maxSteps) {
+        if (updatesPerSecond <= 0)
+            throw new IllegalArgumentException("Update rate must be positive: " + updatesPerSecond);
+        if (maxSteps <= 0)
+            throw new IllegalArgumentException("Max steps must be positive: " + maxSteps);
+
+        this.stepNanos = Math.max(1, Math.round(DeltaTime.NANOS_PER_SECOND / updatesPerSecond));
+        this.stepSeconds = (float) (stepNanos / DeltaTime.NANOS_PER_SECOND);
+        this.maxSteps = maxSteps;
+    }
+
+    public FixedTimestep(double updatesPerSecond) {
+        this(updatesPerSecond, DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * Add the time passed since the last frame
+     *
+     * @param elapsedNanos
+     * @return the amount of fixed updates to run this frame
+     */
+    public int advance(long elapsedNanos) {
+        if (elapsedNanos > 0)
+            accumulator += elapsedNanos;
+
+        int steps = (int) Math.min(accumulator / stepNanos, maxSteps);
+        accumulator -= steps * stepNanos;
+
+        if (accumulator >= stepNanos) {
+            // too far behind, drop the time instead of spiraling
+            long dropped = accumulator - accumulator % stepNanos;
+            droppedNanos += dropped;
+            accumulator -= dropped;
+        }
+
+        alpha = (float) accumulator / stepNanos;
+        return steps;
+    }
+
+    /**
+     * Forget the accumulated time
+     */
+    public void reset() {
+        accumulator = 0;
+        alpha = 0;
+    }
+
+}
@@ -0,0 +1,224 @@
+package io.github.vultr.core.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.vultr.core.exceptions.FailedFontException;
+import io.github.vultr.core.text.Font;
+import io.github.vultr.core.text.FontAtlas;
+import io.github.vultr.core.text.FontData;
+
+class AssetManagerTest {
+
+    // decodes block until released, so requests can be caught while pending
+    private static class BlockingLoader implements AssetLoader<String, String> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> discarded = new CopyOnWriteArrayList<>();
+        private final boolean interruptible;
+
+        private BlockingLoader(boolean interruptible) {
+            this.interruptible = interruptible;
+        }
+
+        @Override
+        public String decode(String path) throws Exception {
+            started.countDown();
+            while (true) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                    return path;
+                } catch (InterruptedException e) {
+                    if (interruptible)
+                        throw e;
+                }
+            }
+        }
+
+        @Override
+        public String upload(String path, String data) {
+            return "uploaded " + data;
+        }
+
+        @Override
+        public void discard(String data) {
+            discarded.add(data);
+        }
+    }
+
+    // the repository ships no font, use one of the system if there is one
+    private static final Path SYSTEM_FONT = Paths.get("/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf");
+
+    // remembers the threads of both steps
+    private static class RecordingFontLoader extends FontLoader {
+        private volatile String decodeThread;
+        private volatile String uploadThread;
+
+        private RecordingFontLoader(float pixelHeight) {
+            super(pixelHeight);
+        }
+
+        @Override
+        public FontData decode(String path) {
+            decodeThread = Thread.currentThread().getName();
+            return super.decode(path);
+        }
+
+        @Override
+        public Font upload(String path, FontData data) {
+            uploadThread = Thread.currentThread().getName();
+            return super.upload(path, data);
+        }
+    }
+
+    @TempDir
+    Path temp;
+
+    @AfterEach
+    void tearDown() {
+        AssetManager.shutdown();
+        AssetManager.resetProgress();
+    }
+
+    private static void updateUntilDone(CompletableFuture<?> future) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!future.isDone() && System.nanoTime() < deadline) {
+            AssetManager.update();
+            Thread.yield();
+        }
+    }
+
+    @Test
+    void uploadsOnUpdate() {
+        BlockingLoader loader = new BlockingLoader(true);
+        loader.release.countDown();
+
+        CompletableFuture<String> future = AssetManager.load("a", loader);
+        updateUntilDone(future);
+
+        assertEquals("uploaded a", future.join());
+        assertTrue(AssetManager.isIdle());
+    }
+
+    @Test
+    void sameRequestIsShared() {
+        BlockingLoader loader = new BlockingLoader(true);
+
+        CompletableFuture<String> first = AssetManager.load("a", loader);
+        CompletableFuture<String> second = AssetManager.load("a", loader);
+        assertTrue(first == second);
+
+        loader.release.countDown();
+        updateUntilDone(first);
+        assertEquals("uploaded a", second.join());
+    }
+
+    @Test
+    void shutdownCancelsPendingRequests() {
+        BlockingLoader loader = new BlockingLoader(true);
+
+        // more requests than workers, so some are still queued
+        int count = Runtime.getRuntime().availableProcessors() + 2;
+        List<CompletableFuture<String>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(AssetManager.load("asset" + i, loader));
+        }
+
+        AssetManager.shutdown();
+
+        for (CompletableFuture<String> future : futures) {
+            assertTrue(future.isDone());
+            assertThrows(CancellationException.class, future::join);
+        }
+        assertTrue(AssetManager.isIdle());
+    }
+
+    @Test
+    void decodeFinishingAfterShutdownIsDiscarded() throws Exception {
+        BlockingLoader loader = new BlockingLoader(false);
+        CompletableFuture<String> future = AssetManager.load("late", loader);
+        assertTrue(loader.started.await(10, TimeUnit.SECONDS));
+
+        AssetManager.shutdown();
+        loader.release.countDown();
+
+        // the decode ignores the interrupt and still queues its result, which must not be uploaded
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (loader.discarded.isEmpty() && System.nanoTime() < deadline) {
+            AssetManager.update();
+            Thread.yield();
+        }
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(List.of("late"), loader.discarded);
+    }
+
+    @Test
+    void fontIsParsedOnAWorkerAndCreatedOnUpdate() {
+        assumeTrue(Files.isRegularFile(SYSTEM_FONT), "no system font to load");
+
+        RecordingFontLoader loader = new RecordingFontLoader(24);
+        CompletableFuture<Font> future = AssetManager.load(SYSTEM_FONT.toString(), loader);
+        updateUntilDone(future);
+
+        Font font = future.join();
+        try {
+            assertEquals(24, font.getPixelHeight());
+            assertTrue(font.getLineHeight() > 0);
+            assertTrue(font.getAdvance('A') > 0);
+            assertTrue(loader.decodeThread.startsWith("Vultr-Asset-"));
+            assertEquals(Thread.currentThread().getName(), loader.uploadThread);
+        } finally {
+            font.dispose();
+        }
+    }
+
+    @Test
+    void invalidFontFailsToLoad() throws IOException {
+        Path file = temp.resolve("broken.ttf");
+        Files.write(file, "not a font".repeat(10).getBytes(StandardCharsets.UTF_8));
+
+        CompletableFuture<Font> future = AssetManager.load(file.toString(), new FontLoader(24));
+        updateUntilDone(future);
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertTrue(e.getCause() instanceof FailedFontException);
+        assertEquals(1, AssetManager.getFailed());
+    }
+
+    @Test
+    void fontsAtOtherHeightsOrAtlasesAreSeparateRequests() {
+        FontAtlas atlas = new FontAtlas(64, 64, 16, 16);
+        try {
+            String key = new FontLoader(16).getKey("font.ttf");
+
+            assertEquals(key, new FontLoader(16).getKey("font.ttf"));
+            assertNotEquals(key, new FontLoader(32).getKey("font.ttf"));
+            assertNotEquals(key, new FontLoader(16, atlas).getKey("font.ttf"));
+            assertEquals(new FontLoader(16, atlas).getKey("font.ttf"), new FontLoader(16, atlas).getKey("font.ttf"));
+        } finally {
+            atlas.dispose();
+        }
+    }
+
+}
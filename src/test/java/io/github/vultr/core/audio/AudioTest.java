@@ -0,0 +1,81 @@
+package io.github.vultr.core.audio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.vultr.core.assets.SoundLoader;
+import io.github.vultr.core.exceptions.FailedAudioException;
+
+class AudioTest {
+
+    @AfterEach
+    void tearDown() {
+        Audio.destroy();
+    }
+
+    private static SoundData data() {
+        return SoundData.decode(new FakeDecoder(100));
+    }
+
+    @Test
+    void playingBeforeInitFails() {
+        FakeAudioBackend backend = new FakeAudioBackend();
+        SoundData data = data();
+        Sound sound = new Sound(backend, data);
+        data.free();
+
+        assertThrows(IllegalStateException.class, () -> Audio.play(sound, 1, 1, 0));
+        assertThrows(IllegalStateException.class, () -> Audio.play("missing.ogg"));
+    }
+
+    @Test
+    void loadingSoundsBeforeInitFails() {
+        SoundData data = data();
+
+        FailedAudioException e = assertThrows(FailedAudioException.class,
+                () -> SoundLoader.INSTANCE.upload("sound.ogg", data));
+        assertEquals("Audio has not been initialized", e.getMessage());
+        assertNull(data.getPcm());
+    }
+
+    @Test
+    void destroyDeletesSoundsAndVoices() {
+        FakeAudioBackend backend = new FakeAudioBackend();
+        Audio.init(backend, 4);
+
+        Sound sound = SoundLoader.INSTANCE.upload("sound.ogg", data());
+        assertTrue(Audio.play(sound, 1, 1, 0) != -1);
+
+        Audio.destroy();
+
+        assertFalse(Audio.isInitialized());
+        assertTrue(sound.isDisposed());
+        assertTrue(backend.sources.isEmpty());
+        assertTrue(backend.liveBuffers.isEmpty());
+    }
+
+    @Test
+    void initTwiceKeepsTheFirstBackend() {
+        FakeAudioBackend backend = new FakeAudioBackend();
+        FakeAudioBackend other = new FakeAudioBackend();
+        Audio.init(backend, 4);
+        Audio.init(other, 4);
+
+        Sound sound = SoundLoader.INSTANCE.upload("sound.ogg", data());
+        assertTrue(Audio.play(sound, 1, 1, 0) != -1);
+        assertTrue(other.sources.isEmpty());
+        assertTrue(other.liveBuffers.isEmpty());
+
+        Audio.destroy();
+
+        assertTrue(backend.sources.isEmpty());
+        assertTrue(backend.liveBuffers.isEmpty());
+    }
+
+}
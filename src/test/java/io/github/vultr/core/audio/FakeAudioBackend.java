@@ -0,0 +1,174 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the state of sources and buffers in memory, so the audio classes can be tested without a device.
+ * Sources only advance when a test plays their buffers through.
+ */
+class FakeAudioBackend implements AudioBackend {
+
+    static class Source {
+        int state = STATE_INITIAL;
+        int buffer;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        int processed;
+        float gain = 1;
+        float pitch = 1;
+        boolean looping;
+        int plays;
+    }
+
+    final Map<Integer, Source> sources = new HashMap<>();
+    final Set<Integer> liveBuffers = new HashSet<>();
+
+    // samples of every upload in order
+    final List<short[]> uploads = new ArrayList<>();
+
+    private int nextName = 1;
+
+    Source source(int source) {
+        Source state = sources.get(source);
+        if (state == null)
+            throw new IllegalArgumentException("Unknown source " + source);
+        return state;
+    }
+
+    /**
+     * Let a source finish playing its attached sound
+     */
+    void finish(int source) {
+        source(source).state = STATE_STOPPED;
+    }
+
+    /**
+     * Let a streaming source play through some of its queued buffers,
+     * it stops when it runs out of buffers
+     */
+    void playThrough(int source, int buffers) {
+        Source state = source(source);
+        state.processed = Math.min(state.queue.size(), state.processed + buffers);
+        if (state.processed == state.queue.size())
+            state.state = STATE_STOPPED;
+    }
+
+    @Override
+    public int genBuffer() {
+        int buffer = nextName++;
+        liveBuffers.add(buffer);
+        return buffer;
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        if (!liveBuffers.remove(buffer))
+            throw new IllegalStateException("Buffer " + buffer + " deleted twice");
+    }
+
+    @Override
+    public void bufferData(int buffer, int channels, ShortBuffer pcm, int sampleRate) {
+        short[] samples = new short[pcm.remaining()];
+        pcm.duplicate().get(samples);
+        uploads.add(samples);
+    }
+
+    @Override
+    public int genSource() {
+        int source = nextName++;
+        sources.put(source, new Source());
+        return source;
+    }
+
+    @Override
+    public void deleteSource(int source) {
+        if (sources.remove(source) == null)
+            throw new IllegalStateException("Source " + source + " deleted twice");
+    }
+
+    @Override
+    public void setBuffer(int source, int buffer) {
+        Source state = source(source);
+        state.buffer = buffer;
+        state.queue.clear();
+        state.processed = 0;
+    }
+
+    @Override
+    public void queueBuffer(int source, int buffer) {
+        source(source).queue.add(buffer);
+    }
+
+    @Override
+    public int unqueueBuffer(int source) {
+        Source state = source(source);
+        if (state.processed == 0)
+            throw new IllegalStateException("No processed buffer on source " + source);
+        state.processed--;
+        return state.queue.poll();
+    }
+
+    @Override
+    public int getQueuedBuffers(int source) {
+        return source(source).queue.size();
+    }
+
+    @Override
+    public int getProcessedBuffers(int source) {
+        return source(source).processed;
+    }
+
+    @Override
+    public void setGain(int source, float gain) {
+        source(source).gain = gain;
+    }
+
+    @Override
+    public void setPitch(int source, float pitch) {
+        source(source).pitch = pitch;
+    }
+
+    @Override
+    public void setLooping(int source, boolean looping) {
+        source(source).looping = looping;
+    }
+
+    @Override
+    public void setPosition(int source, float x, float y, float z) {
+        source(source);
+    }
+
+    @Override
+    public void play(int source) {
+        Source state = source(source);
+        state.state = STATE_PLAYING;
+        state.plays++;
+    }
+
+    @Override
+    public void pause(int source) {
+        Source state = source(source);
+        if (state.state == STATE_PLAYING)
+            state.state = STATE_PAUSED;
+    }
+
+    @Override
+    public void stop(int source) {
+        Source state = source(source);
+        state.state = STATE_STOPPED;
+        state.processed = state.queue.size();
+    }
+
+    @Override
+    public int getState(int source) {
+        return source(source).state;
+    }
+
+}
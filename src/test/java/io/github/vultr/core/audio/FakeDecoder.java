@@ -0,0 +1,55 @@
+package io.github.vultr.core.audio;
+
+import java.nio.ShortBuffer;
+
+/**
+ * A mono track whose samples count up from 0, so tests can see where a buffer starts
+ */
+class FakeDecoder implements PcmDecoder {
+
+    private final int frames;
+    private int position;
+
+    int rewinds;
+    boolean closed;
+
+    FakeDecoder(int frames) {
+        this.frames = frames;
+    }
+
+    @Override
+    public int getChannels() {
+        return 1;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return 48000;
+    }
+
+    @Override
+    public int getFrames() {
+        return frames;
+    }
+
+    @Override
+    public int read(ShortBuffer dest) {
+        int count = Math.min(dest.remaining(), frames - position);
+        for (int i = 0; i < count; i++) {
+            dest.put((short) (position++));
+        }
+        return count;
+    }
+
+    @Override
+    public void rewind() {
+        position = 0;
+        rewinds++;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+}
@@ -0,0 +1,163 @@
+package io.github.vultr.core.audio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MusicStreamTest {
+
+    private static final int BUFFER = MusicStream.BUFFER_FRAMES;
+
+    private FakeAudioBackend backend;
+    private MusicStream stream;
+    private int source;
+
+    @BeforeEach
+    void setUp() {
+        backend = new FakeAudioBackend();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null)
+            stream.dispose();
+    }
+
+    private MusicStream open(FakeDecoder decoder, boolean looping) {
+        stream = new MusicStream(backend, decoder, looping);
+        source = backend.sources.keySet().iterator().next();
+        return stream;
+    }
+
+    @Test
+    void playQueuesEveryBuffer() {
+        open(new FakeDecoder(BUFFER * 6), false).play();
+
+        assertEquals(MusicStream.BUFFER_COUNT, backend.getQueuedBuffers(source));
+        assertEquals(MusicStream.BUFFER_COUNT, backend.uploads.size());
+        assertEquals(AudioBackend.STATE_PLAYING, backend.getState(source));
+        assertTrue(stream.isPlaying());
+    }
+
+    @Test
+    void refillsProcessedBuffers() {
+        open(new FakeDecoder(BUFFER * 6), false).play();
+
+        backend.playThrough(source, 2);
+        assertTrue(stream.update());
+
+        assertEquals(MusicStream.BUFFER_COUNT, backend.getQueuedBuffers(source));
+        assertEquals(0, backend.getProcessedBuffers(source));
+        assertEquals(6, backend.uploads.size());
+
+        // the refills continue where the queued buffers ended
+        assertEquals((short) (BUFFER * 4), backend.uploads.get(4)[0]);
+        assertEquals((short) (BUFFER * 5), backend.uploads.get(5)[0]);
+        assertEquals(0, stream.getUnderruns());
+    }
+
+    @Test
+    void loopingRewindsInsideABuffer() {
+        FakeDecoder decoder = new FakeDecoder(BUFFER + 100);
+        open(decoder, true).play();
+
+        // the second buffer holds the end of the track and then its start
+        short[] second = backend.uploads.get(1);
+        assertEquals(BUFFER, second.length);
+        assertEquals((short) BUFFER, second[0]);
+        assertEquals(99, second[99] - second[0]);
+        assertEquals(0, second[100]);
+        assertTrue(decoder.rewinds >= 2);
+
+        for (int i = 0; i < 20; i++) {
+            backend.playThrough(source, 1);
+            assertTrue(stream.update());
+        }
+        assertTrue(stream.isPlaying());
+        assertEquals(MusicStream.BUFFER_COUNT, backend.getQueuedBuffers(source));
+        for (short[] upload : backend.uploads) {
+            assertEquals(BUFFER, upload.length);
+        }
+    }
+
+    @Test
+    void endsWhenTheTrackRunsOut() {
+        open(new FakeDecoder(BUFFER * 2 + 100), false).play();
+
+        // two full buffers and the rest of the track
+        assertEquals(3, backend.getQueuedBuffers(source));
+        assertEquals(100, backend.uploads.get(2).length);
+
+        backend.playThrough(source, 3);
+        assertFalse(stream.update());
+
+        assertFalse(stream.isPlaying());
+        assertEquals(0, backend.getQueuedBuffers(source));
+        assertEquals(3, backend.uploads.size());
+        assertEquals(0, stream.getUnderruns());
+    }
+
+    @Test
+    void restartsAfterAnUnderrun() {
+        open(new FakeDecoder(BUFFER * 20), false).play();
+        int plays = backend.source(source).plays;
+
+        // the source played everything before it was refilled
+        backend.playThrough(source, MusicStream.BUFFER_COUNT);
+        assertEquals(AudioBackend.STATE_STOPPED, backend.getState(source));
+
+        assertTrue(stream.update());
+
+        assertEquals(1, stream.getUnderruns());
+        assertEquals(plays + 1, backend.source(source).plays);
+        assertEquals(AudioBackend.STATE_PLAYING, backend.getState(source));
+        assertEquals(MusicStream.BUFFER_COUNT, backend.getQueuedBuffers(source));
+    }
+
+    @Test
+    void pausedStreamsAreNotRefilled() {
+        open(new FakeDecoder(BUFFER * 20), false).play();
+        stream.pause();
+
+        backend.playThrough(source, 2);
+        assertTrue(stream.update());
+        assertEquals(MusicStream.BUFFER_COUNT, backend.uploads.size());
+
+        stream.resume();
+        stream.update();
+        assertEquals(MusicStream.BUFFER_COUNT + 2, backend.uploads.size());
+    }
+
+    @Test
+    void disposeDeletesEverything() {
+        FakeDecoder decoder = new FakeDecoder(BUFFER * 20);
+        open(decoder, false).play();
+
+        stream.dispose();
+        stream = null;
+
+        assertTrue(backend.sources.isEmpty());
+        assertTrue(backend.liveBuffers.isEmpty());
+        assertTrue(decoder.closed);
+    }
+
+    @Test
+    void streamerDisposesItsStreams() {
+        FakeDecoder decoder = new FakeDecoder(BUFFER * 20);
+        AudioStreamer streamer = new AudioStreamer();
+        streamer.add(open(decoder, false));
+        stream.play();
+
+        streamer.disposeAll();
+        stream = null;
+
+        assertTrue(backend.sources.isEmpty());
+        assertTrue(backend.liveBuffers.isEmpty());
+        assertTrue(decoder.closed);
+    }
+
+}
@@ -0,0 +1,166 @@
+package io.github.vultr.core.audio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VoicePoolTest {
+
+    private FakeAudioBackend backend;
+    private Sound sound;
+
+    @BeforeEach
+    void setUp() {
+        backend = new FakeAudioBackend();
+
+        SoundData data = SoundData.decode(new FakeDecoder(100));
+        try {
+            sound = new Sound(backend, data);
+        } finally {
+            data.free();
+        }
+    }
+
+    @Test
+    void playsOnFreeVoices() {
+        VoicePool pool = new VoicePool(backend, 2);
+
+        int first = pool.play(sound);
+        int second = pool.play(sound, 0.5f, 2, 0);
+
+        assertNotEquals(first, second);
+        assertTrue(pool.isPlaying(first));
+        assertTrue(pool.isPlaying(second));
+        assertEquals(2, pool.getActiveCount());
+        assertEquals(0, pool.getStolen());
+
+        long playing = backend.sources.values().stream()
+                .filter(source -> source.state == AudioBackend.STATE_PLAYING && source.buffer == sound.getBuffer())
+                .count();
+        assertEquals(2, playing);
+    }
+
+    @Test
+    void stealsTheOldestVoiceOfTheLowestPriority() {
+        VoicePool pool = new VoicePool(backend, 3);
+
+        int important = pool.play(sound, 1, 1, 1);
+        int oldest = pool.play(sound, 1, 1, 0);
+        int newer = pool.play(sound, 1, 1, 0);
+
+        int stealing = pool.play(sound, 1, 1, 0);
+
+        assertNotEquals(-1, stealing);
+        assertFalse(pool.isPlaying(oldest));
+        assertTrue(pool.isPlaying(important));
+        assertTrue(pool.isPlaying(newer));
+        assertTrue(pool.isPlaying(stealing));
+        assertEquals(1, pool.getStolen());
+        assertEquals(3, pool.getActiveCount());
+    }
+
+    @Test
+    void higherPriorityStealsLowerPriority() {
+        VoicePool pool = new VoicePool(backend, 2);
+
+        int high = pool.play(sound, 1, 1, 5);
+        int low = pool.play(sound, 1, 1, 1);
+
+        int stealing = pool.play(sound, 1, 1, 3);
+
+        assertTrue(pool.isPlaying(high));
+        assertFalse(pool.isPlaying(low));
+        assertTrue(pool.isPlaying(stealing));
+    }
+
+    @Test
+    void dropsWhenEveryVoiceOutranksTheSound() {
+        VoicePool pool = new VoicePool(backend, 2);
+        int first = pool.play(sound, 1, 1, 5);
+        int second = pool.play(sound, 1, 1, 5);
+
+        assertEquals(-1, pool.play(sound, 1, 1, 4));
+
+        assertEquals(1, pool.getDropped());
+        assertEquals(0, pool.getStolen());
+        assertTrue(pool.isPlaying(first));
+        assertTrue(pool.isPlaying(second));
+    }
+
+    @Test
+    void finishedVoicesAreReusedBeforeStealing() {
+        VoicePool pool = new VoicePool(backend, 1);
+        int first = pool.play(sound, 1, 1, 5);
+        backend.sources.keySet().forEach(backend::finish);
+
+        int second = pool.play(sound, 1, 1, 0);
+
+        assertNotEquals(-1, second);
+        assertFalse(pool.isPlaying(first));
+        assertEquals(0, pool.getStolen());
+        assertEquals(0, pool.getDropped());
+    }
+
+    @Test
+    void staleHandlesDoNotAffectTheNewSound() {
+        VoicePool pool = new VoicePool(backend, 1);
+        int first = pool.play(sound);
+        int source = backend.sources.keySet().iterator().next();
+
+        backend.finish(source);
+        pool.update();
+        assertFalse(pool.isPlaying(first));
+        assertEquals(0, pool.getActiveCount());
+
+        // same source, new generation
+        int second = pool.play(sound);
+        assertNotEquals(first, second);
+        assertEquals(first & 0xff, second & 0xff);
+
+        pool.setGain(first, 0.25f);
+        pool.setPitch(first, 3);
+        pool.stop(first);
+
+        assertTrue(pool.isPlaying(second));
+        assertEquals(1, backend.source(source).gain);
+        assertEquals(1, backend.source(source).pitch);
+        assertEquals(AudioBackend.STATE_PLAYING, backend.getState(source));
+
+        pool.setGain(second, 0.25f);
+        assertEquals(0.25f, backend.source(source).gain);
+    }
+
+    @Test
+    void invalidHandlesAreIgnored() {
+        VoicePool pool = new VoicePool(backend, 2);
+
+        assertFalse(pool.isPlaying(-1));
+        assertFalse(pool.isPlaying(0xff));
+        pool.stop(-1);
+        pool.setGain(12345, 1);
+    }
+
+    @Test
+    void disposeDeletesTheSources() {
+        VoicePool pool = new VoicePool(backend, 4);
+        pool.play(sound);
+        assertEquals(4, backend.sources.size());
+
+        pool.dispose();
+
+        assertTrue(backend.sources.isEmpty());
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new VoicePool(backend, 0));
+        assertThrows(IllegalArgumentException.class, () -> new VoicePool(backend, VoicePool.MAX_VOICES + 1));
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.github.vultr.core.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SystemSchedulerTest {
+
+    private static final ComponentType A = ComponentType.floats("SchedulerA", "value");
+    private static final ComponentType B = ComponentType.floats("SchedulerB", "value");
+
+    private static class CountingSystem implements UpdateSystem {
+        private final ComponentType[] writes;
+        private final AtomicInteger runs = new AtomicInteger();
+        private volatile World lastWorld;
+        private volatile float lastDelta;
+
+        private CountingSystem(ComponentType... writes) {
+            this.writes = writes;
+        }
+
+        @Override
+        public ComponentType[] getWrites() {
+            return writes;
+        }
+
+        @Override
+        public void update(World world, float delta, SystemScheduler scheduler) {
+            lastWorld = world;
+            lastDelta = delta;
+            runs.incrementAndGet();
+        }
+    }
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void conflictingSystemsGetTheirOwnLayer() {
+        SystemScheduler scheduler = new SystemScheduler(pool)
+                .add(new CountingSystem(A))
+                .add(new CountingSystem(B))
+                .add(new CountingSystem(A))
+                .add(new CountingSystem());
+
+        assertEquals(2, scheduler.getLayerCount());
+
+        scheduler.add(new CountingSystem(A, B));
+        assertEquals(3, scheduler.getLayerCount());
+    }
+
+    @Test
+    void layersRunEveryFrame() {
+        World world = new World();
+        CountingSystem a = new CountingSystem(A);
+        CountingSystem b = new CountingSystem(B);
+        SystemScheduler scheduler = new SystemScheduler(pool).add(a).add(b);
+
+        // the layer tasks are reused, every frame has to run them again
+        for (int frame = 1; frame <= 100; frame++) {
+            scheduler.update(world, frame);
+            assertEquals(frame, a.runs.get());
+            assertEquals(frame, b.runs.get());
+            assertEquals(frame, b.lastDelta);
+        }
+        assertEquals(world, a.lastWorld);
+    }
+
+    @Test
+    void failingSystemDoesNotBreakLaterFrames() {
+        World world = new World();
+        AtomicInteger failures = new AtomicInteger();
+        CountingSystem other = new CountingSystem(B);
+        SystemScheduler scheduler = new SystemScheduler(pool)
+                .add(new UpdateSystem() {
+                    @Override
+                    public ComponentType[] getWrites() {
+                        return new ComponentType[] { A };
+                    }
+
+                    @Override
+                    public void update(World world, float delta, SystemScheduler scheduler) {
+                        if (failures.getAndIncrement() == 0)
+                            throw new IllegalStateException("first frame");
+                    }
+                })
+                .add(other);
+
+        // the other system of the layer may be cancelled in the failing frame
+        assertThrows(IllegalStateException.class, () -> scheduler.update(world, 1));
+        int runs = other.runs.get();
+
+        scheduler.update(world, 1);
+        assertEquals(2, failures.get());
+        assertEquals(runs + 1, other.runs.get());
+    }
+
+    @Test
+    void chunksCoverEveryRow() {
+        World world = new World();
+        for (int i = 0; i < 10_000; i++) {
+            world.create(A);
+        }
+        Query query = world.query(A);
+        SystemScheduler scheduler = new SystemScheduler(pool);
+
+        scheduler.forEachChunk(query, 1000, (archetype, start, end) -> {
+            float[] values = archetype.getFloats(A, 0);
+            for (int row = start; row < end; row++) {
+                values[row]++;
+            }
+        });
+
+        float[] values = query.getArchetype(0).getFloats(A, 0);
+        for (int row = 0; row < 10_000; row++) {
+            assertEquals(1, values[row]);
+        }
+    }
+
+}
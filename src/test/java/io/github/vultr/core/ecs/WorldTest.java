@@ -0,0 +1,80 @@
+package io.github.vultr.core.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WorldTest {
+
+    private static final ComponentType POSITION = ComponentType.floats("TestPosition", "x", "y");
+    private static final ComponentType HEALTH = ComponentType.ints("TestHealth", "value");
+
+    @Test
+    void destroyedHandleStaysDead() {
+        World world = new World();
+        int first = world.create(POSITION);
+        world.destroy(first);
+
+        int second = world.create(POSITION);
+        assertEquals(first & (World.MAX_ENTITIES - 1), second & (World.MAX_ENTITIES - 1));
+        assertFalse(world.isAlive(first));
+        assertTrue(world.isAlive(second));
+        assertThrows(IllegalArgumentException.class, () -> world.destroy(first));
+    }
+
+    @Test
+    void generationWrapsBeforeTheLastValue() {
+        World world = new World();
+        int maxGeneration = -1 >>> World.INDEX_BITS;
+
+        int entity = world.create(POSITION);
+        for (int i = 0; i < maxGeneration * 2; i++) {
+            assertNotEquals(maxGeneration, entity >>> World.INDEX_BITS);
+            world.destroy(entity);
+            entity = world.create(POSITION);
+        }
+        assertTrue(world.isAlive(entity));
+    }
+
+    @Test
+    void componentsSurviveMoves() {
+        World world = new World();
+        int a = world.create(POSITION);
+        int b = world.create(POSITION);
+        world.setFloat(a, POSITION, 0, 1);
+        world.setFloat(b, POSITION, 0, 2);
+
+        // a leaves the archetype, b is swapped into its row
+        world.add(a, HEALTH);
+        world.setInt(a, HEALTH, 0, 100);
+
+        assertEquals(1, world.getFloat(a, POSITION, 0));
+        assertEquals(2, world.getFloat(b, POSITION, 0));
+        assertEquals(100, world.getInt(a, HEALTH, 0));
+        assertFalse(world.has(b, HEALTH));
+
+        world.remove(a, HEALTH);
+        assertEquals(1, world.getFloat(a, POSITION, 0));
+        assertEquals(2, world.getEntityCount());
+    }
+
+    @Test
+    void queriesSeeNewArchetypes() {
+        World world = new World();
+        Query query = world.query(POSITION);
+
+        world.create(POSITION);
+        world.create(POSITION, HEALTH);
+        assertEquals(2, query.count());
+        assertEquals(2, query.getArchetypeCount());
+
+        world.clear();
+        assertEquals(0, query.count());
+        assertEquals(0, world.getEntityCount());
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.github.vultr.core.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InputEventQueueTest {
+
+    @Test
+    void roundsTheCapacityUpToAPowerOfTwo() {
+        assertEquals(8, new InputEventQueue(5).capacity());
+        assertEquals(8, new InputEventQueue(8).capacity());
+    }
+
+    @Test
+    void drainsEventsInOrder() {
+        InputEventQueue queue = new InputEventQueue(4);
+        queue.offer(InputEventQueue.KEY, 65, 1, 2, 0, 0);
+        queue.offer(InputEventQueue.MOUSE_MOVE, 0, 0, 0, 3.5, 4.5);
+
+        List<String> events = new ArrayList<>();
+        int drained = queue.drain((type, code, action, mods, x, y) ->
+                events.add(type + " " + code + " " + action + " " + mods + " " + x + " " + y));
+
+        assertEquals(2, drained);
+        assertEquals(List.of("0 65 1 2 0.0 0.0", "2 0 0 0 3.5 4.5"), events);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void dropsEventsWhenFull() {
+        InputEventQueue queue = new InputEventQueue(2);
+        assertTrue(queue.offer(InputEventQueue.KEY, 1, 1, 0, 0, 0));
+        assertTrue(queue.offer(InputEventQueue.KEY, 2, 1, 0, 0, 0));
+        assertFalse(queue.offer(InputEventQueue.KEY, 3, 1, 0, 0, 0));
+        assertEquals(1, queue.getDroppedEvents());
+
+        // drained slots can be reused
+        queue.drain((type, code, action, mods, x, y) -> {
+        });
+        assertTrue(queue.offer(InputEventQueue.KEY, 4, 1, 0, 0, 0));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void handsEventsToAnotherThreadWithoutLoss() throws InterruptedException {
+        InputEventQueue queue = new InputEventQueue(64);
+        int events = 20_000;
+        long end = System.nanoTime() + 10_000_000_000L;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < events && System.nanoTime() < end; i++) {
+                while (!queue.offer(InputEventQueue.KEY, i, 1, 0, i, 0) && System.nanoTime() < end) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        int[] next = { 0 };
+        while (next[0] < events && System.nanoTime() < end) {
+            int drained = queue.drain((type, code, action, mods, x, y) -> {
+                assertEquals(next[0], code);
+                assertEquals(next[0], x);
+                next[0]++;
+            });
+            if (drained == 0)
+                Thread.yield();
+        }
+        producer.join();
+
+        assertEquals(events, next[0]);
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.github.vultr.core.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.FixtureDef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PhysicsWorldTest {
+
+    private PhysicsWorld physics;
+    private final List<String> received = new ArrayList<>();
+
+    private int ground;
+    private int box;
+
+    @BeforeEach
+    void setUp() {
+        physics = new PhysicsWorld(0, -10);
+        physics.setContactHandler(event -> received.add(event.getType() + " " + event.getBodyA() + " " + event.getBodyB()));
+
+        ground = physics.addBody(body(BodyType.STATIC, 0, 0), box(10, 0.5f));
+        box = physics.addBody(body(BodyType.DYNAMIC, 0, 0.9f), box(0.5f, 0.5f));
+    }
+
+    private static BodyDef body(BodyType type, float x, float y) {
+        BodyDef definition = new BodyDef();
+        definition.type = type;
+        definition.position.set(x, y);
+        return definition;
+    }
+
+    private static FixtureDef box(float halfWidth, float halfHeight) {
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfWidth, halfHeight);
+
+        FixtureDef fixture = new FixtureDef();
+        fixture.shape = shape;
+        fixture.density = 1;
+        return fixture;
+    }
+
+    private void stepUntilContact() {
+        for (int i = 0; i < 60 && received.isEmpty(); i++) {
+            physics.step();
+        }
+        assertEquals(List.of("BEGIN " + ground + " " + box), received);
+        received.clear();
+    }
+
+    @Test
+    void contactsAreReportedAfterTheStep() {
+        stepUntilContact();
+
+        assertEquals(1, physics.getContactEventCount());
+        assertEquals(ContactEvent.Type.BEGIN, physics.getContactEvent(0).getType());
+        assertTrue(physics.getContactEvent(0).getNormalY() != 0);
+    }
+
+    @Test
+    void removingABodyEndsItsContactsRightAway() {
+        stepUntilContact();
+        int stepEvents = physics.getContactEventCount();
+
+        physics.removeBody(box);
+
+        assertEquals(List.of("END " + ground + " " + box), received);
+        assertEquals(stepEvents, physics.getContactEventCount());
+        assertEquals(1, physics.getBodyCount());
+
+        // the next step does not report the contact again
+        received.clear();
+        physics.step();
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void handlerCanRemoveBodies() {
+        physics.setContactHandler(event -> {
+            received.add(event.getType() + " " + event.getBodyA() + " " + event.getBodyB());
+            if (event.getType() == ContactEvent.Type.BEGIN)
+                physics.removeBody(event.getBodyB());
+        });
+
+        for (int i = 0; i < 60 && received.isEmpty(); i++) {
+            physics.step();
+        }
+
+        assertEquals(List.of("BEGIN " + ground + " " + box, "END " + ground + " " + box), received);
+        assertEquals(1, physics.getContactEventCount());
+    }
+
+    @Test
+    void freedSlotsAreReused() {
+        physics.removeBody(box);
+        int next = physics.addBody(body(BodyType.DYNAMIC, 5, 5), box(0.5f, 0.5f));
+
+        assertEquals(box, next);
+        assertEquals(5, physics.getX(next, 0));
+        assertEquals(5, physics.getX(next, 1));
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.github.vultr.core.profiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ProfilerTest {
+
+    @AfterEach
+    void disable() {
+        Profiler.disable();
+    }
+
+    @Test
+    void traceEscapesScopeNames() throws IOException {
+        int scope = Profiler.scope("load \"level\"\\1\nline\ttab\u0001");
+
+        Profiler.enable(4, 16);
+        Profiler.beginFrame();
+        Profiler.begin(scope);
+        Profiler.end();
+        Profiler.endFrame();
+
+        Path file = Files.createTempFile("trace", ".json");
+        try {
+            Profiler.writeChromeTrace(file);
+            String trace = Files.readString(file, StandardCharsets.UTF_8);
+
+            assertTrue(trace.contains("\"name\":\"load \\\"level\\\"\\\\1\\nline\\ttab\\u0001\""), trace);
+
+            // the only raw control characters are the line breaks between events
+            for (char c : trace.toCharArray()) {
+                assertTrue(c >= 0x20 || c == '\n', "raw control character " + (int) c);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void recordsNestedScopesOfAFrame() {
+        int outer = Profiler.scope("outer");
+        int inner = Profiler.scope("inner");
+
+        Profiler.enable(4, 16);
+        Profiler.beginFrame();
+        Profiler.begin(outer);
+        Profiler.begin(inner);
+        Profiler.end();
+        Profiler.end();
+        Profiler.endFrame();
+
+        assertEquals(1, Profiler.getFrameCount());
+        assertTrue(Profiler.getAverageScopeTime(outer) >= Profiler.getAverageScopeTime(inner));
+        assertTrue(Profiler.getAverageScopeTime(Profiler.FRAME) >= Profiler.getAverageScopeTime(outer));
+    }
+
+    @Test
+    void ignoresScopesWhenDisabled() {
+        int scope = Profiler.scope("disabled");
+
+        Profiler.enable(4, 16);
+        Profiler.disable();
+        Profiler.beginFrame();
+        Profiler.begin(scope);
+        Profiler.end();
+        Profiler.endFrame();
+
+        assertEquals(0, Profiler.getFrameCount());
+    }
+
+}
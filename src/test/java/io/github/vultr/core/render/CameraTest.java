@@ -0,0 +1,72 @@
+package io.github.vultr.core.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+class CameraTest {
+
+    @Test
+    void convertsBetweenScreenAndWorld() {
+        Camera camera = new Camera(800, 600).setPosition(100, 50).setZoom(2);
+
+        Vector2f world = camera.screenToWorld(800, 600, new Vector2f());
+        assertEquals(300, world.x, 1e-3f);
+        assertEquals(200, world.y, 1e-3f);
+
+        Vector2f screen = camera.worldToScreen(100, 50, new Vector2f());
+        assertEquals(400, screen.x, 1e-3f);
+        assertEquals(300, screen.y, 1e-3f);
+    }
+
+    @Test
+    void ignoresEmptyViewports() {
+        Camera camera = new Camera(800, 600);
+
+        // a minimized window reports a 0x0 framebuffer
+        camera.setViewport(0, 0);
+        camera.setViewport(-1, 600);
+        camera.setViewport(800, Float.NaN);
+
+        assertEquals(800, camera.getViewportWidth());
+        assertEquals(600, camera.getViewportHeight());
+        assertTrue(camera.getViewProjection().isFinite());
+
+        Vector4f bounds = camera.getVisibleBounds(new Vector4f());
+        assertEquals(-400, bounds.x, 1e-3f);
+        assertEquals(-300, bounds.y, 1e-3f);
+        assertEquals(400, bounds.z, 1e-3f);
+        assertEquals(300, bounds.w, 1e-3f);
+
+        Vector2f world = camera.screenToWorld(0, 0, new Vector2f());
+        assertTrue(Float.isFinite(world.x) && Float.isFinite(world.y));
+    }
+
+    @Test
+    void followsResizes() {
+        Camera camera = new Camera(800, 600);
+        camera.getViewProjection();
+
+        camera.setViewport(1920, 1080);
+
+        Vector4f bounds = camera.getVisibleBounds(new Vector4f());
+        assertEquals(1920, bounds.z - bounds.x, 1e-3f);
+        assertEquals(1080, bounds.w - bounds.y, 1e-3f);
+    }
+
+    @Test
+    void rejectsInvalidZoom() {
+        Camera camera = new Camera(800, 600);
+
+        assertThrows(IllegalArgumentException.class, () -> camera.setZoom(0));
+        assertThrows(IllegalArgumentException.class, () -> camera.setZoom(-1));
+        assertThrows(IllegalArgumentException.class, () -> camera.setZoom(Float.NaN));
+        assertThrows(IllegalArgumentException.class, () -> camera.setZoom(Float.POSITIVE_INFINITY));
+        assertEquals(1, camera.getZoom());
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.github.vultr.core.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CullerTest {
+
+    private final List<Sprite> drawn = new ArrayList<>();
+
+    private class Sprite implements Renderable {
+        private float x;
+        private float y;
+
+        private Sprite(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        public float getWidth() {
+            return 10;
+        }
+
+        public float getHeight() {
+            return 10;
+        }
+
+        public void draw(SpriteBatch batch) {
+            drawn.add(this);
+        }
+    }
+
+    private final Culler culler = new Culler(new SpatialGrid(0, 0, 1000, 1000, 100));
+
+    @Test
+    void drawsOnlyVisibleRenderablesInOrder() {
+        Sprite first = new Sprite(10, 10);
+        Sprite hidden = new Sprite(500, 500);
+        Sprite second = new Sprite(150, 20);
+        culler.add(first);
+        culler.add(hidden);
+        culler.add(second);
+
+        assertEquals(2, culler.draw(0, 0, 200, 200, null));
+
+        assertEquals(List.of(first, second), drawn);
+        assertEquals(2, culler.getSubmitted());
+        assertEquals(1, culler.getCulled());
+    }
+
+    @Test
+    void movedUpdatesTheBounds() {
+        Sprite sprite = new Sprite(500, 500);
+        int id = culler.add(sprite);
+        assertEquals(0, culler.draw(0, 0, 200, 200, null));
+
+        sprite.x = 50;
+        sprite.y = 50;
+        culler.moved(id);
+
+        assertEquals(1, culler.draw(0, 0, 200, 200, null));
+    }
+
+    @Test
+    void movedIgnoresUnknownIds() {
+        int id = culler.add(new Sprite(10, 10));
+        culler.remove(id);
+
+        culler.moved(id);
+        culler.moved(42);
+        culler.moved(-1);
+
+        assertEquals(0, culler.size());
+        assertEquals(0, culler.draw(0, 0, 1000, 1000, null));
+    }
+
+    @Test
+    void reusesRemovedIds() {
+        int first = culler.add(new Sprite(10, 10));
+        culler.add(new Sprite(20, 20));
+        culler.remove(first);
+        assertNull(culler.get(first));
+
+        Sprite sprite = new Sprite(30, 30);
+        assertEquals(first, culler.add(sprite));
+        assertSame(sprite, culler.get(first));
+        assertEquals(2, culler.size());
+    }
+
+}
@@ -0,0 +1,247 @@
+package io.github.vultr.core.render;
+
+import static org.lwjgl.opengl.GL33.GL_ALREADY_SIGNALED;
+import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link GLBackend} without a driver.
+ * Records the calls it receives and keeps just enough state to script the answers of the driver.
+ */
+class FakeGLBackend implements GLBackend {
+
+    final List<String> calls = new ArrayList<>();
+
+    private int nextName = 1;
+    private long nextSync = 1;
+
+    final Map<Integer, Integer> boundBuffers = new HashMap<>();
+    final Set<Integer> liveBuffers = new HashSet<>();
+    final Set<Long> liveSyncs = new HashSet<>();
+    final Set<Integer> liveVertexArrays = new HashSet<>();
+
+    int program;
+    int vertexArray;
+
+    // answers of the driver
+    boolean fenceSyncSupported = true;
+    final Deque<Integer> waitResults = new ArrayDeque<>();
+    boolean mapFails;
+    boolean contentsLost;
+    boolean queryResultAvailable = true;
+    long queryResult;
+
+    private void record(String call) {
+        calls.add(call);
+    }
+
+    /**
+     * Returns the recorded calls starting with a prefix
+     */
+    List<String> calls(String prefix) {
+        List<String> matching = new ArrayList<>();
+        for (String call : calls) {
+            if (call.startsWith(prefix))
+                matching.add(call);
+        }
+        return matching;
+    }
+
+    @Override
+    public void useProgram(int program) {
+        this.program = program;
+        record("useProgram " + program);
+    }
+
+    @Override
+    public void activeTexture(int unit) {
+        record("activeTexture " + unit);
+    }
+
+    @Override
+    public void bindTexture(int target, int texture) {
+        record("bindTexture " + texture);
+    }
+
+    @Override
+    public int genBuffer() {
+        int buffer = nextName++;
+        liveBuffers.add(buffer);
+        record("genBuffer " + buffer);
+        return buffer;
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        liveBuffers.remove(buffer);
+        record("deleteBuffer " + buffer);
+    }
+
+    @Override
+    public void bindBuffer(int target, int buffer) {
+        boundBuffers.put(target, buffer);
+    }
+
+    @Override
+    public int genVertexArray() {
+        int vertexArray = nextName++;
+        liveVertexArrays.add(vertexArray);
+        record("genVertexArray " + vertexArray);
+        return vertexArray;
+    }
+
+    @Override
+    public void deleteVertexArray(int vertexArray) {
+        liveVertexArrays.remove(vertexArray);
+        record("deleteVertexArray " + vertexArray);
+    }
+
+    @Override
+    public void bindVertexArray(int vertexArray) {
+        this.vertexArray = vertexArray;
+    }
+
+    @Override
+    public void vertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long offset) {
+        record("vertexAttribPointer " + index + " " + boundBuffers.get(GL_ARRAY_BUFFER) + " " + size + " " + stride + " " + offset);
+    }
+
+    @Override
+    public void enableVertexAttribArray(int index) {
+        record("enableVertexAttribArray " + index);
+    }
+
+    @Override
+    public void vertexAttribDivisor(int index, int divisor) {
+        record("vertexAttribDivisor " + index + " " + divisor);
+    }
+
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        record("bufferData " + boundBuffers.get(target) + " " + size);
+    }
+
+    @Override
+    public void bufferData(int target, FloatBuffer data, int usage) {
+        record("bufferData " + boundBuffers.get(target) + " " + (long) data.remaining() * Float.BYTES);
+    }
+
+    @Override
+    public void bufferData(int target, IntBuffer data, int usage) {
+        record("bufferData " + boundBuffers.get(target) + " " + (long) data.remaining() * Integer.BYTES);
+    }
+
+    @Override
+    public void bufferSubData(int target, long offset, FloatBuffer data) {
+        record("bufferSubData " + boundBuffers.get(target) + " " + offset + " " + (long) data.remaining() * Float.BYTES);
+    }
+
+    @Override
+    public void bufferSubData(int target, long offset, ByteBuffer data) {
+        record("bufferSubData " + boundBuffers.get(target) + " " + offset + " " + data.remaining());
+    }
+
+    @Override
+    public ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        record("map " + boundBuffers.get(target) + " " + offset + " " + length);
+        return mapFails ? null : ByteBuffer.allocate((int) length);
+    }
+
+    @Override
+    public boolean unmapBuffer(int target) {
+        record("unmap " + boundBuffers.get(target));
+        return !contentsLost;
+    }
+
+    @Override
+    public void texImage2D(int target, int level, int internalFormat, int width, int height,
+            int format, int type, ByteBuffer pixels) {
+        record("texImage2D " + width + "x" + height);
+    }
+
+    @Override
+    public void texSubImage2D(int target, int level, int x, int y, int width, int height,
+            int format, int type, ByteBuffer pixels) {
+        record("texSubImage2D " + x + "," + y + " " + width + "x" + height);
+    }
+
+    @Override
+    public void drawElements(int mode, int count, int type, long indices) {
+        record("drawElements " + count);
+    }
+
+    @Override
+    public void drawElementsInstanced(int mode, int count, int type, long indices, int instances) {
+        record("drawElementsInstanced " + vertexArray + " " + count + " " + instances);
+    }
+
+    @Override
+    public int genQuery() {
+        int query = nextName++;
+        record("genQuery " + query);
+        return query;
+    }
+
+    @Override
+    public void deleteQuery(int query) {
+        record("deleteQuery " + query);
+    }
+
+    @Override
+    public void beginQuery(int target, int query) {
+        record("beginQuery " + query);
+    }
+
+    @Override
+    public void endQuery(int target) {
+        record("endQuery");
+    }
+
+    @Override
+    public boolean isQueryResultAvailable(int query) {
+        return queryResultAvailable;
+    }
+
+    @Override
+    public long getQueryResult(int query) {
+        return queryResult;
+    }
+
+    @Override
+    public boolean isFenceSyncSupported() {
+        return fenceSyncSupported;
+    }
+
+    @Override
+    public long fenceSync() {
+        long sync = nextSync++;
+        liveSyncs.add(sync);
+        record("fenceSync " + sync);
+        return sync;
+    }
+
+    @Override
+    public int clientWaitSync(long sync, int flags, long timeout) {
+        record("clientWaitSync " + sync);
+        Integer result = waitResults.poll();
+        return result != null ? result : GL_ALREADY_SIGNALED;
+    }
+
+    @Override
+    public void deleteSync(long sync) {
+        liveSyncs.remove(sync);
+        record("deleteSync " + sync);
+    }
+
+}
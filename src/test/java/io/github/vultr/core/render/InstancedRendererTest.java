@@ -0,0 +1,116 @@
+package io.github.vultr.core.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstancedRendererTest {
+
+    private final GLBackend previous = RenderDevice.getBackend();
+
+    private FakeGLBackend gl;
+
+    @BeforeEach
+    void useFakeBackend() {
+        gl = new FakeGLBackend();
+        RenderDevice.setBackend(gl);
+        RenderDevice.getStats().reset();
+    }
+
+    @AfterEach
+    void restoreBackend() {
+        RenderDevice.setBackend(previous);
+        RenderDevice.getStats().reset();
+    }
+
+    private static InstancedRenderer renderer(int instances) {
+        InstancedRenderer renderer = new InstancedRenderer(100);
+        for (int i = 0; i < instances; i++) {
+            int instance = renderer.getBatch().add();
+            renderer.getBatch().setTransform(instance, i, 0, 1, 1, 0);
+        }
+        return renderer;
+    }
+
+    @Test
+    void initSetsUpPerInstanceAttributes() {
+        InstancedRenderer renderer = renderer(0);
+        renderer.init();
+
+        assertTrue(renderer.isInitialized());
+        assertEquals(3, gl.liveBuffers.size());
+        assertEquals(1, gl.liveVertexArrays.size());
+
+        // the quad advances per vertex, the instance data once per instance
+        assertEquals(8, gl.calls("enableVertexAttribArray").size());
+        assertEquals(List.of("vertexAttribDivisor 2 1", "vertexAttribDivisor 3 1", "vertexAttribDivisor 4 1",
+                "vertexAttribDivisor 5 1", "vertexAttribDivisor 6 1", "vertexAttribDivisor 7 1"),
+                gl.calls("vertexAttribDivisor"));
+
+        // the color starts after the 16 floats of the transform
+        int stride = InstanceBatch.INSTANCE_SIZE_BYTES;
+        assertTrue(gl.calls("vertexAttribPointer 6 ").get(0).endsWith(" 4 " + stride + " 64"));
+        assertEquals(0, gl.vertexArray);
+    }
+
+    @Test
+    void drawsAllInstancesWithOneCall() {
+        InstancedRenderer renderer = renderer(50);
+
+        assertEquals(50, renderer.drawInstances());
+
+        int vertexArray = gl.liveVertexArrays.iterator().next();
+        assertEquals(List.of("drawElementsInstanced " + vertexArray + " 6 50"), gl.calls("drawElementsInstanced"));
+
+        RenderDevice.endFrame();
+        assertEquals(1, RenderDevice.getStats().getDrawCalls());
+    }
+
+    @Test
+    void uploadsOnlyTheDirtyRange() {
+        InstancedRenderer renderer = renderer(50);
+
+        // everything added before init is uploaded once
+        assertEquals(50, renderer.upload());
+        assertEquals(0, renderer.upload());
+
+        renderer.getBatch().setColor(10, 1, 0, 0, 1);
+        renderer.getBatch().setColor(12, 1, 0, 0, 1);
+        gl.calls.clear();
+
+        assertEquals(3, renderer.upload());
+
+        int bytes = InstanceBatch.INSTANCE_SIZE_BYTES;
+        List<String> uploads = gl.calls("bufferSubData");
+        assertEquals(1, uploads.size());
+        assertTrue(uploads.get(0).endsWith(" " + 10 * bytes + " " + 3 * bytes));
+        assertFalse(renderer.getBatch().isDirty());
+    }
+
+    @Test
+    void emptyBatchIsNotDrawn() {
+        InstancedRenderer renderer = renderer(0);
+
+        assertEquals(0, renderer.drawInstances());
+        assertTrue(gl.calls("drawElementsInstanced").isEmpty());
+    }
+
+    @Test
+    void disposeDeletesEverything() {
+        InstancedRenderer renderer = renderer(5);
+        renderer.drawInstances();
+
+        renderer.dispose();
+
+        assertFalse(renderer.isInitialized());
+        assertTrue(gl.liveBuffers.isEmpty());
+        assertTrue(gl.liveVertexArrays.isEmpty());
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.github.vultr.core.render;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class QuadBatchTest {
+
+    @Test
+    void packsTheVerticesOfAQuad() {
+        QuadBatch batch = new QuadBatch(4);
+
+        assertTrue(batch.add(10, 20, 30, 40, 0.1f, 0.2f, 0.3f, 0.4f, 0.25f, 0.5f, 0.75f, 1, 7));
+
+        float[] expected = {
+                // bottom left, bottom right, top right, top left
+                10, 20, 0.1f, 0.2f, 0.3f, 0.4f, 0.25f, 0.5f, 0,
+                40, 20, 0.1f, 0.2f, 0.3f, 0.4f, 0.75f, 0.5f, 0,
+                40, 60, 0.1f, 0.2f, 0.3f, 0.4f, 0.75f, 1, 0,
+                10, 60, 0.1f, 0.2f, 0.3f, 0.4f, 0.25f, 1, 0
+        };
+        assertEquals(QuadBatch.QUAD_SIZE, batch.getVertexDataLength());
+        assertArrayEquals(expected, Arrays.copyOf(batch.getVertices(), batch.getVertexDataLength()));
+        assertEquals(QuadBatch.INDICES_PER_QUAD, batch.getIndexCount());
+    }
+
+    @Test
+    void appendsQuadsAfterEachOther() {
+        QuadBatch batch = new QuadBatch(4);
+        batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0);
+        batch.add(5, 6, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0);
+
+        assertEquals(2, batch.getQuadCount());
+        assertEquals(5, batch.getVertices()[QuadBatch.QUAD_SIZE + QuadBatch.POSITION_OFFSET]);
+        assertEquals(6, batch.getVertices()[QuadBatch.QUAD_SIZE + QuadBatch.POSITION_OFFSET + 1]);
+    }
+
+    @Test
+    void untexturedQuadsUseNoSlot() {
+        QuadBatch batch = new QuadBatch(1);
+        batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0);
+
+        for (int vertex = 0; vertex < QuadBatch.VERTICES_PER_QUAD; vertex++) {
+            assertEquals(QuadBatch.NO_TEXTURE,
+                    batch.getVertices()[vertex * QuadBatch.VERTEX_SIZE + QuadBatch.TEXTURE_SLOT_OFFSET]);
+        }
+        assertEquals(0, batch.getTextureCount());
+    }
+
+    @Test
+    void sharesSlotsBetweenQuadsOfTheSameTexture() {
+        QuadBatch batch = new QuadBatch(8);
+        batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 11);
+        batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 22);
+        batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 11);
+
+        assertEquals(2, batch.getTextureCount());
+        assertEquals(11, batch.getTextureId(0));
+        assertEquals(22, batch.getTextureId(1));
+        assertEquals(1, batch.getVertices()[QuadBatch.QUAD_SIZE + QuadBatch.TEXTURE_SLOT_OFFSET]);
+        assertEquals(0, batch.getVertices()[2 * QuadBatch.QUAD_SIZE + QuadBatch.TEXTURE_SLOT_OFFSET]);
+    }
+
+    @Test
+    void rejectsQuadsWhenFull() {
+        QuadBatch batch = new QuadBatch(2);
+        assertTrue(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0));
+        assertTrue(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0));
+
+        assertTrue(batch.isFull());
+        assertFalse(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0));
+        assertEquals(2, batch.getQuadCount());
+    }
+
+    @Test
+    void rejectsQuadsWhenTheTextureSlotsAreTaken() {
+        QuadBatch batch = new QuadBatch(100);
+        for (int i = 0; i < QuadBatch.MAX_TEXTURE_SLOTS; i++) {
+            assertTrue(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, i + 1));
+        }
+
+        assertFalse(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 100));
+        // known textures and untextured quads still fit
+        assertTrue(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 1));
+        assertTrue(batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 0));
+    }
+
+    @Test
+    void clearResetsQuadsAndTextures() {
+        QuadBatch batch = new QuadBatch(2);
+        batch.add(0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 1, 1, 5);
+        batch.clear();
+
+        assertTrue(batch.isEmpty());
+        assertEquals(0, batch.getTextureCount());
+        assertEquals(0, batch.getIndexCount());
+    }
+
+    @Test
+    void createsTwoTrianglesPerQuad() {
+        assertArrayEquals(new int[] { 0, 1, 2, 2, 3, 0, 4, 5, 6, 6, 7, 4 }, QuadBatch.createIndices(2));
+    }
+
+    @Test
+    void rejectsEmptyCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new QuadBatch(0));
+    }
+
+}
@@ -0,0 +1,145 @@
+package io.github.vultr.core.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL33.GL_DYNAMIC_DRAW;
+import static org.lwjgl.opengl.GL33.GL_RGBA;
+import static org.lwjgl.opengl.GL33.GL_RGBA8;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL33.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL33.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL33.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL33.GL_UNSIGNED_INT;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RenderStatsTest {
+
+    private final GLBackend previous = RenderDevice.getBackend();
+
+    private FakeGLBackend gl;
+
+    private RenderStats stats;
+
+    @BeforeEach
+    void useFakeBackend() {
+        gl = new FakeGLBackend();
+        RenderDevice.setBackend(gl);
+        stats = RenderDevice.getStats();
+        stats.reset();
+    }
+
+    @AfterEach
+    void restoreBackend() {
+        RenderDevice.setGpuTimingEnabled(false);
+        RenderDevice.setBackend(previous);
+        stats.reset();
+    }
+
+    @Test
+    void countsSubmissionsOfAFrame() {
+        RenderDevice.useProgram(3);
+        RenderDevice.bindTexture(2, GL_TEXTURE_2D, 7);
+        RenderDevice.bufferSubData(GL_ARRAY_BUFFER, 0, FloatBuffer.allocate(10));
+        RenderDevice.bufferSubData(GL_ARRAY_BUFFER, 0, ByteBuffer.allocate(6));
+        RenderDevice.drawElements(GL_TRIANGLES, 12, GL_UNSIGNED_INT, 0);
+        RenderDevice.drawElementsInstanced(GL_TRIANGLES, 6, GL_UNSIGNED_INT, 0, 1000);
+
+        // nothing is published before the frame ends
+        assertEquals(0, stats.getDrawCalls());
+
+        RenderDevice.endFrame();
+
+        assertEquals(2, stats.getDrawCalls());
+        assertEquals(12 + 6 * 1000, stats.getVertices());
+        assertEquals(2, stats.getBufferUploads());
+        assertEquals(10 * Float.BYTES + 6, stats.getUploadedBytes());
+        assertEquals(1, stats.getShaderBinds());
+        assertEquals(1, stats.getTextureBinds());
+        assertEquals(1, stats.getFrames());
+
+        assertEquals(List.of("useProgram 3", "activeTexture " + (GL_TEXTURE0 + 2), "bindTexture 7"),
+                gl.calls.subList(0, 3));
+    }
+
+    @Test
+    void startsEveryFrameFromZero() {
+        RenderDevice.drawElements(GL_TRIANGLES, 6, GL_UNSIGNED_INT, 0);
+        RenderDevice.endFrame();
+        RenderDevice.endFrame();
+
+        assertEquals(0, stats.getDrawCalls());
+        assertEquals(0, stats.getVertices());
+        assertEquals(2, stats.getFrames());
+    }
+
+    @Test
+    void unbindingIsNotCountedAsAShaderBind() {
+        RenderDevice.useProgram(3);
+        RenderDevice.unbindProgram();
+        RenderDevice.useProgram(0);
+        RenderDevice.endFrame();
+
+        assertEquals(1, stats.getShaderBinds());
+        assertEquals(0, gl.program);
+    }
+
+    @Test
+    void countsOnlyUploadsWithData() {
+        RenderDevice.bufferData(GL_ARRAY_BUFFER, 1024, GL_DYNAMIC_DRAW);
+        RenderDevice.texImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, 4, 4, GL_RGBA, GL_UNSIGNED_BYTE, null);
+        RenderDevice.texSubImage2D(GL_TEXTURE_2D, 0, 0, 0, 2, 2, GL_RGBA, GL_UNSIGNED_BYTE, ByteBuffer.allocate(16));
+        RenderDevice.endFrame();
+
+        assertEquals(1, stats.getBufferUploads());
+        assertEquals(16, stats.getUploadedBytes());
+    }
+
+    @Test
+    void gpuTimerReadsResultsBackWithoutWaiting() {
+        RenderDevice.setGpuTimingEnabled(true);
+        GpuTimer timer = new GpuTimer("pass", 2);
+        gl.queryResult = 5000;
+
+        // the first queries of the ring have no result to collect
+        for (int frame = 0; frame < 2; frame++) {
+            timer.begin();
+            timer.end();
+        }
+        assertEquals(0, timer.getSamples());
+
+        // a result that is not available yet skips the frame instead of waiting
+        gl.queryResultAvailable = false;
+        timer.begin();
+        timer.end();
+        assertEquals(0, timer.getSamples());
+        assertEquals(2, gl.calls("beginQuery").size());
+
+        gl.queryResultAvailable = true;
+        timer.begin();
+        timer.end();
+        assertEquals(1, timer.getSamples());
+        assertEquals(5000, timer.getLastNanos());
+        assertEquals(5000, timer.getAverageNanos());
+
+        timer.dispose();
+        assertEquals(2, gl.calls("deleteQuery").size());
+    }
+
+    @Test
+    void gpuTimerDoesNothingWhenDisabled() {
+        GpuTimer timer = new GpuTimer("pass");
+        timer.begin();
+        timer.end();
+
+        assertTrue(gl.calls.isEmpty());
+    }
+
+}
@@ -0,0 +1,242 @@
+package io.github.vultr.core.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.lwjgl.opengl.GL33.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL33.GL_CONDITION_SATISFIED;
+import static org.lwjgl.opengl.GL33.GL_TIMEOUT_EXPIRED;
+import static org.lwjgl.opengl.GL33.GL_WAIT_FAILED;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamBufferTest {
+
+    private final GLBackend previous = RenderDevice.getBackend();
+
+    private FakeGLBackend gl;
+
+    @BeforeEach
+    void useFakeBackend() {
+        gl = new FakeGLBackend();
+        RenderDevice.setBackend(gl);
+    }
+
+    @AfterEach
+    void restoreBackend() {
+        RenderDevice.setBackend(previous);
+        RenderDevice.getStats().reset();
+    }
+
+    private static long write(StreamBuffer buffer, int bytes) {
+        buffer.map(bytes);
+        return buffer.unmap();
+    }
+
+    // one frame writing a little into its region
+    private static void frame(StreamBuffer buffer) {
+        write(buffer, 16);
+        buffer.endFrame();
+    }
+
+    @Test
+    void alignsEveryAllocation() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256);
+
+        assertEquals(0, write(buffer, 10));
+        assertEquals(16, write(buffer, 20));
+        assertEquals(48, write(buffer, 5));
+        assertEquals(5, buffer.getMappedLength());
+        assertEquals(256 - 64, buffer.getRemaining());
+
+        assertEquals(List.of("map 1 0 10", "map 1 16 20", "map 1 48 5"), gl.calls("map"));
+    }
+
+    @Test
+    void movesToTheNextRegionWhenFull() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256);
+
+        assertEquals(0, write(buffer, 200));
+        assertTrue(gl.calls("fenceSync").isEmpty());
+
+        // 208 + 100 does not fit into the region anymore
+        assertEquals(256, write(buffer, 100));
+        assertEquals(1, buffer.getRegion());
+        assertEquals(List.of("fenceSync 1"), gl.calls("fenceSync"));
+
+        assertEquals(256 + 112, write(buffer, 144));
+        assertEquals(0, buffer.getRemaining());
+    }
+
+    @Test
+    void fencesEveryFinishedRegionAndDeletesItAfterTheWait() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256, 3, 16);
+
+        frame(buffer);
+        frame(buffer);
+        assertEquals(List.of("fenceSync 1", "fenceSync 2"), gl.calls("fenceSync"));
+        assertTrue(gl.calls("clientWaitSync").isEmpty());
+
+        // wrapping around to region 0 waits for its fence
+        frame(buffer);
+        assertEquals(0, buffer.getRegion());
+        assertEquals(List.of("clientWaitSync 1"), gl.calls("clientWaitSync"));
+        assertEquals(List.of("deleteSync 1"), gl.calls("deleteSync"));
+        assertEquals(2, gl.liveSyncs.size());
+
+        for (int i = 0; i < 30; i++) {
+            frame(buffer);
+        }
+        assertEquals(2, gl.liveSyncs.size());
+        assertEquals(33, gl.calls("fenceSync").size());
+        assertEquals(0, buffer.getStalls());
+        assertEquals(0, buffer.getOrphans());
+    }
+
+    @Test
+    void emptyFramesDoNotAdvance() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256);
+        buffer.init();
+
+        buffer.endFrame();
+        buffer.endFrame();
+
+        assertEquals(0, buffer.getRegion());
+        assertTrue(gl.calls("fenceSync").isEmpty());
+    }
+
+    @Test
+    void countsOneStallPerWait() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256, 2, 16);
+        frame(buffer);
+
+        // the GPU is still busy with region 0 for two timeouts
+        gl.waitResults.add(GL_TIMEOUT_EXPIRED);
+        gl.waitResults.add(GL_TIMEOUT_EXPIRED);
+        gl.waitResults.add(GL_CONDITION_SATISFIED);
+        frame(buffer);
+
+        assertEquals(3, gl.calls("clientWaitSync 1").size());
+        assertEquals(1, buffer.getStalls());
+        assertTrue(gl.calls("deleteSync").contains("deleteSync 1"));
+
+        // a fence signaled during the wait is a stall too
+        gl.waitResults.add(GL_CONDITION_SATISFIED);
+        frame(buffer);
+        assertEquals(2, buffer.getStalls());
+
+        // already signaled fences are not
+        frame(buffer);
+        assertEquals(2, buffer.getStalls());
+        assertTrue(buffer.isFenced());
+    }
+
+    @Test
+    void orphansWhenFencesAreNotSupported() {
+        gl.fenceSyncSupported = false;
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256, 3, 16);
+        buffer.init();
+        assertFalse(buffer.isFenced());
+
+        for (int i = 0; i < 9; i++) {
+            frame(buffer);
+        }
+
+        // the storage is replaced every time the ring wraps around
+        assertEquals(3, buffer.getOrphans());
+        assertEquals(4, gl.calls("bufferData " + buffer.getBufferId() + " 768").size());
+        assertTrue(gl.calls("fenceSync").isEmpty());
+        assertTrue(gl.calls("clientWaitSync").isEmpty());
+    }
+
+    @Test
+    void failedWaitFallsBackToOrphaning() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256, 3, 16);
+        frame(buffer);
+        frame(buffer);
+
+        gl.waitResults.add(GL_WAIT_FAILED);
+        frame(buffer);
+
+        assertFalse(buffer.isFenced());
+        assertEquals(0, buffer.getRegion());
+        assertEquals(1, buffer.getOrphans());
+        assertTrue(gl.liveSyncs.isEmpty());
+
+        // no more fences afterwards, the next wrap orphans again
+        for (int i = 0; i < 3; i++) {
+            frame(buffer);
+        }
+        assertEquals(3, gl.calls("fenceSync").size());
+        assertEquals(2, buffer.getOrphans());
+        assertEquals(0, buffer.getStalls());
+    }
+
+    @Test
+    void mapAfterDisposeCreatesANewBuffer() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256, 3, 16);
+        frame(buffer);
+        frame(buffer);
+        int first = buffer.getBufferId();
+
+        buffer.dispose();
+        assertEquals(0, buffer.getBufferId());
+        assertTrue(gl.liveBuffers.isEmpty());
+        assertTrue(gl.liveSyncs.isEmpty());
+
+        assertEquals(0, write(buffer, 32));
+        assertNotEquals(0, buffer.getBufferId());
+        assertNotEquals(first, buffer.getBufferId());
+        assertEquals(0, buffer.getRegion());
+        assertEquals(1, gl.liveBuffers.size());
+    }
+
+    @Test
+    void disposeUnmapsAMappedBuffer() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256);
+        buffer.map(64);
+        int id = buffer.getBufferId();
+
+        buffer.dispose();
+
+        assertFalse(buffer.isMapped());
+        assertEquals(List.of("unmap " + id), gl.calls("unmap"));
+        assertTrue(gl.liveBuffers.isEmpty());
+    }
+
+    @Test
+    void reportsMappingFailures() {
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256);
+
+        gl.mapFails = true;
+        assertThrows(IllegalStateException.class, () -> buffer.map(16));
+        assertFalse(buffer.isMapped());
+
+        gl.mapFails = false;
+        gl.contentsLost = true;
+        buffer.map(16);
+        assertThrows(IllegalStateException.class, buffer::unmap);
+        assertFalse(buffer.isMapped());
+    }
+
+    @Test
+    void rejectsInvalidUse() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamBuffer(GL_ARRAY_BUFFER, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StreamBuffer(GL_ARRAY_BUFFER, 256, 3, 12));
+
+        StreamBuffer buffer = new StreamBuffer(GL_ARRAY_BUFFER, 256);
+        assertThrows(IllegalArgumentException.class, () -> buffer.map(257));
+        assertThrows(IllegalStateException.class, buffer::unmap);
+
+        buffer.map(16);
+        assertThrows(IllegalStateException.class, () -> buffer.map(16));
+        assertThrows(IllegalStateException.class, buffer::endFrame);
+    }
+
+}
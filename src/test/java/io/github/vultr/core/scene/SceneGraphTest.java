@@ -0,0 +1,170 @@
+package io.github.vultr.core.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SceneGraphTest {
+
+    private SceneGraph graph;
+
+    // root with two children, each with two children of their own
+    private int root;
+    private int left;
+    private int right;
+    private int[] leaves;
+
+    @BeforeEach
+    void createTree() {
+        graph = new SceneGraph();
+        root = graph.create();
+        left = graph.create(root);
+        right = graph.create(root);
+        leaves = new int[] { graph.create(left), graph.create(left), graph.create(right), graph.create(right) };
+    }
+
+    private Set<Integer> children(int node) {
+        Set<Integer> children = new HashSet<>();
+        for (int child = graph.getFirstChild(node); child != SceneGraph.NONE; child = graph.getNextSibling(child)) {
+            children.add(child);
+        }
+        return children;
+    }
+
+    @Test
+    void updatesOnlyDirtySubtrees() {
+        assertEquals(7, graph.update());
+        assertEquals(0, graph.update());
+
+        graph.setPosition(left, 1, 0);
+        assertEquals(3, graph.update());
+        assertEquals(3, graph.getUpdated());
+
+        graph.setRotation(leaves[3], 1);
+        graph.setScale(leaves[2], 2, 2);
+        assertEquals(2, graph.update());
+    }
+
+    @Test
+    void composesParentAndLocalTransforms() {
+        graph.setPosition(root, 10, 0);
+        graph.setRotation(root, (float) Math.PI / 2);
+        graph.setPosition(left, 5, 0);
+        graph.setScale(left, 2, 2);
+        graph.setPosition(leaves[0], 1, 0);
+        graph.update();
+
+        assertEquals(10, graph.getWorldX(left), 1e-5f);
+        assertEquals(5, graph.getWorldY(left), 1e-5f);
+        assertEquals(10, graph.getWorldX(leaves[0]), 1e-5f);
+        assertEquals(7, graph.getWorldY(leaves[0]), 1e-5f);
+    }
+
+    @Test
+    void childMarkedBeforeItsAncestorIsUpdatedOnce() {
+        graph.update();
+
+        graph.setPosition(leaves[0], 1, 0);
+        graph.setPosition(root, 10, 0);
+
+        assertEquals(7, graph.update());
+        assertEquals(11, graph.getWorldX(leaves[0]), 1e-5f);
+        assertEquals(10, graph.getWorldX(leaves[1]), 1e-5f);
+    }
+
+    @Test
+    void reparentingMovesTheSubtree() {
+        graph.setPosition(left, -100, 0);
+        graph.setPosition(right, 100, 0);
+        graph.update();
+        assertEquals(-100, graph.getWorldX(leaves[0]), 1e-5f);
+
+        graph.setParent(leaves[0], right);
+        assertEquals(1, graph.update());
+
+        assertEquals(right, graph.getParent(leaves[0]));
+        assertEquals(Set.of(leaves[1]), children(left));
+        assertEquals(Set.of(leaves[0], leaves[2], leaves[3]), children(right));
+        assertEquals(100, graph.getWorldX(leaves[0]), 1e-5f);
+
+        // moving a whole subtree to the root recomputes all of it
+        graph.setParent(right, SceneGraph.NONE);
+        assertEquals(4, graph.update());
+        assertEquals(SceneGraph.NONE, graph.getParent(right));
+        assertEquals(Set.of(left), children(root));
+    }
+
+    @Test
+    void rejectsCycles() {
+        assertThrows(IllegalArgumentException.class, () -> graph.setParent(root, leaves[0]));
+        assertThrows(IllegalArgumentException.class, () -> graph.setParent(left, left));
+
+        assertEquals(root, graph.getParent(left));
+        assertEquals(Set.of(left, right), children(root));
+    }
+
+    @Test
+    void destroyRemovesTheSubtree() {
+        graph.update();
+
+        graph.destroy(left);
+
+        assertEquals(4, graph.getSize());
+        assertFalse(graph.isAlive(left));
+        assertFalse(graph.isAlive(leaves[0]));
+        assertFalse(graph.isAlive(leaves[1]));
+        assertTrue(graph.isAlive(leaves[2]));
+        assertEquals(Set.of(right), children(root));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.destroy(left));
+        assertThrows(IllegalArgumentException.class, () -> graph.create(leaves[0]));
+        assertThrows(IllegalArgumentException.class, () -> graph.setParent(right, left));
+    }
+
+    @Test
+    void reusesFreedNodes() {
+        graph.update();
+        graph.setPosition(left, 50, 0);
+        graph.setPosition(leaves[0], 5, 0);
+
+        // the subtree dies while it is still waiting for its update
+        graph.destroy(left);
+
+        int node = graph.create(right);
+        int child = graph.create(node);
+        int other = graph.create();
+        assertEquals(Set.of(left, leaves[0], leaves[1]), Set.of(node, child, other));
+        assertEquals(7, graph.getSize());
+
+        // fresh nodes start with an identity transform
+        assertEquals(0, graph.getX(node));
+        assertEquals(1, graph.getScaleX(node));
+        assertTrue(children(node).contains(child));
+        assertTrue(children(child).isEmpty());
+
+        // every new node is updated exactly once
+        assertEquals(3, graph.update());
+        assertEquals(0, graph.getWorldX(child), 1e-5f);
+        assertEquals(0, graph.update());
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() {
+        int parent = root;
+        for (int i = 0; i < 200; i++) {
+            parent = graph.create(parent);
+            graph.setPosition(parent, 1, 0);
+        }
+
+        assertEquals(207, graph.update());
+        assertEquals(200, graph.getWorldX(parent), 1e-3f);
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.github.vultr.core.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class TripleBufferTest {
+
+    static class Snapshot {
+        long tick;
+        long check;
+    }
+
+    @Test
+    void readerSeesThePublishedBuffer() {
+        TripleBuffer<Snapshot> buffer = new TripleBuffer<>(Snapshot::new);
+
+        Snapshot written = buffer.getWriteBuffer();
+        written.tick = 1;
+        assertFalse(buffer.hasUpdate());
+
+        buffer.publish();
+
+        assertTrue(buffer.hasUpdate());
+        assertSame(written, buffer.acquire());
+        assertFalse(buffer.hasUpdate());
+        assertNotSame(written, buffer.getWriteBuffer());
+    }
+
+    @Test
+    void readerKeepsItsBufferWithoutPublish() {
+        TripleBuffer<Snapshot> buffer = new TripleBuffer<>(Snapshot::new);
+        buffer.getWriteBuffer().tick = 1;
+        buffer.publish();
+
+        Snapshot first = buffer.acquire();
+        assertSame(first, buffer.acquire());
+    }
+
+    @Test
+    void readerSkipsToTheLatestPublish() {
+        TripleBuffer<Snapshot> buffer = new TripleBuffer<>(Snapshot::new);
+        for (int tick = 1; tick <= 5; tick++) {
+            buffer.getWriteBuffer().tick = tick;
+            buffer.publish();
+        }
+
+        assertEquals(5, buffer.acquire().tick);
+    }
+
+    @Test
+    void writerNeverWritesTheBufferBeingRead() {
+        TripleBuffer<Snapshot> buffer = new TripleBuffer<>(Snapshot::new);
+
+        for (int i = 0; i < 20; i++) {
+            buffer.publish();
+            Snapshot read = buffer.acquire();
+            buffer.publish();
+            assertNotSame(read, buffer.getWriteBuffer());
+            buffer.publish();
+            assertNotSame(read, buffer.getWriteBuffer());
+        }
+    }
+
+    @Test
+    void handsConsistentSnapshotsToAnotherThread() throws InterruptedException {
+        TripleBuffer<Snapshot> buffer = new TripleBuffer<>(Snapshot::new);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            long tick = 0;
+            while (running.get()) {
+                tick++;
+                Snapshot snapshot = buffer.getWriteBuffer();
+                snapshot.tick = tick;
+                snapshot.check = tick * 31;
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        long lastTick = 0;
+        try {
+            long end = System.nanoTime() + 200_000_000L;
+            while (System.nanoTime() < end) {
+                Snapshot snapshot = buffer.acquire();
+                long tick = snapshot.tick;
+
+                // the writer never touches the acquired buffer
+                assertEquals(tick * 31, snapshot.check);
+                assertTrue(tick >= lastTick, "snapshots went back from " + lastTick + " to " + tick);
+                lastTick = tick;
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        assertTrue(lastTick > 0);
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.github.vultr.core.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class GlyphCacheTest {
+
+    @Test
+    void allocatesFreeCellsFirst() {
+        GlyphCache cache = new GlyphCache(2, 2, 16, 20);
+        int font = cache.registerFont();
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(cache.isFull());
+            assertEquals(i, cache.allocate(font, 'a' + i));
+        }
+
+        assertTrue(cache.isFull());
+        assertEquals(4, cache.getUsed());
+        assertEquals(0, cache.getEvictions());
+        assertEquals(16, cache.getCellX(3));
+        assertEquals(20, cache.getCellY(3));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedGlyph() {
+        GlyphCache cache = new GlyphCache(3, 1, 16, 16);
+        int font = cache.registerFont();
+        int a = cache.allocate(font, 'a');
+        int b = cache.allocate(font, 'b');
+        int c = cache.allocate(font, 'c');
+
+        // a becomes the most recent, b the least recent
+        assertEquals(a, cache.find(font, 'a'));
+
+        assertEquals(b, cache.allocate(font, 'd'));
+        assertEquals(GlyphCache.NONE, cache.find(font, 'b'));
+        assertEquals(1, cache.getEvictions());
+
+        // then c, then a
+        assertEquals(c, cache.allocate(font, 'e'));
+        assertEquals(a, cache.allocate(font, 'f'));
+        assertEquals(GlyphCache.NONE, cache.find(font, 'c'));
+        assertEquals(GlyphCache.NONE, cache.find(font, 'a'));
+        assertEquals(3, cache.getEvictions());
+    }
+
+    @Test
+    void evictionOrderFollowsEveryLookup() {
+        GlyphCache cache = new GlyphCache(4, 1, 16, 16);
+        int font = cache.registerFont();
+
+        char[] owners = new char[4];
+        for (char codepoint : "abcd".toCharArray()) {
+            owners[cache.allocate(font, codepoint)] = codepoint;
+        }
+
+        // touch in an order different from the allocation order
+        for (char codepoint : "cadb".toCharArray()) {
+            cache.find(font, codepoint);
+        }
+
+        // the returned cells tell which glyph was evicted, without touching the others
+        StringBuilder evicted = new StringBuilder();
+        for (char codepoint : "wxyz".toCharArray()) {
+            evicted.append(owners[cache.allocate(font, codepoint)]);
+        }
+        assertEquals("cadb", evicted.toString());
+        assertEquals(4, cache.getEvictions());
+    }
+
+    @Test
+    void fontsDoNotShareCells() {
+        GlyphCache cache = new GlyphCache(4, 1, 16, 16);
+        int regular = cache.registerFont();
+        int bold = cache.registerFont();
+
+        int a = cache.allocate(regular, 'a');
+        assertEquals(GlyphCache.NONE, cache.find(bold, 'a'));
+
+        int boldA = cache.allocate(bold, 'a');
+        assertNotEquals(a, boldA);
+        assertEquals(a, cache.find(regular, 'a'));
+        assertEquals(boldA, cache.find(bold, 'a'));
+    }
+
+    @Test
+    void supportsCodepointsOutsideTheBasicPlane() {
+        GlyphCache cache = new GlyphCache(2, 1, 16, 16);
+        int font = cache.registerFont();
+        int emoji = "😀".codePointAt(0);
+
+        int cell = cache.allocate(font, emoji);
+        assertEquals(cell, cache.find(font, emoji));
+        assertEquals(GlyphCache.NONE, cache.find(font, emoji + 1));
+        assertEquals(GlyphCache.NONE, cache.find(font, Character.MAX_CODE_POINT));
+    }
+
+    @Test
+    void glyphPlacementIsClampedAndReset() {
+        GlyphCache cache = new GlyphCache(1, 1, 16, 16);
+        int font = cache.registerFont();
+        int cell = cache.allocate(font, 'W');
+
+        cache.setGlyph(cell, -1, -3, 20, 12);
+        assertEquals(-1, cache.getOffsetX(cell));
+        assertEquals(-3, cache.getOffsetY(cell));
+        assertEquals(16, cache.getGlyphWidth(cell));
+        assertEquals(12, cache.getGlyphHeight(cell));
+
+        // the evicting glyph starts without placement
+        assertEquals(cell, cache.allocate(font, 'i'));
+        assertEquals(0, cache.getGlyphWidth(cell));
+        assertEquals(0, cache.getOffsetX(cell));
+    }
+
+}
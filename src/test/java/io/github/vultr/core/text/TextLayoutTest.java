@@ -0,0 +1,101 @@
+package io.github.vultr.core.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TextLayoutTest {
+
+    // every glyph is 10 wide, "AV" and "To" are kerned
+    private static final GlyphMetrics METRICS = new GlyphMetrics() {
+        @Override
+        public float getAdvance(int codepoint) {
+            return 10;
+        }
+
+        @Override
+        public float getKerning(int previous, int codepoint) {
+            if (previous == 'A' && codepoint == 'V')
+                return -3;
+            if (previous == 'T' && codepoint == 'o')
+                return -2;
+            return 0;
+        }
+
+        @Override
+        public float getLineHeight() {
+            return 24;
+        }
+    };
+
+    @Test
+    void placesGlyphsByAdvance() {
+        TextLayout layout = TextLayout.layout("abc", METRICS);
+
+        assertEquals(3, layout.getGlyphCount());
+        assertEquals(0, layout.getX(0));
+        assertEquals(10, layout.getX(1));
+        assertEquals(20, layout.getX(2));
+        assertEquals('c', layout.getCodepoint(2));
+        assertEquals(30, layout.getWidth());
+        assertEquals(24, layout.getHeight());
+        assertEquals(1, layout.getLineCount());
+    }
+
+    @Test
+    void appliesKerningBetweenPairs() {
+        TextLayout layout = TextLayout.layout("AVTo", METRICS);
+
+        assertEquals(0, layout.getX(0));
+        assertEquals(7, layout.getX(1));
+        assertEquals(17, layout.getX(2));
+        assertEquals(25, layout.getX(3));
+        assertEquals(35, layout.getWidth());
+    }
+
+    @Test
+    void breaksLinesDownwards() {
+        TextLayout layout = TextLayout.layout("ab\nc\n\nlong", METRICS);
+
+        assertEquals(7, layout.getGlyphCount());
+        assertEquals(4, layout.getLineCount());
+        assertEquals(96, layout.getHeight());
+        assertEquals(40, layout.getWidth());
+
+        assertEquals('c', layout.getCodepoint(2));
+        assertEquals(0, layout.getX(2));
+        assertEquals(-24, layout.getY(2));
+
+        // the empty line still moves the baseline
+        assertEquals('l', layout.getCodepoint(3));
+        assertEquals(-72, layout.getY(3));
+    }
+
+    @Test
+    void kerningDoesNotCrossLineBreaks() {
+        TextLayout layout = TextLayout.layout("A\nV", METRICS);
+
+        assertEquals(0, layout.getX(1));
+        assertEquals(-24, layout.getY(1));
+    }
+
+    @Test
+    void countsSurrogatePairsAsOneGlyph() {
+        String text = "a😀b";
+        TextLayout layout = TextLayout.layout(text, METRICS);
+
+        assertEquals(3, layout.getGlyphCount());
+        assertEquals(text.codePointAt(1), layout.getCodepoint(1));
+        assertEquals(20, layout.getX(2));
+    }
+
+    @Test
+    void emptyText() {
+        TextLayout layout = TextLayout.layout("", METRICS);
+
+        assertEquals(0, layout.getGlyphCount());
+        assertEquals(0, layout.getWidth());
+        assertEquals(1, layout.getLineCount());
+    }
+
+}
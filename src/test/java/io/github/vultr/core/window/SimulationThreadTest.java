@@ -0,0 +1,152 @@
+package io.github.vultr.core.window;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.vultr.core.listener.InputEventQueue;
+import io.github.vultr.core.scene.TripleBuffer;
+import io.github.vultr.utils.time.FixedTimestep;
+
+class SimulationThreadTest {
+
+    static class Snapshot {
+        long tick;
+        float x;
+        int keys;
+    }
+
+    /**
+     * Stands in for the render thread, it only reads the published snapshots
+     */
+    static class FakeRenderer {
+        private final TripleBuffer<Snapshot> snapshots;
+        long frames;
+        long lastTick;
+        float lastX;
+        int lastKeys;
+
+        FakeRenderer(TripleBuffer<Snapshot> snapshots) {
+            this.snapshots = snapshots;
+        }
+
+        void draw() {
+            Snapshot snapshot = snapshots.acquire();
+            if (snapshot.tick < lastTick)
+                throw new AssertionError("snapshots went back from " + lastTick + " to " + snapshot.tick);
+            if (snapshot.x != snapshot.tick * 0.5f)
+                throw new AssertionError("torn snapshot at tick " + snapshot.tick);
+            lastTick = snapshot.tick;
+            lastX = snapshot.x;
+            lastKeys = snapshot.keys;
+            frames++;
+        }
+    }
+
+    private SimulationThread simulation;
+
+    @AfterEach
+    void stop() {
+        if (simulation != null)
+            simulation.stop();
+    }
+
+    private static void await(String what, BooleanSupplier condition) throws InterruptedException {
+        long end = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > end)
+                throw new AssertionError("timed out waiting for " + what);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void rendererConsumesSnapshotsPublishedByTheSimulation() throws InterruptedException {
+        TripleBuffer<Snapshot> snapshots = new TripleBuffer<>(Snapshot::new);
+        InputEventQueue input = new InputEventQueue(16);
+        int[] keys = { 0 };
+        long[] tick = { 0 };
+
+        simulation = new SimulationThread(new FixedTimestep(1000), delta -> {
+            input.drain((type, code, action, mods, x, y) -> keys[0]++);
+
+            tick[0]++;
+            Snapshot snapshot = snapshots.getWriteBuffer();
+            snapshot.tick = tick[0];
+            snapshot.x = tick[0] * 0.5f;
+            snapshot.keys = keys[0];
+            snapshots.publish();
+        });
+
+        FakeRenderer renderer = new FakeRenderer(snapshots);
+        simulation.start();
+        assertTrue(simulation.isRunning());
+
+        // input recorded on the render thread reaches the simulation
+        for (int i = 0; i < 3; i++) {
+            input.offer(InputEventQueue.KEY, 65 + i, 1, 0, 0, 0);
+        }
+
+        await("the simulation to see the input", () -> {
+            renderer.draw();
+            return renderer.lastKeys == 3 && renderer.lastTick > 20;
+        });
+
+        simulation.stop();
+        simulation.checkFailure();
+        assertFalse(simulation.isRunning());
+
+        long updates = simulation.getUpdates();
+        Thread.sleep(20);
+        assertEquals(updates, simulation.getUpdates());
+
+        renderer.draw();
+        assertEquals(updates, renderer.lastTick);
+    }
+
+    @Test
+    void updatesRunWithTheFixedStep() throws InterruptedException {
+        float[] delta = { 0 };
+        simulation = new SimulationThread(new FixedTimestep(200), step -> delta[0] = step);
+        simulation.start();
+
+        await("an update", () -> simulation.getUpdates() > 0);
+        simulation.stop();
+
+        assertEquals(0.005f, delta[0], 1e-6f);
+        assertTrue(simulation.getAlpha() >= 0 && simulation.getAlpha() < 1);
+    }
+
+    @Test
+    void failuresAreRethrownOnTheCallingThread() throws InterruptedException {
+        AtomicInteger updates = new AtomicInteger();
+        simulation = new SimulationThread(new FixedTimestep(1000), step -> {
+            if (updates.incrementAndGet() == 3)
+                throw new IllegalStateException("update failed");
+        });
+        simulation.start();
+
+        await("the failure", () -> !simulation.isRunning());
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, simulation::checkFailure);
+        assertEquals("update failed", failure.getMessage());
+        assertEquals(3, updates.get());
+    }
+
+    @Test
+    void canNotBeStartedTwice() {
+        simulation = new SimulationThread(new FixedTimestep(60), step -> {
+        });
+        simulation.start();
+
+        assertThrows(IllegalStateException.class, simulation::start);
+    }
+
+}
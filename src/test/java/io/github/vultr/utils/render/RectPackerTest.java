@@ -0,0 +1,114 @@
+package io.github.vultr.utils.render;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RectPackerTest {
+
+    private final int[] position = new int[2];
+
+    @Test
+    void placesTheFirstRectangleAtTheOrigin() {
+        RectPacker packer = new RectPacker(64, 64);
+
+        assertTrue(packer.pack(10, 20, position));
+        assertArrayEquals(new int[] { 0, 0 }, position);
+    }
+
+    @Test
+    void fillsTheAreaWithEqualTilesWithoutGaps() {
+        RectPacker packer = new RectPacker(64, 64);
+
+        for (int i = 0; i < 16; i++) {
+            assertTrue(packer.pack(16, 16, position), "tile " + i);
+            assertEquals(0, position[0] % 16);
+            assertEquals(0, position[1] % 16);
+        }
+
+        assertEquals(1f, packer.getOccupancy());
+        assertFalse(packer.pack(1, 1, position));
+        assertEquals(16, packer.getPackedCount());
+    }
+
+    @Test
+    void placesRectanglesAsLowAsPossible() {
+        RectPacker packer = new RectPacker(100, 100);
+        packer.pack(60, 50, position);
+        packer.pack(40, 10, position);
+
+        assertArrayEquals(new int[] { 60, 0 }, position);
+
+        // fits next to the tall rectangle on top of the short one
+        assertTrue(packer.pack(40, 30, position));
+        assertArrayEquals(new int[] { 60, 10 }, position);
+    }
+
+    @Test
+    void rejectsRectanglesLargerThanTheArea() {
+        RectPacker packer = new RectPacker(32, 32);
+
+        assertFalse(packer.pack(33, 1, position));
+        assertFalse(packer.pack(1, 33, position));
+        assertTrue(packer.pack(32, 32, position));
+        assertThrows(IllegalArgumentException.class, () -> packer.pack(0, 4, position));
+    }
+
+    @Test
+    void packsRandomSpritesWithoutOverlapsAndDensely() {
+        RectPacker packer = new RectPacker(1024, 1024);
+        Random random = new Random(7);
+        List<int[]> packed = new ArrayList<>();
+
+        int failures = 0;
+        while (failures < 50) {
+            int width = 8 + random.nextInt(57);
+            int height = 8 + random.nextInt(57);
+            if (!packer.pack(width, height, position)) {
+                failures++;
+                continue;
+            }
+
+            assertTrue(position[0] >= 0 && position[0] + width <= 1024);
+            assertTrue(position[1] >= 0 && position[1] + height <= 1024);
+            packed.add(new int[] { position[0], position[1], width, height });
+        }
+
+        for (int i = 0; i < packed.size(); i++) {
+            for (int j = i + 1; j < packed.size(); j++) {
+                int[] a = packed.get(i);
+                int[] b = packed.get(j);
+                boolean overlap = a[0] < b[0] + b[2] && b[0] < a[0] + a[2]
+                        && a[1] < b[1] + b[3] && b[1] < a[1] + a[3];
+                assertFalse(overlap, "rectangles " + i + " and " + j + " overlap");
+            }
+        }
+
+        long area = 0;
+        for (int[] rect : packed) {
+            area += (long) rect[2] * rect[3];
+        }
+        assertEquals(area, packer.getUsedArea());
+        assertTrue(packer.getOccupancy() > 0.8f, "occupancy " + packer.getOccupancy());
+    }
+
+    @Test
+    void resetFreesTheWholeArea() {
+        RectPacker packer = new RectPacker(16, 16);
+        packer.pack(16, 16, position);
+        packer.reset();
+
+        assertEquals(0, packer.getUsedArea());
+        assertTrue(packer.pack(16, 16, position));
+        assertArrayEquals(new int[] { 0, 0 }, position);
+    }
+
+}
@@ -0,0 +1,142 @@
+package io.github.vultr.utils.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.vultr.core.exceptions.FailedShaderException;
+
+class ShaderPreprocessorTest {
+
+    private final Map<String, String> files = new HashMap<>();
+
+    private final ShaderPreprocessor preprocessor = new ShaderPreprocessor(files::get);
+
+    private List<String> lines(ShaderPreprocessor.Result result) {
+        return result.getSource().lines().toList();
+    }
+
+    @Test
+    void resolvesNestedIncludesRelativeToTheIncludingFile() {
+        files.put("shaders/main.glsl", "#version 330 core\n#include \"lib/a.glsl\"\nvoid main() {}\n");
+        files.put("shaders/lib/a.glsl", "#include \"b.glsl\"\nfloat a;\n");
+        files.put("shaders/lib/b.glsl", "float b;\n");
+
+        ShaderPreprocessor.Result result = preprocessor.process("shaders/main.glsl");
+
+        assertEquals(List.of(
+                "#version 330 core",
+                "#line 1",
+                "#line 1",
+                "float b;",
+                "#line 2",
+                "float a;",
+                "#line 3",
+                "void main() {}"), lines(result));
+        assertEquals(List.of("shaders/main.glsl", "shaders/lib/a.glsl", "shaders/lib/b.glsl"),
+                List.copyOf(result.getFiles()));
+    }
+
+    @Test
+    void includesEveryFileOnce() {
+        files.put("main.glsl", "#include \"common.glsl\"\n#include \"./common.glsl\"\nvoid main() {}\n");
+        files.put("common.glsl", "float common;\n");
+
+        List<String> lines = lines(preprocessor.process("main.glsl"));
+
+        assertEquals(1, lines.stream().filter(line -> line.equals("float common;")).count());
+        assertEquals(List.of(
+                "#line 1",
+                "float common;",
+                "#line 2",
+                "#line 3",
+                "void main() {}"), lines);
+    }
+
+    @Test
+    void rejectsIncludeCycles() {
+        files.put("a.glsl", "#include \"b.glsl\"\n");
+        files.put("b.glsl", "#include \"a.glsl\"\n");
+
+        FailedShaderException exception = assertThrows(FailedShaderException.class,
+                () -> preprocessor.process("a.glsl"));
+        assertTrue(exception.getMessage().contains("a.glsl -> b.glsl -> a.glsl"), exception.getMessage());
+    }
+
+    @Test
+    void rejectsMissingIncludes() {
+        files.put("main.glsl", "#include \"missing.glsl\"\n");
+
+        assertThrows(FailedShaderException.class, () -> preprocessor.process("main.glsl"));
+    }
+
+    @Test
+    void insertsDefinesAfterTheVersion() {
+        files.put("main.glsl", "#version 330 core\nout vec4 color;\n");
+
+        Map<String, String> defines = new LinkedHashMap<>();
+        defines.put("TEXTURED", "");
+        defines.put("LIGHTS", "4");
+
+        assertEquals(List.of(
+                "#version 330 core",
+                "#define LIGHTS 4",
+                "#define TEXTURED",
+                "#line 2",
+                "out vec4 color;"), lines(preprocessor.process("main.glsl", defines)));
+    }
+
+    @Test
+    void insertsDefinesAtTheTopWithoutVersion() {
+        files.put("main.glsl", "out vec4 color;\n");
+
+        assertEquals(List.of(
+                "#define TEXTURED",
+                "#line 1",
+                "out vec4 color;"), lines(preprocessor.process("main.glsl", Map.of("TEXTURED", ""))));
+    }
+
+    @Test
+    void ignoresVersionLinesOfIncludes() {
+        files.put("main.glsl", "#include \"lib.glsl\"\n#version 330 core\n");
+        files.put("lib.glsl", "#version 330 core\n");
+
+        List<String> lines = lines(preprocessor.process("main.glsl", Map.of("A", "1")));
+
+        // the define follows the version of the processed file
+        assertEquals(List.of(
+                "#line 1",
+                "#version 330 core",
+                "#line 2",
+                "#version 330 core",
+                "#define A 1",
+                "#line 3"), lines);
+    }
+
+    @Test
+    void definesGiveTheSameKeyInAnyOrder() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("B", "2");
+        first.put("A", "");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("A", "");
+        second.put("B", "2");
+
+        assertEquals("A,B=2", ShaderPreprocessor.defineKey(first));
+        assertEquals(ShaderPreprocessor.defineKey(first), ShaderPreprocessor.defineKey(second));
+        assertEquals("", ShaderPreprocessor.defineKey(Map.of()));
+    }
+
+    @Test
+    void normalizesPaths() {
+        assertEquals("shaders/lib/a.glsl", ShaderPreprocessor.normalize("shaders/./x/../lib/a.glsl"));
+    }
+
+}